@@ -3,6 +3,7 @@ package com.kopo.hanagreenworld.activity.controller;
 import com.kopo.hanagreenworld.activity.domain.Quiz;
 import com.kopo.hanagreenworld.activity.repository.QuizRepository;
 import com.kopo.hanagreenworld.activity.service.QuizGeneratorService;
+import com.kopo.hanagreenworld.common.cache.ReferenceDataCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -16,6 +17,7 @@ public class QuizScheduler {
 
     private final QuizGeneratorService quizGeneratorService;
     private final QuizRepository quizRepository;
+    private final ReferenceDataCache referenceDataCache;
     
     @Scheduled(cron = "0 0 0 * * *") // 매일 자정
     @Transactional
@@ -28,6 +30,7 @@ public class QuizScheduler {
             
             // DB에 저장
             quizRepository.save(newQuiz);
+            referenceDataCache.invalidate();
             
             log.info("New daily quiz generated successfully. Quiz ID: {}", newQuiz.getId());
         } catch (Exception e) {
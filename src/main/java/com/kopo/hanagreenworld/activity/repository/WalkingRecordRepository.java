@@ -3,6 +3,7 @@ package com.kopo.hanagreenworld.activity.repository;
 import com.kopo.hanagreenworld.activity.domain.WalkingRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -53,4 +54,15 @@ public interface WalkingRecordRepository extends JpaRepository<WalkingRecord, Lo
     
     // 특정 회원의 최근 걷기 기록 (최대 5개)
     List<WalkingRecord> findTop5ByMember_MemberIdOrderByActivityDateDesc(Long memberId);
+
+    // 팀 멤버별 기간 걸음수 합계 (회원 ID, 합계) - 팀 내 걸음수 리더보드 재적재용
+    @Query("SELECT w.member.memberId, SUM(w.activityAmount) " +
+           "FROM WalkingRecord w " +
+           "JOIN MemberTeam mt ON w.member.memberId = mt.member.memberId " +
+           "WHERE mt.team.id = :teamId AND mt.isActive = true " +
+           "AND w.activityDate >= :start AND w.activityDate < :end " +
+           "GROUP BY w.member.memberId")
+    List<Object[]> sumStepsByTeamMembers(@Param("teamId") Long teamId,
+                                         @Param("start") LocalDateTime start,
+                                         @Param("end") LocalDateTime end);
 }
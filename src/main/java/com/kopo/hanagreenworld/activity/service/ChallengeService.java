@@ -7,13 +7,18 @@ import com.kopo.hanagreenworld.activity.dto.ChallengeParticipationRequest;
 import com.kopo.hanagreenworld.activity.dto.ChallengeParticipationResponse;
 import com.kopo.hanagreenworld.activity.repository.ChallengeRepository;
 import com.kopo.hanagreenworld.activity.repository.ChallengeRecordRepository;
+import com.kopo.hanagreenworld.common.cache.ReferenceDataCache;
 import com.kopo.hanagreenworld.common.exception.BusinessException;
 import com.kopo.hanagreenworld.common.exception.ErrorCode;
 import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.dto.TeamMembership;
 import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import com.kopo.hanagreenworld.member.service.TeamMembershipCacheService;
 import com.kopo.hanagreenworld.point.service.EcoSeedService;
 import com.kopo.hanagreenworld.point.dto.EcoSeedEarnRequest;
 import com.kopo.hanagreenworld.point.domain.PointCategory;
+import com.kopo.hanagreenworld.point.domain.TeamPointTransaction;
+import com.kopo.hanagreenworld.point.service.TeamPointLedgerService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,11 +36,14 @@ public class ChallengeService {
     private final ChallengeRecordRepository challengeRecordRepository;
     private final MemberRepository memberRepository;
     private final EcoSeedService ecoSeedService;
+    private final ReferenceDataCache referenceDataCache;
+    private final TeamPointLedgerService teamPointLedgerService;
+    private final TeamMembershipCacheService teamMembershipCacheService;
 
     @Transactional(readOnly = true)
     public List<ChallengeListResponse> getActiveChallenges() {
         Long memberId = getCurrentMemberId();
-        List<Challenge> challenges = challengeRepository.findByIsActiveTrue();
+        List<Challenge> challenges = referenceDataCache.getActiveChallenges();
         
         return challenges.stream()
                 .map(challenge -> {
@@ -48,7 +56,8 @@ public class ChallengeService {
 
     @Transactional(readOnly = true)
     public Challenge getChallengeById(Long challengeId) {
-        return challengeRepository.findById(challengeId)
+        return referenceDataCache.findActiveChallenge(challengeId)
+                .or(() -> challengeRepository.findById(challengeId))
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHALLENGE_NOT_FOUND));
     }
 
@@ -63,11 +72,16 @@ public class ChallengeService {
             throw new BusinessException(ErrorCode.CHALLENGE_ALREADY_PARTICIPATED_TODAY);
         }
 
+        // 팀 챌린지는 요청 값이 아닌 실제 소속 팀 기준
+        Long teamId = challenge.getRewardPolicy() == Challenge.ChallengeRewardPolicy.TEAM_SCORE
+                ? teamMembershipCacheService.getMembership(memberId).map(TeamMembership::getTeamId).orElse(null)
+                : request.getTeamId();
+
         // 챌린지 기록 생성
         ChallengeRecord record = ChallengeRecord.builder()
                 .challenge(challenge)
                 .member(member)
-                .teamId(request.getTeamId())
+                .teamId(teamId)
                 .imageUrl(request.getImageUrl())
                 .stepCount(request.getStepCount())
                 .verificationStatus("PENDING")
@@ -91,6 +105,16 @@ public class ChallengeService {
             record.approve(pointsAwarded, null, LocalDateTime.now());
         }
 
+        // 팀 점수 적립 (TEAM_SCORE 정책인 경우, 팀 일일 한도 초과분은 제외)
+        Integer teamScoreAwarded = null;
+        if (challenge.getRewardPolicy() == Challenge.ChallengeRewardPolicy.TEAM_SCORE
+                && teamId != null && challenge.getTeamScore() != null) {
+            teamScoreAwarded = teamPointLedgerService.credit(teamId, memberId, challenge.getTeamScore(),
+                    TeamPointTransaction.TeamPointCategory.TEAM_CHALLENGE,
+                    challenge.getTitle() + " 챌린지 참여로 팀 점수 적립");
+            record.approve(null, teamScoreAwarded, LocalDateTime.now());
+        }
+
         return ChallengeParticipationResponse.builder()
                 .challengeRecordId(savedRecord.getId())
                 .challengeTitle(challenge.getTitle())
@@ -99,7 +123,7 @@ public class ChallengeService {
                     "챌린지 참여가 완료되었습니다! " + pointsAwarded + "개의 원큐씨앗을 획득했습니다." :
                     "챌린지 참여가 완료되었습니다.")
                 .pointsAwarded(pointsAwarded)
-                .teamScoreAwarded(challenge.getRewardPolicy() == Challenge.ChallengeRewardPolicy.TEAM_SCORE ? challenge.getTeamScore() : null)
+                .teamScoreAwarded(teamScoreAwarded)
                 .build();
     }
 
@@ -9,6 +9,7 @@ import com.kopo.hanagreenworld.member.repository.MemberRepository;
 import com.kopo.hanagreenworld.point.service.EcoSeedService;
 import com.kopo.hanagreenworld.point.dto.EcoSeedEarnRequest;
 import com.kopo.hanagreenworld.point.domain.PointCategory;
+import com.kopo.hanagreenworld.common.cache.ReferenceDataCache;
 import com.kopo.hanagreenworld.common.exception.BusinessException;
 import com.kopo.hanagreenworld.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +29,7 @@ public class QuizService {
     private final MemberRepository memberRepository;
     private final EcoSeedService ecoSeedService;
     private final QuizGeneratorService quizGeneratorService;
+    private final ReferenceDataCache referenceDataCache;
 
     @Transactional(readOnly = true)
     public Quiz getDailyQuiz(Long memberId) {
@@ -40,11 +42,13 @@ public class QuizService {
         }
 
         // 랜덤 퀴즈 반환
-        return quizRepository.findRandomQuiz()
+        return referenceDataCache.findRandomQuiz()
                 .orElseGet(() -> {
                     // 퀴즈가 없으면 새로 생성
                     Quiz newQuiz = quizGeneratorService.generateEnvironmentQuiz();
-                    return quizRepository.save(newQuiz);
+                    Quiz savedQuiz = quizRepository.save(newQuiz);
+                    referenceDataCache.invalidate();
+                    return savedQuiz;
                 });
     }
 
@@ -69,7 +73,8 @@ public class QuizService {
         }
 
         // 퀴즈와 회원 정보 조회
-        Quiz quiz = quizRepository.findById(quizId)
+        Quiz quiz = referenceDataCache.findQuiz(quizId)
+                .or(() -> quizRepository.findById(quizId))
                 .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
@@ -8,6 +8,8 @@ import com.kopo.hanagreenworld.activity.dto.WalkingResponse;
 import com.kopo.hanagreenworld.activity.repository.WalkingRecordRepository;
 import com.kopo.hanagreenworld.member.domain.MemberProfile;
 import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
+import com.kopo.hanagreenworld.member.service.AchievementService;
+import com.kopo.hanagreenworld.member.service.TeamMemberLeaderboardService;
 import com.kopo.hanagreenworld.point.service.EcoSeedService;
 import com.kopo.hanagreenworld.point.dto.EcoSeedEarnRequest;
 import com.kopo.hanagreenworld.point.domain.PointCategory;
@@ -33,6 +35,8 @@ public class WalkingService {
     private final WalkingRecordRepository walkingRecordRepository;
     private final MemberProfileRepository memberProfileRepository;
     private final EcoSeedService ecoSeedService;
+    private final TeamMemberLeaderboardService teamMemberLeaderboardService;
+    private final AchievementService achievementService;
 
     // 걷기 측정 동의 상태 조회
     @Transactional(readOnly = true)
@@ -121,6 +125,8 @@ public class WalkingService {
                     .build();
 
             WalkingRecord savedRecord = walkingRecordRepository.save(walkingRecord);
+            teamMemberLeaderboardService.recordSteps(memberId, targetDate, request.getSteps());
+            achievementService.recordCarbon(memberId, carbonSaved);
 
             // 2단계: 포인트 적립 (실패 시 전체 롤백)
             EcoSeedEarnRequest pointRequest = EcoSeedEarnRequest.builder()
@@ -4,6 +4,7 @@ import com.kopo.hanagreenworld.activity.domain.Quiz;
 import com.kopo.hanagreenworld.activity.service.QuizGeneratorService;
 import com.kopo.hanagreenworld.activity.repository.QuizRepository;
 import com.kopo.hanagreenworld.admin.dto.QuizUpdateRequest;
+import com.kopo.hanagreenworld.common.cache.ReferenceDataCache;
 import com.kopo.hanagreenworld.common.exception.BusinessException;
 import com.kopo.hanagreenworld.common.exception.ErrorCode;
 import com.kopo.hanagreenworld.common.response.ApiResponse;
@@ -25,12 +26,14 @@ public class AdminQuizController {
 
     private final QuizGeneratorService quizGeneratorService;
     private final QuizRepository quizRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     @Operation(summary = "새 퀴즈 생성", description = "Gemini API를 사용하여 새로운 환경 퀴즈를 생성합니다.")
     @PostMapping("/generate")
     public ResponseEntity<ApiResponse<Quiz>> generateNewQuiz() {
         Quiz newQuiz = quizGeneratorService.generateEnvironmentQuiz();
         Quiz savedQuiz = quizRepository.save(newQuiz);
+        referenceDataCache.invalidate();
         return ResponseEntity.ok(ApiResponse.success(savedQuiz, "새로운 퀴즈가 생성되었습니다."));
     }
 
@@ -38,6 +41,7 @@ public class AdminQuizController {
     @DeleteMapping("/{quizId}")
     public ResponseEntity<ApiResponse<Void>> deleteQuiz(@PathVariable Long quizId) {
         quizRepository.deleteById(quizId);
+        referenceDataCache.invalidate();
         return ResponseEntity.ok(ApiResponse.success(null, "퀴즈가 삭제되었습니다."));
     }
 
@@ -58,6 +62,7 @@ public class AdminQuizController {
                 .build();
 
         Quiz savedQuiz = quizRepository.save(updatedQuiz);
+        referenceDataCache.invalidate();
         return ResponseEntity.ok(ApiResponse.success(savedQuiz, "퀴즈가 수정되었습니다."));
     }
 
@@ -0,0 +1,41 @@
+package com.kopo.hanagreenworld.admin.controller;
+
+import com.kopo.hanagreenworld.common.dto.WebSocketMetricsResponse;
+import com.kopo.hanagreenworld.common.response.ApiResponse;
+import com.kopo.hanagreenworld.common.websocket.WebSocketFlowControl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.Executor;
+
+@Tag(name = "Admin WebSocket Controller", description = "관리자용 WebSocket 상태 API")
+@RestController
+@RequestMapping("/admin/websocket")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminWebSocketController {
+
+    private final WebSocketFlowControl flowControl;
+    private final Executor inboundExecutor;
+    private final Executor outboundExecutor;
+
+    public AdminWebSocketController(WebSocketFlowControl flowControl,
+                                    @Qualifier("clientInboundChannelExecutor") Executor inboundExecutor,
+                                    @Qualifier("clientOutboundChannelExecutor") Executor outboundExecutor) {
+        this.flowControl = flowControl;
+        this.inboundExecutor = inboundExecutor;
+        this.outboundExecutor = outboundExecutor;
+    }
+
+    @Operation(summary = "WebSocket 송수신 지표", description = "채널 실행기 큐 깊이, 세션별 미전송 프레임, 폐기 프레임 수를 조회합니다.")
+    @GetMapping("/metrics")
+    public ResponseEntity<ApiResponse<WebSocketMetricsResponse>> getMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(
+                flowControl.snapshot(inboundExecutor, outboundExecutor), "WebSocket 지표 조회 성공"));
+    }
+}
@@ -1,16 +1,24 @@
 package com.kopo.hanagreenworld.chat.controller;
 
 import com.kopo.hanagreenworld.chat.dto.ChatMessageResponse;
+import com.kopo.hanagreenworld.chat.dto.ChatResyncResponse;
+import com.kopo.hanagreenworld.chat.dto.UnreadCountResponse;
+import com.kopo.hanagreenworld.chat.service.ChatReadStateService;
+import com.kopo.hanagreenworld.chat.service.ChatSearchService;
 import com.kopo.hanagreenworld.chat.service.TeamChatService;
+import com.kopo.hanagreenworld.common.exception.BusinessException;
+import com.kopo.hanagreenworld.common.exception.ErrorCode;
 import com.kopo.hanagreenworld.common.util.SecurityUtil;
-import com.kopo.hanagreenworld.member.domain.Member;
-import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import com.kopo.hanagreenworld.common.websocket.ChatPrincipal;
+import com.kopo.hanagreenworld.member.service.MemberDisplayCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -22,29 +30,46 @@ import java.util.List;
 public class TeamChatApiController {
 
     private final TeamChatService teamChatService;
-    private final MemberRepository memberRepository;
+    private final MemberDisplayCache memberDisplayCache;
+    private final ChatReadStateService chatReadStateService;
+    private final ChatSearchService chatSearchService;
+
+    /**
+     * 소속 팀별 안 읽은 메시지 수
+     */
+    @GetMapping("/chat/unread")
+    public ResponseEntity<List<UnreadCountResponse>> getUnreadCounts() {
+        return ResponseEntity.ok(chatReadStateService.getUnreadCounts(currentMemberId()));
+    }
+
+    /**
+     * 읽음 처리 (sequence 생략 시 최신 메시지까지)
+     */
+    @PostMapping("/{teamId}/messages/read")
+    public ResponseEntity<UnreadCountResponse> markRead(@PathVariable Long teamId,
+                                                        @RequestParam(required = false) Long sequence) {
+        return ResponseEntity.ok(chatReadStateService.markRead(currentMemberId(), teamId, sequence));
+    }
 
     /**
      * 팀 채팅 메시지 조회 (REST API)
      */
     @GetMapping("/{teamId}/messages")
-    public ResponseEntity<List<ChatMessageResponse>> getTeamMessages(@PathVariable Long teamId) {
+    public ResponseEntity<List<ChatMessageResponse>> getTeamMessages(@PathVariable Long teamId,
+                                                                     @RequestParam(required = false) Long before,
+                                                                     @RequestParam(required = false) Integer size) {
         try {
-            log.info("🚀 팀 메시지 조회 요청 시작: 팀 ID = {}", teamId);
-            
             // JWT에서 memberId 추출
-            log.info("🔐 SecurityUtil.getCurrentMemberId() 호출 시작");
             Long memberId = SecurityUtil.getCurrentMemberId();
-            log.info("🔐 SecurityUtil.getCurrentMemberId() 결과: {}", memberId);
             
             if (memberId == null) {
                 log.error("❌ 인증된 사용자 ID를 찾을 수 없습니다.");
                 return ResponseEntity.status(401).body(null);
             }
             
-            // Member 객체 조회
-            log.info("👤 Member 조회 시작: memberId = {}", memberId);
-            Member currentMember = memberRepository.findById(memberId)
+            // 회원 표시 정보 조회 (캐시)
+            ChatPrincipal currentMember = memberDisplayCache.get(memberId)
+                    .map(ChatPrincipal::of)
                     .orElse(null);
             
             if (currentMember == null) {
@@ -52,13 +77,10 @@ public class TeamChatApiController {
                 return ResponseEntity.status(401).body(null);
             }
             
-            log.info("✅ 현재 사용자: ID = {}, 이름 = {}", currentMember.getMemberId(), currentMember.getName());
-            
             // 팀 메시지 조회
-            log.info("📨 팀 메시지 조회 시작: teamId = {}, memberId = {}", teamId, memberId);
-            List<ChatMessageResponse> messages = teamChatService.getTeamMessages(teamId, currentMember);
+            List<ChatMessageResponse> messages = teamChatService.getTeamMessages(teamId, currentMember, before, size);
             
-            log.info("✅ 팀 메시지 조회 성공: 팀 ID = {}, 메시지 수 = {}", teamId, messages != null ? messages.size() : 0);
+            log.debug("팀 메시지 조회: 팀 ID = {}, 메시지 수 = {}", teamId, messages != null ? messages.size() : 0);
             return ResponseEntity.ok(messages);
             
         } catch (Exception e) {
@@ -67,4 +89,35 @@ public class TeamChatApiController {
             return ResponseEntity.status(500).body(null);
         }
     }
+
+    /**
+     * 누락 구간 재동기화 (after: 클라이언트가 마지막으로 받은 메시지 순번)
+     */
+    @GetMapping("/{teamId}/messages/resync")
+    public ResponseEntity<ChatResyncResponse> resync(@PathVariable Long teamId,
+                                                     @RequestParam(required = false) Long after) {
+        ChatPrincipal currentMember = memberDisplayCache.get(currentMemberId())
+                .map(ChatPrincipal::of)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        return ResponseEntity.ok(teamChatService.resync(teamId, currentMember, after));
+    }
+
+    /**
+     * 팀 채팅 검색 (최신순, before: 이전 페이지 마지막 메시지 ID)
+     */
+    @GetMapping("/{teamId}/messages/search")
+    public ResponseEntity<List<ChatMessageResponse>> searchMessages(@PathVariable Long teamId,
+                                                                    @RequestParam("q") String query,
+                                                                    @RequestParam(required = false) Long before,
+                                                                    @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(chatSearchService.search(teamId, currentMemberId(), query, before, size));
+    }
+
+    private Long currentMemberId() {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+        if (memberId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        return memberId;
+    }
 }
@@ -1,12 +1,13 @@
 package com.kopo.hanagreenworld.chat.controller;
 
 import com.kopo.hanagreenworld.chat.dto.ChatMessageRequest;
-import com.kopo.hanagreenworld.chat.dto.ChatMessageResponse;
-import com.kopo.hanagreenworld.chat.dto.PresenceEvent;
+import com.kopo.hanagreenworld.chat.dto.ChatResyncResponse;
+import com.kopo.hanagreenworld.chat.dto.ChatSendAck;
 import com.kopo.hanagreenworld.chat.service.TeamChatService;
-import com.kopo.hanagreenworld.common.util.SecurityUtil;
-import com.kopo.hanagreenworld.member.domain.Member;
-import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import com.kopo.hanagreenworld.common.exception.BusinessException;
+import com.kopo.hanagreenworld.common.exception.ErrorCode;
+import com.kopo.hanagreenworld.common.websocket.ChatPrincipal;
+import com.kopo.hanagreenworld.common.websocket.TeamTopicPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -14,9 +15,10 @@ import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 
-import java.security.Principal;
+import java.util.Map;
 
 @Slf4j
 @Controller
@@ -25,7 +27,7 @@ public class TeamChatController {
 
     private final TeamChatService teamChatService;
     private final SimpMessagingTemplate messagingTemplate;
-    private final MemberRepository memberRepository;
+    private final TeamTopicPublisher teamTopicPublisher;
 
     /**
      * 메시지 전송
@@ -35,75 +37,53 @@ public class TeamChatController {
                            @Payload ChatMessageRequest request,
                            SimpMessageHeaderAccessor headerAccessor) {
         try {
-            log.info("📨 메시지 전송 요청: 팀 ID = {}, 메시지 = {}", teamId, request.getMessageText());
-            log.info("📨 세션 ID: {}, 헤더: {}", headerAccessor.getSessionId(), headerAccessor.toMap());
-            
-            // WebSocket 세션에서 사용자 정보 추출
-            Member currentMember = getCurrentMemberFromSession(headerAccessor);
+            // WebSocket 세션에서 사용자 정보 추출 (CONNECT 시 만든 principal)
+            ChatPrincipal currentMember = getCurrentPrincipal(headerAccessor);
             if (currentMember == null) {
-                log.error("❌ 세션에서 사용자 정보를 찾을 수 없습니다. 세션 ID: {}", headerAccessor.getSessionId());
-                log.error("❌ 세션 속성: {}", headerAccessor.getSessionAttributes());
-                throw new RuntimeException("인증된 사용자 정보를 찾을 수 없습니다.");
+                throw new BusinessException(ErrorCode.UNAUTHORIZED);
             }
-            
-            log.info("✅ 메시지 전송자: ID = {}, 이름 = {}", currentMember.getMemberId(), currentMember.getName());
-            
-            // 메시지 전송 (사용자 정보를 직접 전달)
-            ChatMessageResponse response = teamChatService.sendMessage(request, currentMember);
-            
-            // 팀 채팅방에 브로드캐스트
-            String destination = "/topic/team/" + teamId;
-            log.info("📤 메시지 브로드캐스트: destination = {}, response = {}", destination, response);
-            messagingTemplate.convertAndSend(destination, response);
-            
-            log.info("✅ 메시지 전송 완료: 팀 ID = {}, 메시지 ID = {}", teamId, response.getMessageId());
-            
+
+            ChatSendAck ack = teamChatService.sendMessage(request, currentMember);
+
+            // 팀 채팅방에 브로드캐스트 (재전송 중복이면 생략)
+            if (!ack.isDuplicate()) {
+                teamTopicPublisher.publish(teamId, null, ack.getMessage());
+            }
+
+            // clientMessageId를 보낸 클라이언트에게만 전송 확인
+            if (ack.getClientMessageId() != null) {
+                messagingTemplate.convertAndSendToUser(currentMember.getName(), "/queue/chat.ack", ack);
+            }
+
+        } catch (BusinessException e) {
+            log.debug("메시지 전송 거부: 팀 ID = {}, 에러 = {}", teamId, e.getMessage());
+            sendError(headerAccessor, "메시지 전송에 실패했습니다: " + e.getMessage());
         } catch (Exception e) {
             log.error("메시지 전송 실패: 팀 ID = {}, 에러 = {}", teamId, e.getMessage(), e);
-            
-            // 에러 메시지를 발신자에게만 전송
-            String username = headerAccessor.getUser() != null ? 
-                headerAccessor.getUser().getName() : "unknown";
-            messagingTemplate.convertAndSendToUser(username, "/queue/errors", 
-                "메시지 전송에 실패했습니다: " + e.getMessage());
+            sendError(headerAccessor, "메시지 전송에 실패했습니다: " + e.getMessage());
         }
     }
 
     /**
-     * WebSocket 세션에서 현재 사용자 정보 추출
+     * WebSocket 세션에서 현재 사용자 principal 추출
      */
-    private Member getCurrentMemberFromSession(SimpMessageHeaderAccessor headerAccessor) {
-        try {
-            log.info("🔍 세션에서 사용자 정보 추출 시도: 세션 ID = {}", headerAccessor.getSessionId());
-            log.info("🔍 세션 속성 키들: {}", headerAccessor.getSessionAttributes().keySet());
-            
-            // 세션에서 저장된 사용자 정보 가져오기
-            Object memberObj = headerAccessor.getSessionAttributes().get("MEMBER");
-            log.info("🔍 MEMBER 객체: {}", memberObj != null ? memberObj.getClass().getName() : "null");
-            
-            if (memberObj instanceof Member) {
-                Member member = (Member) memberObj;
-                log.info("✅ 세션에서 Member 정보 추출 성공: ID = {}, 이름 = {}", member.getMemberId(), member.getName());
-                return member;
-            }
-            
-            // Principal에서 사용자 정보 가져오기
-            Principal principal = headerAccessor.getUser();
-            log.info("🔍 Principal 객체: {}", principal != null ? principal.getClass().getName() : "null");
-            
-            if (principal != null && principal instanceof org.springframework.security.core.userdetails.UserDetails) {
-                // Principal이 UserDetails인 경우 Member로 변환
-                // 이 경우는 일반적이지 않으므로 로그만 남김
-                log.warn("Principal이 UserDetails 타입입니다: {}", principal.getClass().getName());
-            }
-            
-            log.warn("❌ 세션에서 Member 정보를 찾을 수 없습니다. 세션 ID: {}", headerAccessor.getSessionId());
-            return null;
-            
-        } catch (Exception e) {
-            log.error("❌ 세션에서 사용자 정보 추출 중 오류 발생: {}", e.getMessage(), e);
-            return null;
+    private ChatPrincipal getCurrentPrincipal(SimpMessageHeaderAccessor headerAccessor) {
+        Map<String, Object> attributes = headerAccessor.getSessionAttributes();
+        if (attributes != null && attributes.get(ChatPrincipal.SESSION_ATTRIBUTE) instanceof ChatPrincipal principal) {
+            return principal;
+        }
+        if (headerAccessor.getUser() instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof ChatPrincipal principal) {
+            return principal;
         }
+        return null;
+    }
+
+    private void sendError(SimpMessageHeaderAccessor headerAccessor, String message) {
+        // 에러 메시지를 발신자에게만 전송
+        String username = headerAccessor.getUser() != null ? 
+            headerAccessor.getUser().getName() : "unknown";
+        messagingTemplate.convertAndSendToUser(username, "/queue/errors", message);
     }
 
     /**
@@ -113,25 +93,16 @@ public class TeamChatController {
     public void joinTeam(@DestinationVariable Long teamId, 
                         SimpMessageHeaderAccessor headerAccessor) {
         try {
-            log.info("팀 참여 요청: 팀 ID = {}", teamId);
-            
             // WebSocket 세션에서 사용자 정보 추출
-            Member currentMember = getCurrentMemberFromSession(headerAccessor);
+            ChatPrincipal currentMember = getCurrentPrincipal(headerAccessor);
             if (currentMember == null) {
-                log.error("세션에서 사용자 정보를 찾을 수 없습니다. 세션 ID: {}", headerAccessor.getSessionId());
-                throw new RuntimeException("인증된 사용자 정보를 찾을 수 없습니다.");
+                throw new BusinessException(ErrorCode.UNAUTHORIZED);
             }
             
-            // 팀 참여 처리 (사용자 정보를 직접 전달)
-            teamChatService.joinTeam(teamId, currentMember);
-            
-            // 참여 이벤트 생성
-            PresenceEvent joinEvent = PresenceEvent.join(teamId, currentMember.getMemberId(), currentMember.getName());
+            // 팀 참여 처리 (참여 알림은 접속 현황 서비스가 모아서 브로드캐스트)
+            teamChatService.joinTeam(teamId, currentMember, headerAccessor.getSessionId());
             
-            // 팀 채팅방에 참여 알림 브로드캐스트
-            messagingTemplate.convertAndSend("/topic/team/" + teamId + "/presence", joinEvent);
-            
-            log.info("팀 참여 완료: 팀 ID = {}, 사용자 = {}", teamId, currentMember.getName());
+            log.debug("팀 참여 완료: 팀 ID = {}, 사용자 = {}", teamId, currentMember.getDisplayName());
             
         } catch (Exception e) {
             log.error("팀 참여 실패: 팀 ID = {}, 에러 = {}", teamId, e.getMessage(), e);
@@ -146,22 +117,10 @@ public class TeamChatController {
     public void leaveTeam(@DestinationVariable Long teamId, 
                          SimpMessageHeaderAccessor headerAccessor) {
         try {
-            log.info("팀 떠나기 요청: 팀 ID = {}", teamId);
-            
-            // 현재 사용자 정보 가져오기
-            Member currentMember = SecurityUtil.getCurrentMember();
-            if (currentMember != null) {
-                // 팀 떠나기 처리
-                teamChatService.leaveTeam(teamId);
-                
-                // 떠나기 이벤트 생성
-                PresenceEvent leaveEvent = PresenceEvent.leave(teamId, currentMember.getMemberId(), currentMember.getName());
-                
-                // 팀 채팅방에 떠나기 알림 브로드캐스트
-                messagingTemplate.convertAndSend("/topic/team/" + teamId + "/presence", leaveEvent);
-                
-                log.info("팀 떠나기 완료: 팀 ID = {}, 사용자 = {}", teamId, currentMember.getName());
-            }
+            // 팀 떠나기 처리 (떠나기 알림은 접속 현황 서비스가 모아서 브로드캐스트)
+            teamChatService.leaveTeam(teamId, headerAccessor.getSessionId());
+
+            log.debug("팀 떠나기 완료: 팀 ID = {}, 세션 ID = {}", teamId, headerAccessor.getSessionId());
             
         } catch (Exception e) {
             log.error("팀 떠나기 실패: 팀 ID = {}, 에러 = {}", teamId, e.getMessage(), e);
@@ -174,21 +133,43 @@ public class TeamChatController {
     @MessageMapping("/chat.online.{teamId}")
     public void getOnlineUsers(@DestinationVariable Long teamId) {
         try {
-            log.info("온라인 사용자 목록 요청: 팀 ID = {}", teamId);
-            
             // 온라인 사용자 목록 조회
             var onlineUsers = teamChatService.getOnlineUsers(teamId);
             
             // 요청자에게 온라인 사용자 목록 전송
-            messagingTemplate.convertAndSend("/topic/team/" + teamId + "/online", onlineUsers);
+            teamTopicPublisher.publish(teamId, "/online", onlineUsers);
             
-            log.info("온라인 사용자 목록 전송 완료: 팀 ID = {}, 사용자 수 = {}", teamId, onlineUsers.size());
+            log.debug("온라인 사용자 목록 전송 완료: 팀 ID = {}, 사용자 수 = {}", teamId, onlineUsers.size());
             
         } catch (Exception e) {
             log.error("온라인 사용자 목록 조회 실패: 팀 ID = {}, 에러 = {}", teamId, e.getMessage(), e);
         }
     }
 
+    /**
+     * 누락 구간 재동기화 (재연결 후 마지막으로 받은 순번 전송, 결과는 요청자에게만)
+     */
+    @MessageMapping("/chat.resync.{teamId}")
+    public void resync(@DestinationVariable Long teamId,
+                       @Payload Long lastSequence,
+                       SimpMessageHeaderAccessor headerAccessor) {
+        String username = headerAccessor.getUser() != null ?
+            headerAccessor.getUser().getName() : "unknown";
+        try {
+            ChatPrincipal currentMember = getCurrentPrincipal(headerAccessor);
+            ChatResyncResponse response = teamChatService.resync(teamId, currentMember, lastSequence);
+            messagingTemplate.convertAndSendToUser(username, "/queue/chat.resync", response);
+
+            log.debug("재동기화 완료: 팀 ID = {}, 기준 순번 = {}, 메시지 수 = {}",
+                    teamId, lastSequence, response.getMessages().size());
+
+        } catch (Exception e) {
+            log.error("재동기화 실패: 팀 ID = {}, 에러 = {}", teamId, e.getMessage(), e);
+            messagingTemplate.convertAndSendToUser(username, "/queue/errors",
+                "메시지 재동기화에 실패했습니다: " + e.getMessage());
+        }
+    }
+
     /**
      * 메시지 삭제
      */
@@ -197,24 +178,17 @@ public class TeamChatController {
                              @Payload Long messageId,
                              SimpMessageHeaderAccessor headerAccessor) {
         try {
-            log.info("메시지 삭제 요청: 팀 ID = {}, 메시지 ID = {}", teamId, messageId);
-            
             // 메시지 삭제
-            teamChatService.deleteMessage(messageId);
+            teamChatService.deleteMessage(messageId, getCurrentPrincipal(headerAccessor));
             
             // 팀 채팅방에 삭제 알림 브로드캐스트
-            messagingTemplate.convertAndSend("/topic/team/" + teamId + "/delete", messageId);
+            teamTopicPublisher.publish(teamId, "/delete", messageId);
             
-            log.info("메시지 삭제 완료: 팀 ID = {}, 메시지 ID = {}", teamId, messageId);
+            log.debug("메시지 삭제 완료: 팀 ID = {}, 메시지 ID = {}", teamId, messageId);
             
         } catch (Exception e) {
             log.error("메시지 삭제 실패: 팀 ID = {}, 메시지 ID = {}, 에러 = {}", teamId, messageId, e.getMessage(), e);
-            
-            // 에러 메시지를 발신자에게만 전송
-            String username = headerAccessor.getUser() != null ? 
-                headerAccessor.getUser().getName() : "unknown";
-            messagingTemplate.convertAndSendToUser(username, "/queue/errors", 
-                "메시지 삭제에 실패했습니다: " + e.getMessage());
+            sendError(headerAccessor, "메시지 삭제에 실패했습니다: " + e.getMessage());
         }
     }
 }
@@ -13,15 +13,21 @@ import lombok.NoArgsConstructor;
     name = "team_chat_messages",
     indexes = {
         @Index(name = "idx_chat_team_created", columnList = "team_id, created_at"),
+        @Index(name = "idx_chat_team_seq", columnList = "team_id, team_seq"),
         @Index(name = "idx_chat_sender", columnList = "sender_id")
     }
 )
+/**
+ * 팀 채팅 메시지
+ *
+ * ID는 ChatMessageWriter가 Redis 시퀀스로 발급해 직접 INSERT 한다. (AUTO_INCREMENT와 섞이면 충돌하므로 생성기를 두지 않음)
+ * 새 메시지 행은 ChatMessageWriter로만 만들고, JPA로는 조회/수정만 한다.
+ */
 @Getter
 @NoArgsConstructor
 public class TeamChatMessage extends DateTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "message_id")
     private Long id;
 
@@ -46,8 +52,12 @@ public class TeamChatMessage extends DateTimeEntity {
     @Column(name = "redis_message_id")
     private String redisMessageId; // Redis에서의 메시지 ID
 
+    @Column(name = "team_seq")
+    private Long teamSeq; // 팀 내 메시지 순번 (Redis INCR)
+
     @Builder
-    public TeamChatMessage(Team team, Member sender, String messageText, MessageType messageType) {
+    public TeamChatMessage(Long id, Team team, Member sender, String messageText, MessageType messageType) {
+        this.id = id;
         this.team = team;
         this.sender = sender;
         this.messageText = messageText;
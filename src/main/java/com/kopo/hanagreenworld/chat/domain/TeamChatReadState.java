@@ -0,0 +1,37 @@
+package com.kopo.hanagreenworld.chat.domain;
+
+import jakarta.persistence.*;
+
+import com.kopo.hanagreenworld.common.domain.DateTimeEntity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 팀 채팅 읽음 위치 (Redis가 최신 값, 주기적으로 반영)
+ */
+@Entity
+@Table(
+    name = "team_chat_read_states",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_chat_read_state", columnNames = {"member_id", "team_id"})
+    }
+)
+@Getter
+@NoArgsConstructor
+public class TeamChatReadState extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "read_state_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(name = "last_read_seq", nullable = false)
+    private Long lastReadSeq = 0L; // 마지막으로 읽은 팀 메시지 순번
+}
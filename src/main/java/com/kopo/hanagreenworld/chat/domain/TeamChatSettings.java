@@ -11,7 +11,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "team_chat_settings")
+@Table(name = "team_chat_settings",
+       uniqueConstraints = @UniqueConstraint(name = "uk_team_chat_settings_team", columnNames = "team_id"))
 @Getter
 @NoArgsConstructor
 public class TeamChatSettings extends DateTimeEntity {
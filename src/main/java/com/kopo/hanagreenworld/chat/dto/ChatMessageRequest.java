@@ -18,6 +18,10 @@ public class ChatMessageRequest {
     private String messageText;
     
     private String messageType = "TEXT";
+
+    // 클라이언트가 생성한 메시지 ID (재전송 중복 제거용, 선택)
+    @Size(max = 64, message = "클라이언트 메시지 ID는 64자를 초과할 수 없습니다.")
+    private String clientMessageId;
     
     public ChatMessageRequest(Long teamId, String messageText, String messageType) {
         this.teamId = teamId;
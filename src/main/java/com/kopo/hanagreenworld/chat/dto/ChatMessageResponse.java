@@ -1,27 +1,36 @@
 package com.kopo.hanagreenworld.chat.dto;
 
 import com.kopo.hanagreenworld.chat.domain.TeamChatMessage;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.With;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class ChatMessageResponse {
     private String messageId;
     private Long teamId;
+    @With
+    private Long sequence; // 팀 내 메시지 순번 (누락 구간 재동기화 기준)
     private Long senderId;
     private String senderName;
     private String messageText;
     private String messageType;
     private LocalDateTime createdAt;
     private Boolean isDeleted;
+    private String clientMessageId; // 발신 클라이언트가 보낸 메시지 ID (낙관적 표시와 매칭용, 저장하지 않음)
 
     public static ChatMessageResponse from(TeamChatMessage message) {
         return ChatMessageResponse.builder()
                 .messageId(message.getId().toString())
                 .teamId(message.getTeam().getId())
+                .sequence(message.getTeamSeq())
                 .senderId(message.getSender().getMemberId())
                 .senderName(message.getSender().getName())
                 .messageText(message.getMessageText())
@@ -0,0 +1,16 @@
+package com.kopo.hanagreenworld.chat.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ChatResyncResponse {
+    private Long teamId;
+    private Long afterSequence;
+    private Long lastSequence; // 이번 응답이 실제로 덮은 마지막 순번 (삭제된 메시지 포함, 다음 요청 기준)
+    private List<ChatMessageResponse> messages; // 순번 오름차순
+    private Boolean complete; // false면 한도에 걸렸거나 중간에 빈 순번이 있음 -> lastSequence로 다시 요청
+}
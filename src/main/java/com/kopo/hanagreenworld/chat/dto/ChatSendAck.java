@@ -0,0 +1,23 @@
+package com.kopo.hanagreenworld.chat.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 메시지 전송 확인 (발신자에게만 전송)
+ *
+ * duplicate = true 이면 같은 clientMessageId로 이미 처리된 재전송이며, 저장/브로드캐스트 없이 원래 메시지 ID만 돌려준다.
+ */
+@Getter
+@Builder
+public class ChatSendAck {
+    private Long teamId;
+    private String clientMessageId;
+    private String messageId;
+    private Long sequence; // 중복 확인 응답에서는 null
+    private boolean duplicate;
+
+    @JsonIgnore
+    private ChatMessageResponse message; // 브로드캐스트할 메시지 (중복이면 null)
+}
@@ -0,0 +1,13 @@
+package com.kopo.hanagreenworld.chat.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class UnreadCountResponse {
+    private Long teamId;
+    private Long unreadCount;
+    private Long lastSequence;
+    private Long lastReadSequence;
+}
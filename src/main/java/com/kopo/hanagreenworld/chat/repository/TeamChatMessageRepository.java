@@ -4,6 +4,7 @@ import com.kopo.hanagreenworld.chat.domain.TeamChatMessage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,6 +21,22 @@ public interface TeamChatMessageRepository extends JpaRepository<TeamChatMessage
      */
     Page<TeamChatMessage> findByTeamIdAndIsDeletedFalseOrderByCreatedAtDesc(Long teamId, Pageable pageable);
     
+    /**
+     * 커서 이전 메시지 keyset 조회 (최신순, (team_id, created_at) 인덱스 범위 스캔 + LIMIT)
+     */
+    @Query("SELECT tcm FROM TeamChatMessage tcm JOIN FETCH tcm.sender " +
+           "WHERE tcm.team.id = :teamId " +
+           "AND tcm.isDeleted = false " +
+           "AND (tcm.createdAt < :cursorAt OR (tcm.createdAt = :cursorAt AND tcm.id < :cursorId)) " +
+           "ORDER BY tcm.createdAt DESC, tcm.id DESC")
+    List<TeamChatMessage> findOlderMessages(@Param("teamId") Long teamId,
+                                            @Param("cursorAt") LocalDateTime cursorAt,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable pageable);
+
+    @Query("SELECT tcm.createdAt FROM TeamChatMessage tcm WHERE tcm.id = :messageId")
+    Optional<LocalDateTime> findCreatedAtById(@Param("messageId") Long messageId);
+
     /**
      * 팀의 특정 시간 이후 메시지 조회
      */
@@ -38,17 +55,43 @@ public interface TeamChatMessageRepository extends JpaRepository<TeamChatMessage
            "AND tcm.isDeleted = false")
     Long countMessagesByTeamId(@Param("teamId") Long teamId);
     
+    /**
+     * 최대 메시지 ID (메시지 ID 시퀀스 초기화용)
+     */
+    @Query("SELECT MAX(tcm.id) FROM TeamChatMessage tcm")
+    Long findMaxId();
+
+    /**
+     * 팀의 마지막 메시지 순번 (Redis 순번 유실 시 하한값)
+     */
+    @Query("SELECT MAX(tcm.teamSeq) FROM TeamChatMessage tcm WHERE tcm.team.id = :teamId")
+    Long findMaxTeamSeqByTeamId(@Param("teamId") Long teamId);
+
+    /**
+     * 순번 이후 메시지 조회 (재동기화, (team_id, team_seq) 인덱스 범위 스캔)
+     * 삭제된 메시지도 포함한다. 전달은 하지 않지만 순번이 빈 구간인지 판단하는 데 쓴다.
+     */
+    @Query("SELECT tcm FROM TeamChatMessage tcm JOIN FETCH tcm.sender " +
+           "WHERE tcm.team.id = :teamId " +
+           "AND tcm.teamSeq > :afterSeq " +
+           "ORDER BY tcm.teamSeq ASC")
+    List<TeamChatMessage> findMessagesAfterSequence(@Param("teamId") Long teamId,
+                                                    @Param("afterSeq") Long afterSeq,
+                                                    Pageable pageable);
+
     /**
      * Redis 메시지 ID로 메시지 조회
      */
     Optional<TeamChatMessage> findByRedisMessageId(String redisMessageId);
     
     /**
-     * 팀의 오래된 메시지 삭제 (보관 기간 초과)
+     * 팀의 오래된 메시지 일괄 삭제 (보관 기간 초과)
+     * 대량 삭제는 잠금이 길어지므로 정기 정리는 ChatRetentionService의 구간 삭제를 사용한다.
      */
+    @Modifying
     @Query("DELETE FROM TeamChatMessage tcm " +
            "WHERE tcm.team.id = :teamId " +
            "AND tcm.createdAt < :cutoffDate")
-    void deleteOldMessagesByTeamId(@Param("teamId") Long teamId, @Param("cutoffDate") LocalDateTime cutoffDate);
+    int deleteOldMessagesByTeamId(@Param("teamId") Long teamId, @Param("cutoffDate") LocalDateTime cutoffDate);
 }
 
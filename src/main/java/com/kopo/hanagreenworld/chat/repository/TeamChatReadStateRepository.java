@@ -0,0 +1,21 @@
+package com.kopo.hanagreenworld.chat.repository;
+
+import com.kopo.hanagreenworld.chat.domain.TeamChatReadState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TeamChatReadStateRepository extends JpaRepository<TeamChatReadState, Long> {
+
+    Optional<TeamChatReadState> findByMemberIdAndTeamId(Long memberId, Long teamId);
+
+    /**
+     * 팀에서 가장 앞선 읽음 위치 (Redis 순번 유실 시 하한값)
+     */
+    @Query("SELECT MAX(rs.lastReadSeq) FROM TeamChatReadState rs WHERE rs.teamId = :teamId")
+    Long findMaxLastReadSeqByTeamId(@Param("teamId") Long teamId);
+}
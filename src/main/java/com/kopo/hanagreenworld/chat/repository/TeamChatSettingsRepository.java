@@ -2,8 +2,12 @@ package com.kopo.hanagreenworld.chat.repository;
 
 import com.kopo.hanagreenworld.chat.domain.TeamChatSettings;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -18,5 +22,31 @@ public interface TeamChatSettingsRepository extends JpaRepository<TeamChatSettin
      * 활성화된 채팅 설정만 조회
      */
     Optional<TeamChatSettings> findByTeamIdAndIsChatActiveTrue(Long teamId);
+
+    /**
+     * 메시지 통계 누적 반영 (마지막 메시지는 더 최신일 때만 갱신)
+     */
+    @Modifying
+    @Query("UPDATE TeamChatSettings s SET " +
+           "s.totalMessageCount = COALESCE(s.totalMessageCount, 0) + :delta, " +
+           "s.lastMessageId = CASE WHEN s.lastMessageAt IS NULL OR s.lastMessageAt <= :lastMessageAt " +
+           "THEN :lastMessageId ELSE s.lastMessageId END, " +
+           "s.lastMessageAt = CASE WHEN s.lastMessageAt IS NULL OR s.lastMessageAt <= :lastMessageAt " +
+           "THEN :lastMessageAt ELSE s.lastMessageAt END " +
+           "WHERE s.team.id = :teamId")
+    int addMessageStats(@Param("teamId") Long teamId, @Param("delta") long delta,
+                        @Param("lastMessageId") String lastMessageId,
+                        @Param("lastMessageAt") LocalDateTime lastMessageAt);
+
+    /**
+     * 기본 채팅 설정 생성 (이미 있으면 그대로 두는 upsert, team_id 유니크 키 기준)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO team_chat_settings " +
+                   "(team_id, is_chat_active, max_message_retention_days, daily_message_limit, total_message_count, created_at, modified_at) " +
+                   "VALUES (:teamId, true, 30, :dailyLimit, 0, NOW(), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE team_id = team_id",
+           nativeQuery = true)
+    int insertDefaultIfAbsent(@Param("teamId") Long teamId, @Param("dailyLimit") int dailyLimit);
 }
 
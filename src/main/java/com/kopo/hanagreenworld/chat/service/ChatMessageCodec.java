@@ -0,0 +1,39 @@
+package com.kopo.hanagreenworld.chat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kopo.hanagreenworld.chat.dto.ChatMessageResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 Redis 저장 형식 (JSON 문자열)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public String encode(ChatMessageResponse message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("채팅 메시지 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 역직렬화 실패 시 null
+     */
+    public ChatMessageResponse decode(String json) {
+        try {
+            return objectMapper.readValue(json, ChatMessageResponse.class);
+        } catch (JsonProcessingException e) {
+            log.warn("채팅 메시지 역직렬화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+}
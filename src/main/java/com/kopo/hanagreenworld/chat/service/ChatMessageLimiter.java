@@ -0,0 +1,177 @@
+package com.kopo.hanagreenworld.chat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kopo.hanagreenworld.chat.repository.TeamChatSettingsRepository;
+import com.kopo.hanagreenworld.common.exception.BusinessException;
+import com.kopo.hanagreenworld.common.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 팀 채팅 전송 한도와 통계
+ *
+ * - 회원별 순간 전송 한도(burst)와 팀별 일일 한도(TeamChatSettings.dailyMessageLimit)를 Redis INCR/TTL 카운터로 검사한다.
+ * - 팀 설정(채팅 활성 여부, 일일 한도)은 짧은 TTL 로컬 캐시로 읽어 전송마다 DB를 조회하지 않는다.
+ *   (설정을 바꾸는 경로가 아직 없으므로 따로 무효화하지 않으며, 직접 DB를 고치면 최대 TTL만큼 늦게 반영된다)
+ * - totalMessageCount/lastMessageAt은 LongAdder로 모아 두었다가 주기적으로 팀당 UPDATE 한 번으로 반영한다.
+ */
+@Slf4j
+@Component
+public class ChatMessageLimiter {
+
+    private static final String BURST_KEY = "chat:burst:%d";
+    private static final String DAILY_KEY = "chat:team:%d:daily:%s";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int DEFAULT_DAILY_LIMIT = 1000;
+    private static final Duration DAILY_COUNTER_TTL = Duration.ofDays(2);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TeamChatSettingsRepository settingsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Long, Limits> limitsCache;
+    private final Map<Long, TeamCounter> counters = new ConcurrentHashMap<>();
+    private final int burstLimit;
+    private final Duration burstWindow;
+
+    public ChatMessageLimiter(StringRedisTemplate stringRedisTemplate,
+                              TeamChatSettingsRepository settingsRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.chat.limit.burst-max-messages:20}") int burstLimit,
+                              @Value("${app.chat.limit.burst-window-seconds:10}") long burstWindowSeconds,
+                              @Value("${app.chat.limit.settings-ttl-seconds:60}") long settingsTtlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.settingsRepository = settingsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.burstLimit = burstLimit;
+        this.burstWindow = Duration.ofSeconds(burstWindowSeconds);
+        this.limitsCache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(settingsTtlSeconds))
+                .build();
+    }
+
+    /**
+     * 전송 가능 여부 확인 및 카운트 (한도 초과 시 BusinessException)
+     */
+    public void acquire(Long teamId, Long memberId) {
+        Limits limits = limitsCache.get(teamId, this::loadLimits);
+        if (!limits.isChatActive()) {
+            throw new BusinessException(ErrorCode.TEAM_CHAT_DISABLED);
+        }
+
+        // 날짜가 바뀐 직후에도 키가 남아 있도록 일일 카운터는 이틀 보관
+        String dailyKey = String.format(DAILY_KEY, teamId, LocalDate.now().format(DAY_FORMAT));
+        long[] counts = count(String.format(BURST_KEY, memberId), dailyKey);
+        if (counts[0] > burstLimit) {
+            throw new BusinessException(ErrorCode.CHAT_RATE_LIMITED);
+        }
+        if (counts[1] > limits.getDailyLimit()) {
+            throw new BusinessException(ErrorCode.DAILY_MESSAGE_LIMIT_EXCEEDED);
+        }
+    }
+
+    /**
+     * 전송 완료 기록 (메모리 누적, 주기적으로 DB 반영)
+     */
+    public void recordSent(Long teamId, String messageId, LocalDateTime sentAt) {
+        counters.computeIfAbsent(teamId, k -> new TeamCounter()).record(messageId, sentAt);
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.limit.stats-flush-ms:5000}")
+    public void flushStats() {
+        counters.forEach((teamId, counter) -> {
+            long delta = counter.count.sumThenReset();
+            if (delta == 0) {
+                return;
+            }
+            String lastMessageId = counter.lastMessageId;
+            LocalDateTime lastMessageAt = counter.lastMessageAt;
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (settingsRepository.addMessageStats(teamId, delta, lastMessageId, lastMessageAt) == 0) {
+                        // 여러 노드가 같은 팀 설정을 동시에 만들 수 있으므로 team_id 유니크 키 기준 upsert
+                        settingsRepository.insertDefaultIfAbsent(teamId, DEFAULT_DAILY_LIMIT);
+                        settingsRepository.addMessageStats(teamId, delta, lastMessageId, lastMessageAt);
+                    }
+                });
+            } catch (Exception e) {
+                // 다음 주기에 다시 반영
+                counter.count.add(delta);
+                log.warn("채팅 통계 반영 실패: 팀 ID = {}, 에러 = {}", teamId, e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushStats();
+    }
+
+    /**
+     * 회원 순간 카운터와 팀 일일 카운터를 한 번의 왕복으로 증가 (Redis 장애 시 통과)
+     */
+    private long[] count(String burstKey, String dailyKey) {
+        try {
+            List<?> result = stringRedisTemplate.execute(ChatRedisScripts.COUNT_SEND, List.of(burstKey, dailyKey),
+                    Integer.toString(burstLimit),
+                    Long.toString(burstWindow.toMillis()),
+                    Long.toString(DAILY_COUNTER_TTL.toMillis()));
+            if (result == null || result.size() < 2) {
+                return new long[]{0L, 0L};
+            }
+            return new long[]{((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue()};
+        } catch (Exception e) {
+            log.warn("채팅 전송 한도 확인 실패: key = {}, 에러 = {}", burstKey, e.getMessage());
+            return new long[]{0L, 0L};
+        }
+    }
+
+    private Limits loadLimits(Long teamId) {
+        return settingsRepository.findByTeamId(teamId)
+                .map(settings -> new Limits(
+                        !Boolean.FALSE.equals(settings.getIsChatActive()),
+                        settings.getDailyMessageLimit() != null ? settings.getDailyMessageLimit() : DEFAULT_DAILY_LIMIT))
+                .orElseGet(() -> new Limits(true, DEFAULT_DAILY_LIMIT));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Limits {
+        private final boolean chatActive;
+        private final int dailyLimit;
+    }
+
+    private static class TeamCounter {
+        private final LongAdder count = new LongAdder();
+        private volatile String lastMessageId;
+        private volatile LocalDateTime lastMessageAt;
+
+        void record(String messageId, LocalDateTime sentAt) {
+            count.increment();
+            synchronized (this) {
+                if (lastMessageAt == null || !sentAt.isBefore(lastMessageAt)) {
+                    lastMessageAt = sentAt;
+                    lastMessageId = messageId;
+                }
+            }
+        }
+    }
+}
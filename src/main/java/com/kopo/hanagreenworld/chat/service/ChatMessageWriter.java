@@ -0,0 +1,340 @@
+package com.kopo.hanagreenworld.chat.service;
+
+import com.kopo.hanagreenworld.chat.dto.ChatMessageResponse;
+import com.kopo.hanagreenworld.chat.repository.TeamChatMessageRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 팀 채팅 메시지 write-behind 저장
+ *
+ * - 전송 확정 = Redis 대기 해시(chat:persist:pending)에 기록된 시점. 이후 바로 브로드캐스트한다.
+ *   대기 해시 기록은 TeamChatService가 전송 확정 스크립트(ChatRedisScripts.COMMIT_SEND)로 순번 발급과 함께 처리한다.
+ * - MySQL에는 노드 로컬 bounded 큐에서 모아 배치 INSERT 하고, 성공한 항목만 대기 해시에서 지운다.
+ * - 메시지 ID는 Redis 시퀀스로 미리 발급하므로 INSERT IGNORE로 재시도/재적재가 멱등하다.
+ *   반영 건수가 0인 행은 같은 메시지가 이미 저장된 경우에만 완료로 보고, ID 충돌이면 대기 해시에 남긴다.
+ * - 종료 시 큐를 비우고, 기동 시와 주기적으로 대기 해시에 남은 항목을 다시 적재한다. (다른 노드 몫 포함)
+ *   재적재는 Redis 잠금을 잡은 한 노드만 HSCAN으로 배치 크기씩 나눠 읽으며 수행한다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+
+    private static final String SEQUENCE_KEY = "chat:message:seq";
+    static final String PENDING_KEY = "chat:persist:pending";
+    private static final String REPLAY_LOCK_KEY = "chat:persist:replay:lock";
+    private static final Duration REPLAY_LOCK_TTL = Duration.ofMinutes(5);
+    private static final String SELECT_STORED_SQL =
+            "SELECT message_id, team_id, sender_id, team_seq FROM team_chat_messages WHERE message_id IN (%s)";
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO team_chat_messages " +
+            "(message_id, team_id, team_seq, sender_id, message_text, message_type, is_deleted, redis_message_id, created_at, modified_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // 시퀀스를 최소값 이상으로 끌어올림 (Redis 유실/초기화 대비)
+    private static final DefaultRedisScript<Long> RAISE_SEQUENCE = new DefaultRedisScript<>(
+            "local cur = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "if cur < tonumber(ARGV[1]) then redis.call('SET', KEYS[1], ARGV[1]) end " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatMessageCodec codec;
+    private final TeamChatMessageRepository messageRepository;
+    private final BlockingQueue<ChatMessageResponse> queue;
+    private final int batchSize;
+    private final long replayAgeSeconds;
+    private final AtomicLong sequenceFloor = new AtomicLong();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public ChatMessageWriter(StringRedisTemplate stringRedisTemplate,
+                             JdbcTemplate jdbcTemplate,
+                             ChatMessageCodec codec,
+                             TeamChatMessageRepository messageRepository,
+                             @Value("${app.chat.persist.queue-capacity:10000}") int queueCapacity,
+                             @Value("${app.chat.persist.batch-size:500}") int batchSize,
+                             @Value("${app.chat.persist.replay-age-seconds:60}") long replayAgeSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.codec = codec;
+        this.messageRepository = messageRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.replayAgeSeconds = replayAgeSeconds;
+    }
+
+    /**
+     * 메시지 ID 발급
+     * sequenceFloor는 기동 시 DB 최대 ID에서 시작해 저장에 성공할 때마다 올라간다.
+     */
+    public long nextId() {
+        Long id = stringRedisTemplate.opsForValue().increment(SEQUENCE_KEY);
+        if (id == null || id <= sequenceFloor.get()) {
+            // Redis가 초기화된 경우: 다른 노드가 저장한 ID까지 포함하도록 DB 최대 ID를 다시 읽어 올린 뒤 재발급
+            resetSequenceFloor();
+            id = stringRedisTemplate.opsForValue().increment(SEQUENCE_KEY);
+        }
+        return id;
+    }
+
+    /**
+     * 전송 확정된(대기 해시에 기록된) 메시지를 저장 큐에 추가
+     */
+    public void enqueue(ChatMessageResponse message) {
+        if (!queue.offer(message)) {
+            // 큐가 가득 차면 대기 해시에만 남겨 두고 재적재 주기에 저장
+            log.warn("채팅 저장 큐 포화: 메시지 ID = {}는 재적재 시 저장됩니다.", message.getMessageId());
+        }
+    }
+
+    /**
+     * 아직 저장되지 않은 메시지를 즉시 저장 (삭제 등 DB 행이 필요한 경우, 다른 노드 몫 포함)
+     */
+    public boolean persistNow(Long messageId) {
+        Object json = stringRedisTemplate.opsForHash().get(PENDING_KEY, messageId.toString());
+        if (json == null) {
+            return false;
+        }
+        ChatMessageResponse message = codec.decode(json.toString());
+        if (message == null) {
+            return false;
+        }
+        writeBatch(List.of(message));
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.persist.flush-ms:200}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            drain();
+            log.info("채팅 저장 큐 종료 플러시 완료");
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            resetSequenceFloor();
+            replay(0);
+        } catch (Exception e) {
+            log.error("채팅 저장 초기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 대기 해시에 오래 남은 항목 재적재 (저장 실패, 큐 포화, 다른 노드 비정상 종료)
+     */
+    @Scheduled(fixedDelayString = "${app.chat.persist.replay-ms:60000}",
+               initialDelayString = "${app.chat.persist.replay-ms:60000}")
+    public void replayStale() {
+        try {
+            replay(replayAgeSeconds);
+        } catch (Exception e) {
+            log.warn("채팅 대기 메시지 재적재 실패: {}", e.getMessage());
+        }
+    }
+
+    private void replay(long minAgeSeconds) {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(REPLAY_LOCK_KEY, token, REPLAY_LOCK_TTL))) {
+            return;
+        }
+        try {
+            LocalDateTime threshold = LocalDateTime.now().minusSeconds(minAgeSeconds);
+            ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+            List<ChatMessageResponse> batch = new ArrayList<>(batchSize);
+            int replayed = 0;
+            try (Cursor<Map.Entry<Object, Object>> cursor = stringRedisTemplate.<Object, Object>opsForHash().scan(PENDING_KEY, options)) {
+                while (cursor.hasNext()) {
+                    ChatMessageResponse message = codec.decode(cursor.next().getValue().toString());
+                    if (message != null && (minAgeSeconds == 0 || message.getCreatedAt().isBefore(threshold))) {
+                        batch.add(message);
+                    }
+                    if (batch.size() >= batchSize) {
+                        writeBatch(batch);
+                        replayed += batch.size();
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+                replayed += batch.size();
+            }
+            if (replayed > 0) {
+                log.info("채팅 대기 메시지 재적재: {}건", replayed);
+            }
+        } finally {
+            stringRedisTemplate.execute(ChatRedisScripts.RELEASE_LOCK, List.of(REPLAY_LOCK_KEY), token);
+        }
+    }
+
+    private void drain() {
+        List<ChatMessageResponse> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<ChatMessageResponse> batch) {
+        try {
+            int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, message) -> {
+                Timestamp createdAt = Timestamp.valueOf(message.getCreatedAt());
+                ps.setLong(1, Long.parseLong(message.getMessageId()));
+                ps.setLong(2, message.getTeamId());
+                ps.setObject(3, message.getSequence());
+                ps.setLong(4, message.getSenderId());
+                ps.setString(5, message.getMessageText());
+                ps.setString(6, message.getMessageType());
+                ps.setBoolean(7, Boolean.TRUE.equals(message.getIsDeleted()));
+                ps.setString(8, message.getMessageId());
+                ps.setTimestamp(9, createdAt);
+                ps.setTimestamp(10, createdAt);
+            });
+            List<ChatMessageResponse> stored = confirmStored(batch, counts);
+            if (stored.isEmpty()) {
+                return;
+            }
+            long maxId = stored.stream().mapToLong(message -> Long.parseLong(message.getMessageId())).max().getAsLong();
+            sequenceFloor.accumulateAndGet(maxId, Math::max);
+            Object[] ids = stored.stream().map(ChatMessageResponse::getMessageId).toArray();
+            // 호출 트랜잭션(삭제 등)이 롤백되면 대기 항목을 남겨야 하므로 커밋 이후 제거
+            afterCommit(() -> stringRedisTemplate.opsForHash().delete(PENDING_KEY, ids));
+        } catch (Exception e) {
+            // 대기 해시에 남아 있으므로 재적재 주기에 다시 시도된다
+            log.error("채팅 메시지 배치 저장 실패: {}건, 에러 = {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 저장이 확인된 메시지만 반환
+     * 반영 건수가 0(INSERT IGNORE 무시)이거나 드라이버가 건수를 주지 않은 행(rewriteBatchedStatements)은
+     * 같은 ID의 기존 행이 같은 메시지(팀, 발신자, 순번)인지 확인한다. 다르면 ID 충돌이므로 대기 해시에 남긴다.
+     */
+    private List<ChatMessageResponse> confirmStored(List<ChatMessageResponse> batch, int[][] counts) {
+        List<ChatMessageResponse> stored = new ArrayList<>(batch.size());
+        List<ChatMessageResponse> unconfirmed = new ArrayList<>();
+        int index = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                ChatMessageResponse message = batch.get(index++);
+                if (count > 0) {
+                    stored.add(message);
+                } else {
+                    unconfirmed.add(message);
+                }
+            }
+        }
+        if (unconfirmed.isEmpty()) {
+            return stored;
+        }
+
+        Map<Long, StoredRow> rows = new HashMap<>();
+        String placeholders = String.join(",", Collections.nCopies(unconfirmed.size(), "?"));
+        jdbcTemplate.query(String.format(SELECT_STORED_SQL, placeholders),
+                rs -> {
+                    rows.put(rs.getLong("message_id"), new StoredRow(rs.getLong("team_id"), rs.getLong("sender_id"),
+                            rs.getObject("team_seq", Long.class)));
+                },
+                unconfirmed.stream().map(message -> Long.parseLong(message.getMessageId())).toArray());
+
+        boolean collided = false;
+        for (ChatMessageResponse message : unconfirmed) {
+            StoredRow row = rows.get(Long.parseLong(message.getMessageId()));
+            if (row != null && row.matches(message)) {
+                stored.add(message);
+            } else {
+                collided = true;
+                log.error("채팅 메시지 ID 충돌로 저장되지 않음: 메시지 ID = {}, 팀 ID = {} (대기 해시에 보존)",
+                        message.getMessageId(), message.getTeamId());
+            }
+        }
+        if (collided) {
+            // 이후 발급되는 ID가 더는 기존 행과 겹치지 않도록 시퀀스를 DB 최대 ID 이상으로 올림
+            resetSequenceFloor();
+        }
+        return stored;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * DB 최대 ID를 다시 읽어 하한값과 Redis 시퀀스를 함께 올림
+     */
+    private void resetSequenceFloor() {
+        Long maxId = messageRepository.findMaxId();
+        long floor = sequenceFloor.accumulateAndGet(maxId != null ? maxId : 0L, Math::max);
+        stringRedisTemplate.execute(RAISE_SEQUENCE, List.of(SEQUENCE_KEY), Long.toString(floor));
+    }
+
+    private static class StoredRow {
+        private final long teamId;
+        private final long senderId;
+        private final Long teamSeq;
+
+        StoredRow(long teamId, long senderId, Long teamSeq) {
+            this.teamId = teamId;
+            this.senderId = senderId;
+            this.teamSeq = teamSeq;
+        }
+
+        boolean matches(ChatMessageResponse message) {
+            return teamId == message.getTeamId()
+                    && senderId == message.getSenderId()
+                    && Objects.equals(teamSeq, message.getSequence());
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.kopo.hanagreenworld.chat.service;
+
+import com.kopo.hanagreenworld.chat.dto.PresenceEvent;
+import com.kopo.hanagreenworld.common.websocket.ChatPrincipal;
+import com.kopo.hanagreenworld.common.websocket.TeamTopicPublisher;
+import com.kopo.hanagreenworld.member.dto.TeamMembership;
+import com.kopo.hanagreenworld.member.service.TeamMembershipCacheService;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 팀 채팅 접속 현황 (세션 단위)
+ *
+ * - Redis ZSET(chat:team:{teamId}:presence)에 "memberId:sessionId"를 마지막 활동 시각(ms)으로 저장한다.
+ * - 연결 시 등록, 연결 종료 시 제거하고, 하트비트 등 수신 프레임으로 갱신한 활동 시각은 주기적으로 한 번에 반영한다.
+ * - 활동이 끊긴 세션(비정상 종료, 다른 노드 장애)은 stale 기준을 넘기면 온라인 목록에서 빠지고 정리된다.
+ * - 입장/퇴장 알림은 팀별로 모아 주기마다 "마지막으로 알린 목록" 대비 순변화만 보낸다. (재접속 폭주 시 알림 없음)
+ */
+@Slf4j
+@Service
+public class ChatPresenceService {
+
+    private static final String PRESENCE_KEY = "chat:team:%d:presence";
+    private static final String NAMES_KEY = "chat:team:%d:presence:names";
+    private static final String ANNOUNCED_KEY = "chat:team:%d:presence:announced";
+    private static final String BROADCAST_LOCK_KEY = "chat:team:%d:presence:lock";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TeamTopicPublisher teamTopicPublisher;
+    private final TeamMembershipCacheService teamMembershipCacheService;
+    private final long staleMs;
+    private final Duration broadcastLockTtl;
+    private final Map<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyTeams = ConcurrentHashMap.newKeySet();
+
+    public ChatPresenceService(StringRedisTemplate stringRedisTemplate,
+                               TeamTopicPublisher teamTopicPublisher,
+                               TeamMembershipCacheService teamMembershipCacheService,
+                               @Value("${app.chat.presence.stale-ms:30000}") long staleMs,
+                               @Value("${app.chat.presence.broadcast-ms:1000}") long broadcastMs) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.teamTopicPublisher = teamTopicPublisher;
+        this.teamMembershipCacheService = teamMembershipCacheService;
+        this.staleMs = staleMs;
+        this.broadcastLockTtl = Duration.ofMillis(broadcastMs);
+    }
+
+    /**
+     * clientInboundChannel 인터셉터: 하트비트를 포함한 모든 수신 프레임으로 세션 활동 시각 갱신 (메모리만)
+     */
+    public ChannelInterceptor activityInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+                if (sessionId != null) {
+                    SessionPresence presence = sessions.get(sessionId);
+                    if (presence != null) {
+                        presence.touch();
+                    }
+                }
+                return message;
+            }
+        };
+    }
+
+    /**
+     * 연결 완료 시 소속 팀에 등록 (CONNECT 인증 인터셉터가 세션에 회원 정보를 넣은 이후)
+     */
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Message<?> connectMessage = (Message<?>) accessor.getHeader(SimpMessageHeaderAccessor.CONNECT_MESSAGE_HEADER);
+        if (connectMessage == null) {
+            return;
+        }
+        Map<String, Object> attributes = SimpMessageHeaderAccessor.getSessionAttributes(connectMessage.getHeaders());
+        if (attributes == null || !(attributes.get(ChatPrincipal.SESSION_ATTRIBUTE) instanceof ChatPrincipal member)) {
+            return;
+        }
+        teamMembershipCacheService.getMembership(member.getMemberId())
+                .map(TeamMembership::getTeamId)
+                .ifPresent(teamId -> join(accessor.getSessionId(), teamId, member));
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        leave(event.getSessionId());
+    }
+
+    /**
+     * 세션을 팀 접속 목록에 등록 (이미 같은 팀이면 활동 시각만 갱신)
+     */
+    public void join(String sessionId, Long teamId, ChatPrincipal member) {
+        SessionPresence previous = sessions.get(sessionId);
+        if (previous != null && previous.getTeamId().equals(teamId)) {
+            previous.touch();
+            return;
+        }
+        if (previous != null) {
+            leave(sessionId);
+        }
+
+        SessionPresence presence = new SessionPresence(sessionId, member.getMemberId(), teamId);
+        sessions.put(sessionId, presence);
+        try {
+            stringRedisTemplate.execute(ChatRedisScripts.PRESENCE_JOIN, teamKeys(teamId),
+                    presence.entry(),
+                    Long.toString(presence.getLastSeen()),
+                    member.getMemberId().toString(),
+                    member.getDisplayName(),
+                    Long.toString(keyTtlMillis()));
+        } catch (Exception e) {
+            log.warn("접속 현황 등록 실패: 팀 ID = {}, 세션 ID = {}, 에러 = {}", teamId, sessionId, e.getMessage());
+        }
+        dirtyTeams.add(teamId);
+    }
+
+    /**
+     * 세션을 접속 목록에서 제거
+     */
+    public void leave(String sessionId) {
+        SessionPresence presence = sessions.remove(sessionId);
+        if (presence == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForZSet().remove(presenceKey(presence.getTeamId()), presence.entry());
+        } catch (Exception e) {
+            log.warn("접속 현황 제거 실패: 세션 ID = {}, 에러 = {}", sessionId, e.getMessage());
+        }
+        dirtyTeams.add(presence.getTeamId());
+    }
+
+    /**
+     * 온라인 회원 목록 (세션이 하나라도 살아 있는 회원)
+     */
+    public List<Long> getOnlineMembers(Long teamId) {
+        Set<String> entries = stringRedisTemplate.opsForZSet()
+                .rangeByScore(presenceKey(teamId), System.currentTimeMillis() - staleMs, Double.POSITIVE_INFINITY);
+        return List.copyOf(toMemberIds(entries));
+    }
+
+    /**
+     * 로컬 세션 활동 시각을 팀별로 한 번에 반영하고, stale 항목을 정리
+     */
+    @Scheduled(fixedDelayString = "${app.chat.presence.refresh-ms:10000}")
+    public void refreshLocalSessions() {
+        long staleBefore = System.currentTimeMillis() - staleMs;
+        // 팀별 스크립트 인자: stale 기준, TTL, (활동 시각, 항목) 쌍...
+        Map<Long, List<String>> argsByTeam = new HashMap<>();
+        for (SessionPresence presence : sessions.values()) {
+            List<String> args = argsByTeam.computeIfAbsent(presence.getTeamId(),
+                    k -> new ArrayList<>(List.of(Long.toString(staleBefore), Long.toString(keyTtlMillis()))));
+            args.add(Long.toString(presence.getLastSeen()));
+            args.add(presence.entry());
+        }
+
+        argsByTeam.forEach((teamId, args) -> {
+            try {
+                Long removed = stringRedisTemplate.execute(ChatRedisScripts.PRESENCE_REFRESH, teamKeys(teamId),
+                        args.toArray());
+                if (removed != null && removed > 0) {
+                    dirtyTeams.add(teamId);
+                }
+            } catch (Exception e) {
+                log.warn("접속 현황 갱신 실패: 팀 ID = {}, 에러 = {}", teamId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 변경된 팀의 입장/퇴장 순변화만 브로드캐스트 (팀별로 한 노드만 처리)
+     */
+    @Scheduled(fixedDelayString = "${app.chat.presence.broadcast-ms:1000}")
+    public void broadcastChanges() {
+        List<Long> teams = new ArrayList<>(dirtyTeams);
+        dirtyTeams.removeAll(teams);
+        for (Long teamId : teams) {
+            try {
+                Boolean locked = stringRedisTemplate.opsForValue()
+                        .setIfAbsent(String.format(BROADCAST_LOCK_KEY, teamId), "1", broadcastLockTtl);
+                if (!Boolean.TRUE.equals(locked)) {
+                    dirtyTeams.add(teamId); // 다른 노드가 처리 중: 다음 주기에 다시 확인
+                    continue;
+                }
+                broadcastDiff(teamId);
+            } catch (Exception e) {
+                log.warn("접속 현황 브로드캐스트 실패: 팀 ID = {}, 에러 = {}", teamId, e.getMessage());
+            }
+        }
+    }
+
+    private void broadcastDiff(Long teamId) {
+        Set<Long> online = new HashSet<>(getOnlineMembers(teamId));
+        String announcedKey = String.format(ANNOUNCED_KEY, teamId);
+        Set<Long> announced = new HashSet<>();
+        Set<String> announcedRaw = stringRedisTemplate.opsForSet().members(announcedKey);
+        if (announcedRaw != null) {
+            announcedRaw.forEach(id -> announced.add(Long.valueOf(id)));
+        }
+        if (online.equals(announced)) {
+            return;
+        }
+
+        Map<Object, Object> names = stringRedisTemplate.opsForHash().entries(String.format(NAMES_KEY, teamId));
+        for (Long memberId : online) {
+            if (!announced.contains(memberId)) {
+                teamTopicPublisher.publish(teamId, "/presence", PresenceEvent.join(teamId, memberId, nameOf(names, memberId)));
+            }
+        }
+        for (Long memberId : announced) {
+            if (!online.contains(memberId)) {
+                teamTopicPublisher.publish(teamId, "/presence", PresenceEvent.leave(teamId, memberId, nameOf(names, memberId)));
+            }
+        }
+
+        List<String> args = new ArrayList<>(online.size() + 1);
+        args.add(Long.toString(keyTtlMillis()));
+        online.forEach(memberId -> args.add(memberId.toString()));
+        stringRedisTemplate.execute(ChatRedisScripts.REPLACE_SET, List.of(announcedKey), args.toArray());
+    }
+
+    private List<String> teamKeys(Long teamId) {
+        return List.of(presenceKey(teamId), String.format(NAMES_KEY, teamId));
+    }
+
+    private long keyTtlMillis() {
+        return staleMs * 2;
+    }
+
+    private String presenceKey(Long teamId) {
+        return String.format(PRESENCE_KEY, teamId);
+    }
+
+    private static Set<Long> toMemberIds(Set<String> entries) {
+        Set<Long> memberIds = new HashSet<>();
+        if (entries != null) {
+            for (String entry : entries) {
+                int idx = entry.indexOf(':');
+                if (idx > 0) {
+                    memberIds.add(Long.valueOf(entry.substring(0, idx)));
+                }
+            }
+        }
+        return memberIds;
+    }
+
+    private static String nameOf(Map<Object, Object> names, Long memberId) {
+        Object name = names.get(memberId.toString());
+        return name != null ? name.toString() : null;
+    }
+
+    @Getter
+    private static class SessionPresence {
+        private final String sessionId;
+        private final Long memberId;
+        private final Long teamId;
+        private volatile long lastSeen = System.currentTimeMillis();
+
+        SessionPresence(String sessionId, Long memberId, Long teamId) {
+            this.sessionId = sessionId;
+            this.memberId = memberId;
+            this.teamId = teamId;
+        }
+
+        void touch() {
+            lastSeen = System.currentTimeMillis();
+        }
+
+        String entry() {
+            return memberId + ":" + sessionId;
+        }
+    }
+}
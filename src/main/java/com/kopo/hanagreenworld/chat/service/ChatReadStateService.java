@@ -0,0 +1,219 @@
+package com.kopo.hanagreenworld.chat.service;
+
+import com.kopo.hanagreenworld.chat.domain.TeamChatReadState;
+import com.kopo.hanagreenworld.chat.dto.UnreadCountResponse;
+import com.kopo.hanagreenworld.chat.repository.TeamChatMessageRepository;
+import com.kopo.hanagreenworld.chat.repository.TeamChatReadStateRepository;
+import com.kopo.hanagreenworld.common.exception.BusinessException;
+import com.kopo.hanagreenworld.common.exception.ErrorCode;
+import com.kopo.hanagreenworld.member.dto.TeamMembership;
+import com.kopo.hanagreenworld.member.service.TeamMembershipCacheService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 팀 채팅 읽음 위치와 안 읽은 메시지 수
+ *
+ * - 팀마다 Redis INCR 순번(chat:team:{teamId}:seq)을 메시지 전송 시 발급한다. (ChatMessageResponse.sequence)
+ *   발급과 발신자 읽음 위치 전진은 TeamChatService가 전송 확정 스크립트(ChatRedisScripts.COMMIT_SEND) 안에서 함께 처리한다.
+ * - 회원별 읽음 위치는 해시(chat:member:{memberId}:read, 필드 = teamId)에 두고, 앞으로만 움직인다.
+ * - 안 읽은 수 = 팀 순번 - 읽음 위치 (team_chat_messages COUNT 없음)
+ * - 변경된 읽음 위치는 dirty 집합에 모았다가 주기적으로 team_chat_read_states에 upsert 한다.
+ */
+@Slf4j
+@Service
+public class ChatReadStateService {
+
+    static final String TEAM_SEQ_KEY = "chat:team:%d:seq";
+    static final String READ_KEY = "chat:member:%d:read";
+    static final String DIRTY_KEY = "chat:read:dirty";
+    static final Duration READ_TTL = Duration.ofDays(30);
+    private static final String UPSERT_SQL =
+            "INSERT INTO team_chat_read_states (member_id, team_id, last_read_seq, created_at, modified_at) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE last_read_seq = GREATEST(last_read_seq, VALUES(last_read_seq)), " +
+            "modified_at = VALUES(modified_at)";
+    // 읽음 위치는 커질 때만 갱신, 최종 값 반환
+    private static final DefaultRedisScript<Long> ADVANCE_READ = new DefaultRedisScript<>(
+            "local cur = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '-1') " +
+            "local next = tonumber(ARGV[2]) " +
+            "if next > cur then redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) cur = next end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return cur", Long.class);
+    // 순번을 최소값 이상으로 끌어올림 (Redis 유실/초기화 대비)
+    private static final DefaultRedisScript<Long> RAISE_SEQUENCE = new DefaultRedisScript<>(
+            "local cur = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "if cur < tonumber(ARGV[1]) then redis.call('SET', KEYS[1], ARGV[1]) cur = tonumber(ARGV[1]) end " +
+            "return cur", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TeamChatReadStateRepository readStateRepository;
+    private final TeamChatMessageRepository messageRepository;
+    private final TeamMembershipCacheService teamMembershipCacheService;
+    private final int flushBatchSize;
+
+    public ChatReadStateService(StringRedisTemplate stringRedisTemplate,
+                                JdbcTemplate jdbcTemplate,
+                                TeamChatReadStateRepository readStateRepository,
+                                TeamChatMessageRepository messageRepository,
+                                TeamMembershipCacheService teamMembershipCacheService,
+                                @Value("${app.chat.read.flush-batch-size:500}") int flushBatchSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readStateRepository = readStateRepository;
+        this.messageRepository = messageRepository;
+        this.teamMembershipCacheService = teamMembershipCacheService;
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    /**
+     * 팀 순번 키가 없으면 DB 하한(저장된 최대 순번, 읽음 위치)으로 만든다 (최초 전송, Redis 유실/초기화 대비)
+     */
+    public void ensureSequence(Long teamId) {
+        stringRedisTemplate.opsForValue().setIfAbsent(String.format(TEAM_SEQ_KEY, teamId), Long.toString(sequenceFloor(teamId)));
+    }
+
+    /**
+     * 팀의 현재 순번 (마지막 메시지 순번)
+     */
+    public long currentSequence(Long teamId) {
+        String value = stringRedisTemplate.opsForValue().get(String.format(TEAM_SEQ_KEY, teamId));
+        if (value != null) {
+            return Long.parseLong(value);
+        }
+        long floor = sequenceFloor(teamId);
+        Long raised = stringRedisTemplate.execute(
+                RAISE_SEQUENCE, List.of(String.format(TEAM_SEQ_KEY, teamId)), Long.toString(floor));
+        return raised != null ? raised : floor;
+    }
+
+    /**
+     * 읽음 처리 (sequence가 없으면 현재 순번까지 모두 읽음)
+     */
+    public UnreadCountResponse markRead(Long memberId, Long teamId, Long sequence) {
+        if (!teamMembershipCacheService.isActiveMember(memberId, teamId)) {
+            throw new BusinessException(ErrorCode.NOT_TEAM_MEMBER);
+        }
+        long current = currentSequence(teamId);
+        long target = sequence == null ? current : Math.max(0L, Math.min(sequence, current));
+        long lastRead = advance(memberId, teamId, target);
+        return toResponse(teamId, current, lastRead);
+    }
+
+    /**
+     * 회원의 모든 소속 팀 안 읽은 메시지 수 (한 번의 요청)
+     */
+    public List<UnreadCountResponse> getUnreadCounts(Long memberId) {
+        List<Long> teamIds = teamMembershipCacheService.getMembership(memberId)
+                .map(TeamMembership::getTeamId)
+                .map(List::of)
+                .orElse(List.of());
+        if (teamIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> seqKeys = teamIds.stream().map(id -> String.format(TEAM_SEQ_KEY, id)).toList();
+        List<String> seqValues = stringRedisTemplate.opsForValue().multiGet(seqKeys);
+        List<Object> readValues = stringRedisTemplate.opsForHash().multiGet(
+                String.format(READ_KEY, memberId), new ArrayList<>(teamIds.stream().map(String::valueOf).toList()));
+
+        List<UnreadCountResponse> result = new ArrayList<>(teamIds.size());
+        for (int i = 0; i < teamIds.size(); i++) {
+            Long teamId = teamIds.get(i);
+            String seqValue = seqValues != null ? seqValues.get(i) : null;
+            long current = seqValue != null ? Long.parseLong(seqValue) : currentSequence(teamId);
+            Object readValue = readValues != null ? readValues.get(i) : null;
+            long lastRead = readValue != null ? Long.parseLong(readValue.toString()) : loadReadPointer(memberId, teamId, current);
+            result.add(toResponse(teamId, current, lastRead));
+        }
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.read.flush-ms:5000}")
+    public void flush() {
+        try {
+            List<String> dirty;
+            while (!(dirty = popDirty()).isEmpty()) {
+                writeBatch(dirty);
+            }
+        } catch (Exception e) {
+            log.warn("채팅 읽음 위치 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Redis에 없는 읽음 위치: DB 값 복원, DB에도 없으면(처음 보는 팀) 현재 순번부터 시작
+     */
+    private long loadReadPointer(Long memberId, Long teamId, long current) {
+        long stored = readStateRepository.findByMemberIdAndTeamId(memberId, teamId)
+                .map(TeamChatReadState::getLastReadSeq)
+                .orElse(current);
+        return advance(memberId, teamId, Math.min(stored, current));
+    }
+
+    private long advance(Long memberId, Long teamId, long target) {
+        Long lastRead = stringRedisTemplate.execute(ADVANCE_READ, List.of(String.format(READ_KEY, memberId)),
+                teamId.toString(), Long.toString(target), Long.toString(READ_TTL.toMillis()));
+        stringRedisTemplate.opsForSet().add(DIRTY_KEY, memberId + ":" + teamId);
+        return lastRead != null ? lastRead : target;
+    }
+
+    private long sequenceFloor(Long teamId) {
+        Long maxMessageSeq = messageRepository.findMaxTeamSeqByTeamId(teamId);
+        Long maxReadSeq = readStateRepository.findMaxLastReadSeqByTeamId(teamId);
+        return Math.max(maxMessageSeq != null ? maxMessageSeq : 0L, maxReadSeq != null ? maxReadSeq : 0L);
+    }
+
+    private List<String> popDirty() {
+        List<String> popped = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, flushBatchSize);
+        return popped != null ? popped : List.of();
+    }
+
+    private void writeBatch(List<String> dirty) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(dirty.size());
+        for (String entry : dirty) {
+            int idx = entry.indexOf(':');
+            Long memberId = Long.valueOf(entry.substring(0, idx));
+            String teamId = entry.substring(idx + 1);
+            Object value = stringRedisTemplate.opsForHash().get(String.format(READ_KEY, memberId), teamId);
+            if (value != null) {
+                rows.add(new Object[]{memberId, Long.valueOf(teamId), Long.valueOf(value.toString()), now, now});
+            }
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        } catch (Exception e) {
+            // 다음 주기에 다시 반영
+            stringRedisTemplate.opsForSet().add(DIRTY_KEY, dirty.toArray(new String[0]));
+            throw e;
+        }
+    }
+
+    private UnreadCountResponse toResponse(Long teamId, long current, long lastRead) {
+        return UnreadCountResponse.builder()
+                .teamId(teamId)
+                .unreadCount(Math.max(0L, current - lastRead))
+                .lastSequence(current)
+                .lastReadSequence(lastRead)
+                .build();
+    }
+}
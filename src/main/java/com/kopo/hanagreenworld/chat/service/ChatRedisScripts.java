@@ -0,0 +1,108 @@
+package com.kopo.hanagreenworld.chat.service;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.List;
+
+/**
+ * 채팅/접속 현황 Redis 스크립트 모음
+ *
+ * 여러 명령으로 이뤄진 작업을 서버 측 Lua 한 번으로 묶어, 작업당 왕복 1회로 원자적으로 처리한다.
+ * (StringRedisTemplate.execute는 EVALSHA를 먼저 시도하고 스크립트가 없을 때만 본문을 보낸다)
+ */
+final class ChatRedisScripts {
+
+    /**
+     * 전송 확정: 팀 순번 발급, 순번을 넣은 메시지를 대기 해시와 최신 메시지 리스트에 기록, 발신자 읽음 위치 전진, 발급한 순번 반환
+     * 순번 키가 없으면(최초 전송, Redis 유실) 아무것도 쓰지 않고 -1을 돌려준다. 호출 측이 DB 하한으로 키를 만든 뒤 다시 호출한다.
+     * KEYS: 팀 순번, 대기 해시, 메시지 리스트, 적재 표시, 발신자 읽음 해시, 읽음 dirty 집합
+     * ARGV: 메시지 JSON(순번 제외), 메시지 ID, 리스트 최대 길이, 리스트 TTL(ms), 팀 ID, 읽음 TTL(ms), dirty 항목
+     */
+    static final DefaultRedisScript<Long> COMMIT_SEND = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local seq = redis.call('INCR', KEYS[1]) " +
+            "local message = cjson.decode(ARGV[1]) " +
+            "message['sequence'] = seq " +
+            "local json = cjson.encode(message) " +
+            "redis.call('HSET', KEYS[2], ARGV[2], json) " +
+            "redis.call('LPUSH', KEYS[3], json) " +
+            "redis.call('LTRIM', KEYS[3], 0, tonumber(ARGV[3]) - 1) " +
+            "redis.call('PEXPIRE', KEYS[3], ARGV[4]) " +
+            "redis.call('PEXPIRE', KEYS[4], ARGV[4]) " +
+            "local read = tonumber(redis.call('HGET', KEYS[5], ARGV[5]) or '-1') " +
+            "if seq > read then redis.call('HSET', KEYS[5], ARGV[5], seq) end " +
+            "redis.call('PEXPIRE', KEYS[5], ARGV[6]) " +
+            "redis.call('SADD', KEYS[6], ARGV[7]) " +
+            "return seq", Long.class);
+
+    /**
+     * 최신 메시지 리스트에서 messageId가 같은 항목 제거, 제거 건수 반환
+     * KEYS: 메시지 리스트 / ARGV: 메시지 ID
+     */
+    static final DefaultRedisScript<Long> REMOVE_RECENT = new DefaultRedisScript<>(
+            "local removed = 0 " +
+            "for _, item in ipairs(redis.call('LRANGE', KEYS[1], 0, -1)) do " +
+            "  local ok, message = pcall(cjson.decode, item) " +
+            "  if ok and tostring(message['messageId']) == ARGV[1] then " +
+            "    removed = removed + redis.call('LREM', KEYS[1], 0, item) " +
+            "  end " +
+            "end " +
+            "return removed", Long.class);
+
+    /**
+     * 세션 접속 등록: 접속 ZSET, 이름 해시 갱신 후 두 키 TTL 연장
+     * KEYS: 접속 ZSET, 이름 해시 / ARGV: 항목, 활동 시각(ms), 회원 ID, 이름, TTL(ms)
+     */
+    static final DefaultRedisScript<Long> PRESENCE_JOIN = new DefaultRedisScript<>(
+            "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) " +
+            "redis.call('HSET', KEYS[2], ARGV[3], ARGV[4]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[5]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[5]) " +
+            "return 1", Long.class);
+
+    /**
+     * 로컬 세션 활동 시각 일괄 반영 + stale 항목 정리 + TTL 연장, 정리된 건수 반환
+     * KEYS: 접속 ZSET, 이름 해시 / ARGV: stale 기준(ms), TTL(ms), (활동 시각, 항목) 쌍...
+     */
+    static final DefaultRedisScript<Long> PRESENCE_REFRESH = new DefaultRedisScript<>(
+            "for i = 3, #ARGV, 2 do redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "local removed = redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, ARGV[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+            "return removed", Long.class);
+
+    /**
+     * SET 내용을 통째로 교체 (빈 목록이면 삭제만)
+     * KEYS: SET / ARGV: TTL(ms), 멤버...
+     */
+    static final DefaultRedisScript<Long> REPLACE_SET = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 2, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end " +
+            "if #ARGV > 1 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end " +
+            "return #ARGV - 1", Long.class);
+
+    /**
+     * 전송 한도 카운터 증가 (새로 생긴 키에만 TTL 설정), {회원 순간 카운트, 팀 일일 카운트} 반환
+     * 순간 한도를 넘으면 팀 일일 카운터는 올리지 않고 -1을 돌려준다.
+     * KEYS: 회원 순간 카운터, 팀 일일 카운터 / ARGV: 순간 한도, 순간 TTL(ms), 일일 TTL(ms)
+     */
+    @SuppressWarnings("rawtypes")
+    static final DefaultRedisScript<List> COUNT_SEND = new DefaultRedisScript<>(
+            "local burst = redis.call('INCR', KEYS[1]) " +
+            "if burst == 1 then redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "if burst > tonumber(ARGV[1]) then return {burst, -1} end " +
+            "local daily = redis.call('INCR', KEYS[2]) " +
+            "if daily == 1 then redis.call('PEXPIRE', KEYS[2], ARGV[3]) end " +
+            "return {burst, daily}", List.class);
+
+    /**
+     * 잠금 해제: 값이 내 토큰일 때만 삭제 (TTL이 지나 다른 노드가 잡은 잠금은 유지)
+     * KEYS: 잠금 키 / ARGV: 토큰
+     */
+    static final DefaultRedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private ChatRedisScripts() {
+    }
+}
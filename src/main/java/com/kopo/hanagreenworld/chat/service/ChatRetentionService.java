@@ -0,0 +1,283 @@
+package com.kopo.hanagreenworld.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kopo.hanagreenworld.chat.domain.TeamChatSettings;
+import com.kopo.hanagreenworld.chat.repository.TeamChatSettingsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 팀 채팅 메시지 보관 기간 정리
+ *
+ * - 팀별 TeamChatSettings.maxMessageRetentionDays를 넘긴 메시지를 일 단위 gzip 파일(JSON Lines)로 보관한 뒤 삭제한다.
+ *   (archive-dir/team-{teamId}/{yyyy-MM-dd}.jsonl.gz, 재실행 시 gzip 멤버로 이어 붙임)
+ * - 삭제는 PK 구간 단위의 짧은 DELETE로 나누어 잠금 시간을 줄이고, 구간 사이에 잠시 쉰다.
+ * - 테이블이 날짜 RANGE 파티션으로 구성된 경우, 모든 팀의 보관 기간을 넘긴 빈 파티션은 DROP PARTITION으로 회수한다.
+ * - 여러 노드 중 한 곳에서만 실행되도록 Redis 락을 잡는다. 락 값은 실행마다 새 토큰이고, 해제는 토큰이 같을 때만 한다.
+ *   (실행이 락 TTL보다 길어져 다른 노드가 잡은 락을 지우지 않도록)
+ */
+@Slf4j
+@Service
+public class ChatRetentionService {
+
+    private static final String LOCK_KEY = "chat:retention:lock";
+    private static final String TABLE_NAME = "team_chat_messages";
+    private static final Pattern PARTITION_NAME = Pattern.compile("[A-Za-z0-9_]+");
+    // MySQL TO_DAYS('1970-01-01')
+    private static final long TO_DAYS_EPOCH = 719528L;
+
+    private static final String SELECT_TEAMS_SQL = "SELECT DISTINCT team_id FROM team_chat_messages";
+    private static final String SELECT_CHUNK_SQL =
+            "SELECT message_id, team_id, sender_id, message_text, message_type, is_deleted, created_at " +
+            "FROM team_chat_messages " +
+            "WHERE team_id = ? AND created_at < ? AND message_id > ? " +
+            "ORDER BY message_id LIMIT ?";
+    private static final String DELETE_RANGE_SQL =
+            "DELETE FROM team_chat_messages " +
+            "WHERE team_id = ? AND message_id BETWEEN ? AND ? AND created_at < ?";
+    private static final String SELECT_PARTITIONS_SQL =
+            "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? " +
+            "AND PARTITION_NAME IS NOT NULL AND PARTITION_METHOD LIKE 'RANGE%'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TeamChatSettingsRepository settingsRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Path archiveDir;
+    private final boolean archiveEnabled;
+    private final int chunkSize;
+    private final long chunkPauseMs;
+    private final int defaultRetentionDays;
+    private final boolean dropPartitions;
+    private final Duration lockTtl;
+
+    public ChatRetentionService(JdbcTemplate jdbcTemplate,
+                                TeamChatSettingsRepository settingsRepository,
+                                StringRedisTemplate stringRedisTemplate,
+                                ObjectMapper objectMapper,
+                                @Value("${app.chat.retention.archive-dir:./archive/chat}") String archiveDir,
+                                @Value("${app.chat.retention.archive-enabled:true}") boolean archiveEnabled,
+                                @Value("${app.chat.retention.chunk-size:1000}") int chunkSize,
+                                @Value("${app.chat.retention.chunk-pause-ms:50}") long chunkPauseMs,
+                                @Value("${app.chat.retention.default-days:30}") int defaultRetentionDays,
+                                @Value("${app.chat.retention.drop-partitions:true}") boolean dropPartitions,
+                                @Value("${app.chat.retention.lock-ttl-minutes:60}") long lockTtlMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settingsRepository = settingsRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.archiveDir = Paths.get(archiveDir);
+        this.archiveEnabled = archiveEnabled;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMs = chunkPauseMs;
+        this.defaultRetentionDays = defaultRetentionDays;
+        this.dropPartitions = dropPartitions;
+        this.lockTtl = Duration.ofMinutes(lockTtlMinutes);
+    }
+
+    /**
+     * 매일 새벽 보관 기간 정리
+     */
+    @Scheduled(cron = "${app.chat.retention.cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, lockTtl))) {
+            return;
+        }
+        try {
+            Map<Long, Integer> retentionByTeam = new HashMap<>();
+            for (TeamChatSettings settings : settingsRepository.findAll()) {
+                if (settings.getMaxMessageRetentionDays() != null && settings.getMaxMessageRetentionDays() > 0) {
+                    retentionByTeam.put(settings.getTeam().getId(), settings.getMaxMessageRetentionDays());
+                }
+            }
+
+            LocalDate today = LocalDate.now();
+            long total = 0;
+            for (Long teamId : jdbcTemplate.queryForList(SELECT_TEAMS_SQL, Long.class)) {
+                int days = retentionByTeam.getOrDefault(teamId, defaultRetentionDays);
+                try {
+                    total += purgeTeam(teamId, today.minusDays(days).atStartOfDay());
+                } catch (Exception e) {
+                    // 보관 실패 시 해당 팀은 삭제하지 않고 다음 실행에 다시 시도
+                    log.error("채팅 보관 정리 실패: 팀 ID = {}, 에러 = {}", teamId, e.getMessage(), e);
+                }
+            }
+
+            if (dropPartitions) {
+                int maxDays = retentionByTeam.values().stream()
+                        .mapToInt(Integer::intValue)
+                        .reduce(defaultRetentionDays, Math::max);
+                dropExpiredPartitions(today.minusDays(maxDays));
+            }
+            log.info("채팅 보관 정리 완료: 삭제 {}건", total);
+        } finally {
+            stringRedisTemplate.execute(ChatRedisScripts.RELEASE_LOCK, List.of(LOCK_KEY), token);
+        }
+    }
+
+    /**
+     * 팀 단위 정리: PK 순으로 구간을 읽어 보관 후 같은 구간만 삭제
+     */
+    private long purgeTeam(Long teamId, LocalDateTime cutoff) throws IOException {
+        Timestamp cutoffAt = Timestamp.valueOf(cutoff);
+        long lastId = 0L;
+        long deleted = 0L;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    SELECT_CHUNK_SQL, teamId, cutoffAt, lastId, chunkSize);
+            if (rows.isEmpty()) {
+                return deleted;
+            }
+
+            long fromId = ((Number) rows.get(0).get("message_id")).longValue();
+            long toId = ((Number) rows.get(rows.size() - 1).get("message_id")).longValue();
+            if (archiveEnabled) {
+                archive(teamId, rows);
+            }
+            deleted += jdbcTemplate.update(DELETE_RANGE_SQL, teamId, fromId, toId, cutoffAt);
+            lastId = toId;
+
+            if (rows.size() < chunkSize) {
+                return deleted;
+            }
+            pause();
+        }
+    }
+
+    private void archive(Long teamId, List<Map<String, Object>> rows) throws IOException {
+        // 날짜별 파일로 나눔 (삭제된 메시지는 보관하지 않음)
+        Map<LocalDate, List<Map<String, Object>>> byDay = new TreeMap<>();
+        for (Map<String, Object> row : rows) {
+            if (Boolean.TRUE.equals(toBoolean(row.get("is_deleted")))) {
+                continue;
+            }
+            LocalDateTime createdAt = ((Timestamp) row.get("created_at")).toLocalDateTime();
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("messageId", row.get("message_id"));
+            record.put("teamId", row.get("team_id"));
+            record.put("senderId", row.get("sender_id"));
+            record.put("messageText", row.get("message_text"));
+            record.put("messageType", row.get("message_type"));
+            record.put("createdAt", createdAt.toString());
+            byDay.computeIfAbsent(createdAt.toLocalDate(), d -> new ArrayList<>()).add(record);
+        }
+
+        Path teamDir = archiveDir.resolve("team-" + teamId);
+        Files.createDirectories(teamDir);
+        for (Map.Entry<LocalDate, List<Map<String, Object>>> entry : byDay.entrySet()) {
+            Path file = teamDir.resolve(entry.getKey() + ".jsonl.gz");
+            try (FileOutputStream out = new FileOutputStream(file.toFile(), true)) {
+                GZIPOutputStream gzip = new GZIPOutputStream(out);
+                BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8));
+                for (Map<String, Object> record : entry.getValue()) {
+                    writer.write(objectMapper.writeValueAsString(record));
+                    writer.newLine();
+                }
+                writer.flush();
+                gzip.finish();
+                // 삭제 전에 디스크 반영 보장
+                out.getFD().sync();
+            }
+        }
+    }
+
+    /**
+     * 날짜 RANGE 파티션 중 상한이 전체 보관 기준일 이전이고 비어 있는 파티션 제거
+     * (RANGE COLUMNS(created_at) 또는 RANGE(TO_DAYS(created_at)) 형태 지원, 파티션이 없으면 아무 것도 하지 않음)
+     */
+    private void dropExpiredPartitions(LocalDate globalCutoff) {
+        List<Map<String, Object>> partitions;
+        try {
+            partitions = jdbcTemplate.queryForList(SELECT_PARTITIONS_SQL, TABLE_NAME);
+        } catch (Exception e) {
+            log.debug("파티션 정보 조회 불가: {}", e.getMessage());
+            return;
+        }
+
+        for (Map<String, Object> partition : partitions) {
+            String name = (String) partition.get("PARTITION_NAME");
+            LocalDate upperBound = parseUpperBound((String) partition.get("PARTITION_DESCRIPTION"));
+            if (name == null || !PARTITION_NAME.matcher(name).matches()
+                    || upperBound == null || upperBound.isAfter(globalCutoff)) {
+                continue;
+            }
+            try {
+                List<Integer> remaining = jdbcTemplate.queryForList(
+                        "SELECT 1 FROM " + TABLE_NAME + " PARTITION (" + name + ") LIMIT 1", Integer.class);
+                if (!remaining.isEmpty()) {
+                    log.warn("보관 기간이 지난 파티션에 미정리 데이터가 있어 유지: {}", name);
+                    continue;
+                }
+                jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DROP PARTITION " + name);
+                log.info("채팅 메시지 파티션 제거: {} (상한 {})", name, upperBound);
+            } catch (Exception e) {
+                log.warn("채팅 메시지 파티션 제거 실패: {}, 에러 = {}", name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 파티션 상한(PARTITION_DESCRIPTION)을 날짜로 변환
+     * TO_DAYS 값("739000") 또는 RANGE COLUMNS 값("'2026-01-01'", "'2026-01-01 00:00:00'"), MAXVALUE와 해석 불가 값은 null
+     */
+    static LocalDate parseUpperBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        String value = description.replace("'", "").trim();
+        try {
+            if (value.chars().allMatch(Character::isDigit)) {
+                return LocalDate.ofEpochDay(Long.parseLong(value) - TO_DAYS_EPOCH);
+            }
+            return LocalDate.parse(value.length() > 10 ? value.substring(0, 10) : value);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private Boolean toBoolean(Object value) {
+        if (value instanceof Boolean b) {
+            return b;
+        }
+        return value instanceof Number n ? n.intValue() != 0 : null;
+    }
+
+    private void pause() {
+        if (chunkPauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
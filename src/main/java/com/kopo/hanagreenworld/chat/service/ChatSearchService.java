@@ -0,0 +1,204 @@
+package com.kopo.hanagreenworld.chat.service;
+
+import com.kopo.hanagreenworld.chat.dto.ChatMessageResponse;
+import com.kopo.hanagreenworld.common.exception.BusinessException;
+import com.kopo.hanagreenworld.common.exception.ErrorCode;
+import com.kopo.hanagreenworld.member.service.TeamMembershipCacheService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 팀 채팅 검색
+ *
+ * - MySQL FULLTEXT(ngram 파서) 인덱스로 message_text를 검색한다. 한글은 공백 없이 붙여 쓰는 경우가 많아 ngram 토큰이 적합하다.
+ *   (인덱스는 Hibernate가 만들지 않으므로 db/chat-search-fulltext.sql로 미리 적용한다. 기동 시에는 존재 여부만 확인하고,
+ *   app.chat.search.create-index=true 인 경우에만 직접 생성한다. InnoDB가 커밋 이후 비동기로 색인)
+ * - 삭제/보관 정리된 메시지는 is_deleted 조건과 행 삭제로 결과에서 빠진다.
+ * - 아직 MySQL에 저장되지 않은 최근 메시지는 Redis 최근 메시지 캐시에서 함께 찾는다.
+ * - 인덱스를 만들 수 없는 DB에서는 최근 기간으로 제한한 LIKE 조회로 대체한다.
+ */
+@Slf4j
+@Service
+public class ChatSearchService {
+
+    private static final String INDEX_NAME = "ft_chat_message_text";
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 50;
+    private static final int MIN_QUERY_LENGTH = 2; // ngram_token_size 기본값
+
+    private static final String SELECT_COLUMNS =
+            "SELECT m.message_id, m.team_id, m.team_seq, m.sender_id, mb.name AS sender_name, " +
+            "m.message_text, m.message_type, m.created_at " +
+            "FROM team_chat_messages m JOIN members mb ON mb.member_id = m.sender_id ";
+    private static final String FULLTEXT_SQL = SELECT_COLUMNS +
+            "WHERE MATCH(m.message_text) AGAINST (? IN BOOLEAN MODE) " +
+            "AND m.team_id = ? AND m.is_deleted = false AND m.message_id < ? " +
+            "ORDER BY m.message_id DESC LIMIT ?";
+    private static final String LIKE_SQL = SELECT_COLUMNS +
+            "WHERE m.team_id = ? AND m.created_at >= ? AND m.is_deleted = false AND m.message_id < ? " +
+            "AND m.message_text LIKE ? " +
+            "ORDER BY m.message_id DESC LIMIT ?";
+
+    private static final RowMapper<ChatMessageResponse> ROW_MAPPER = (rs, rowNum) -> ChatMessageResponse.builder()
+            .messageId(String.valueOf(rs.getLong("message_id")))
+            .teamId(rs.getLong("team_id"))
+            .sequence(rs.getObject("team_seq") != null ? rs.getLong("team_seq") : null)
+            .senderId(rs.getLong("sender_id"))
+            .senderName(rs.getString("sender_name"))
+            .messageText(rs.getString("message_text"))
+            .messageType(rs.getString("message_type"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .isDeleted(false)
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TeamChatService teamChatService;
+    private final TeamMembershipCacheService teamMembershipCacheService;
+    private final int fallbackDays;
+    private final boolean createIndex;
+    private volatile boolean fullTextAvailable;
+
+    public ChatSearchService(JdbcTemplate jdbcTemplate,
+                             TeamChatService teamChatService,
+                             TeamMembershipCacheService teamMembershipCacheService,
+                             @Value("${app.chat.search.fallback-days:7}") int fallbackDays,
+                             @Value("${app.chat.search.create-index:false}") boolean createIndex) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.teamChatService = teamChatService;
+        this.teamMembershipCacheService = teamMembershipCacheService;
+        this.fallbackDays = fallbackDays;
+        this.createIndex = createIndex;
+    }
+
+    /**
+     * FULLTEXT 인덱스 존재 여부 확인
+     * 생성(테이블 재구성 DDL)은 운영 스크립트로 하고, 여기서는 명시적으로 켠 경우(단일 노드 개발 환경 등)에만 한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkIndex() {
+        try {
+            boolean exists = indexExists();
+            if (!exists && createIndex) {
+                log.info("채팅 검색 인덱스 생성 시작: {}", INDEX_NAME);
+                jdbcTemplate.execute("ALTER TABLE team_chat_messages ADD FULLTEXT INDEX " + INDEX_NAME +
+                        " (message_text) WITH PARSER ngram");
+                log.info("채팅 검색 인덱스 생성 완료: {}", INDEX_NAME);
+                exists = true;
+            }
+            fullTextAvailable = exists;
+            if (!exists) {
+                log.warn("채팅 FULLTEXT 인덱스 없음(db/chat-search-fulltext.sql 적용 필요), 최근 {}일 LIKE 검색으로 대체", fallbackDays);
+            }
+        } catch (Exception e) {
+            fullTextAvailable = false;
+            log.warn("채팅 FULLTEXT 인덱스 사용 불가, 최근 {}일 LIKE 검색으로 대체: {}", fallbackDays, e.getMessage());
+        }
+    }
+
+    private boolean indexExists() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.STATISTICS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'team_chat_messages' AND INDEX_NAME = ?",
+                Integer.class, INDEX_NAME);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 팀 채팅 검색 (최신순, before: 이 메시지 ID보다 이전 결과만)
+     */
+    public List<ChatMessageResponse> search(Long teamId, Long memberId, String query, Long before, Integer size) {
+        if (!teamMembershipCacheService.isActiveMember(memberId, teamId)) {
+            throw new BusinessException(ErrorCode.NOT_TEAM_MEMBER);
+        }
+        String normalized = normalize(query);
+        if (normalized.replace(" ", "").length() < MIN_QUERY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        int limit = size == null || size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+        long cursor = before != null ? before : Long.MAX_VALUE;
+
+        // 저장 대기 중인 최근 메시지 (캐시는 최신순)
+        List<ChatMessageResponse> result = new ArrayList<>(limit);
+        Set<String> seen = new HashSet<>();
+        for (ChatMessageResponse message : teamChatService.getCachedMessages(teamId)) {
+            if (result.size() == limit) {
+                return result;
+            }
+            if (!Boolean.TRUE.equals(message.getIsDeleted())
+                    && Long.parseLong(message.getMessageId()) < cursor
+                    && normalize(message.getMessageText()).contains(normalized)
+                    && seen.add(message.getMessageId())) {
+                result.add(message);
+            }
+        }
+
+        for (ChatMessageResponse message : query(teamId, normalized, cursor, limit)) {
+            if (result.size() == limit) {
+                break;
+            }
+            if (seen.add(message.getMessageId())) {
+                result.add(message);
+            }
+        }
+        result.sort((a, b) -> Long.compare(Long.parseLong(b.getMessageId()), Long.parseLong(a.getMessageId())));
+        return result;
+    }
+
+    private List<ChatMessageResponse> query(Long teamId, String normalized, long cursor, int limit) {
+        if (fullTextAvailable) {
+            try {
+                // 구문 검색: ngram 토큰이 연속으로 나타나는 행만
+                return jdbcTemplate.query(FULLTEXT_SQL, ROW_MAPPER,
+                        "\"" + normalized + "\"", teamId, cursor, limit);
+            } catch (Exception e) {
+                log.warn("채팅 FULLTEXT 검색 실패, LIKE 검색으로 대체: {}", e.getMessage());
+            }
+        }
+        Timestamp since = Timestamp.valueOf(LocalDateTime.now().minusDays(fallbackDays));
+        return jdbcTemplate.query(LIKE_SQL, ROW_MAPPER,
+                teamId, since, cursor, "%" + escapeLike(normalized) + "%", limit);
+    }
+
+    /**
+     * NFC 정규화, 소문자, 공백 하나로 축약, 불리언 모드 연산자 제거
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String nfc = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfc.length());
+        boolean space = false;
+        for (int i = 0; i < nfc.length(); i++) {
+            char c = nfc.charAt(i);
+            if (Character.isWhitespace(c) || "\"+-<>()~*@".indexOf(c) >= 0) {
+                space = sb.length() > 0;
+                continue;
+            }
+            if (space) {
+                sb.append(' ');
+                space = false;
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
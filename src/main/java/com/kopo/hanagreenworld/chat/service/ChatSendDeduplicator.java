@@ -0,0 +1,71 @@
+package com.kopo.hanagreenworld.chat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 클라이언트 메시지 ID 기반 재전송 중복 제거
+ *
+ * - (팀, 회원, clientMessageId)마다 짧은 TTL 키를 SET NX로 선점하고 값으로 서버 메시지 ID를 둔다.
+ * - 선점에 실패하면 재전송으로 보고 원래 메시지 ID를 돌려준다. (재연결 후 다른 노드로 와도 같은 키로 걸러짐)
+ * - Redis 장애 시에는 전송을 막지 않는다.
+ */
+@Slf4j
+@Component
+public class ChatSendDeduplicator {
+
+    private static final String CLIENT_MESSAGE_KEY = "chat:team:%d:client:%d:%s";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ttl;
+
+    public ChatSendDeduplicator(StringRedisTemplate stringRedisTemplate,
+                                @Value("${app.chat.dedup.ttl-seconds:300}") long ttlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * clientMessageId 선점: 처음이면 empty, 이미 처리된 재전송이면 원래 메시지 ID
+     */
+    public Optional<String> claim(Long teamId, Long memberId, String clientMessageId, String messageId) {
+        String key = key(teamId, memberId, clientMessageId);
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, messageId, ttl))) {
+                return Optional.empty();
+            }
+            String original = stringRedisTemplate.opsForValue().get(key);
+            if (original == null) {
+                // SET NX와 GET 사이에 만료된 경우: 새 전송으로 다시 선점
+                if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, messageId, ttl))) {
+                    return Optional.empty();
+                }
+                original = stringRedisTemplate.opsForValue().get(key);
+            }
+            return Optional.ofNullable(original);
+        } catch (Exception e) {
+            log.warn("채팅 중복 확인 실패: 팀 ID = {}, 에러 = {}", teamId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 전송 확정 전에 거부/실패한 경우 선점 해제 (재시도가 새 전송으로 처리되도록)
+     */
+    public void release(Long teamId, Long memberId, String clientMessageId) {
+        try {
+            stringRedisTemplate.delete(key(teamId, memberId, clientMessageId));
+        } catch (Exception e) {
+            log.warn("채팅 중복 확인 키 삭제 실패: 팀 ID = {}, 에러 = {}", teamId, e.getMessage());
+        }
+    }
+
+    private String key(Long teamId, Long memberId, String clientMessageId) {
+        return String.format(CLIENT_MESSAGE_KEY, teamId, memberId, clientMessageId);
+    }
+}
@@ -4,29 +4,38 @@ import com.kopo.hanagreenworld.chat.domain.TeamChatMessage;
 import com.kopo.hanagreenworld.chat.domain.TeamChatSettings;
 import com.kopo.hanagreenworld.chat.dto.ChatMessageRequest;
 import com.kopo.hanagreenworld.chat.dto.ChatMessageResponse;
+import com.kopo.hanagreenworld.chat.dto.ChatResyncResponse;
+import com.kopo.hanagreenworld.chat.dto.ChatSendAck;
 import com.kopo.hanagreenworld.chat.dto.PresenceEvent;
 import com.kopo.hanagreenworld.chat.repository.TeamChatMessageRepository;
 import com.kopo.hanagreenworld.chat.repository.TeamChatSettingsRepository;
 import com.kopo.hanagreenworld.common.exception.BusinessException;
 import com.kopo.hanagreenworld.common.exception.ErrorCode;
-import com.kopo.hanagreenworld.common.util.SecurityUtil;
-import com.kopo.hanagreenworld.member.domain.Member;
-import com.kopo.hanagreenworld.member.domain.Team;
+import com.kopo.hanagreenworld.common.websocket.ChatPrincipal;
 import com.kopo.hanagreenworld.member.repository.MemberRepository;
-import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import com.kopo.hanagreenworld.member.service.TeamMembershipCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.UUID;
-import java.util.concurrent.TimeUnit;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 @Slf4j
 @Service
@@ -36,176 +45,408 @@ public class TeamChatService {
 
     private final TeamChatMessageRepository messageRepository;
     private final TeamChatSettingsRepository settingsRepository;
-    private final TeamRepository teamRepository;
     private final MemberRepository memberRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
-
-    private static final String CHAT_MESSAGES_KEY = "chat:team:%d:messages";
-    private static final String ONLINE_USERS_KEY = "chat:team:%d:online";
-    private static final String USER_SESSION_KEY = "chat:user:%d:sessions";
+    private final TeamMembershipCacheService teamMembershipCacheService;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatMessageCodec chatMessageCodec;
+    private final ChatPresenceService chatPresenceService;
+    private final ChatMessageLimiter chatMessageLimiter;
+    private final ChatReadStateService chatReadStateService;
+    private final ChatSendDeduplicator chatSendDeduplicator;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String CHAT_MESSAGES_KEY = "chat:team:%d:recent";
+    private static final String CHAT_MESSAGES_WARM_KEY = "chat:team:%d:recent:warm";
     private static final int MESSAGE_CACHE_SIZE = 100;
-    private static final int MESSAGE_CACHE_TTL_HOURS = 24;
+    private static final Duration MESSAGE_CACHE_TTL = Duration.ofHours(24);
+    private static final int DEFAULT_HISTORY_SIZE = 50;
+    private static final int MAX_HISTORY_SIZE = 100;
+    private static final int MAX_RESYNC_SIZE = 500;
+    private static final int MAX_CLIENT_MESSAGE_ID_LENGTH = 64;
 
     /**
      * 메시지 전송
+     * Redis 기록으로 전송을 확정하고 바로 반환(브로드캐스트)하며, MySQL 저장은 ChatMessageWriter가 비동기로 처리한다.
+     * clientMessageId가 있으면 재전송을 걸러내고, 중복이면 저장/브로드캐스트 없이 원래 메시지 ID로 확인만 돌려준다.
      */
-    @Transactional
-    public ChatMessageResponse sendMessage(ChatMessageRequest request, Member currentMember) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChatSendAck sendMessage(ChatMessageRequest request, ChatPrincipal currentMember) {
         if (currentMember == null) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
 
-        Team team = teamRepository.findById(request.getTeamId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
-
-        // 팀이 활성화되어 있는지 확인
-        if (!team.getIsActive()) {
-            throw new BusinessException(ErrorCode.TEAM_NOT_ACTIVE);
+        // 팀 멤버만 전송 가능 (멤버십 캐시)
+        if (!teamMembershipCacheService.isActiveMember(currentMember.getMemberId(), request.getTeamId())) {
+            throw new BusinessException(ErrorCode.NOT_TEAM_MEMBER);
         }
 
-        // 메시지 생성
-        TeamChatMessage message = TeamChatMessage.builder()
-                .team(team)
-                .sender(currentMember)
-                .messageText(request.getMessageText())
-                .messageType(TeamChatMessage.MessageType.valueOf(request.getMessageType()))
-                .build();
-
-        message = messageRepository.save(message);
-
-        // Redis에 메시지 캐싱
-        String redisMessageId = UUID.randomUUID().toString();
-        message.setRedisMessageId(redisMessageId);
-        messageRepository.save(message);
-
-        ChatMessageResponse response = ChatMessageResponse.from(message);
-        cacheMessage(request.getTeamId(), response);
+        String clientMessageId = StringUtils.hasText(request.getClientMessageId()) ? request.getClientMessageId() : null;
+        // STOMP 페이로드는 Bean Validation을 거치지 않으므로 Redis 키에 쓰기 전에 길이를 직접 확인
+        if (clientMessageId != null && clientMessageId.length() > MAX_CLIENT_MESSAGE_ID_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
 
-        log.info("메시지 전송 완료: 팀 ID = {}, 발신자 = {}, 메시지 ID = {}", 
-                request.getTeamId(), currentMember.getName(), message.getId());
+        TeamChatMessage.MessageType messageType = parseMessageType(request.getMessageType());
+        String messageId = String.valueOf(chatMessageWriter.nextId());
+
+        if (clientMessageId != null) {
+            Optional<String> original = chatSendDeduplicator.claim(
+                    request.getTeamId(), currentMember.getMemberId(), clientMessageId, messageId);
+            if (original.isPresent()) {
+                log.debug("재전송 메시지 무시: 팀 ID = {}, clientMessageId = {}", request.getTeamId(), clientMessageId);
+                return ChatSendAck.builder()
+                        .teamId(request.getTeamId())
+                        .clientMessageId(clientMessageId)
+                        .messageId(original.get())
+                        .duplicate(true)
+                        .build();
+            }
+        }
 
-        return response;
+        // 전송 확정 전에 실패하면 선점을 풀어 재시도가 새 전송으로 처리되도록 한다
+        ChatMessageResponse response;
+        try {
+            // 채팅 활성 여부, 회원별 순간 한도, 팀 일일 한도 (Redis 카운터)
+            chatMessageLimiter.acquire(request.getTeamId(), currentMember.getMemberId());
+
+            ChatMessageResponse draft = ChatMessageResponse.builder()
+                    .messageId(messageId)
+                    .teamId(request.getTeamId())
+                    .senderId(currentMember.getMemberId())
+                    .senderName(currentMember.getDisplayName())
+                    .messageText(request.getMessageText())
+                    .messageType(messageType.name())
+                    .createdAt(LocalDateTime.now())
+                    .isDeleted(false)
+                    .clientMessageId(clientMessageId)
+                    .build();
+
+            response = commit(draft);
+        } catch (RuntimeException e) {
+            if (clientMessageId != null) {
+                chatSendDeduplicator.release(request.getTeamId(), currentMember.getMemberId(), clientMessageId);
+            }
+            throw e;
+        }
+        chatMessageWriter.enqueue(response);
+        chatMessageLimiter.recordSent(request.getTeamId(), response.getMessageId(), response.getCreatedAt());
+
+        log.debug("메시지 전송 완료: 팀 ID = {}, 발신자 = {}, 메시지 ID = {}",
+                request.getTeamId(), currentMember.getDisplayName(), response.getMessageId());
+
+        return ChatSendAck.builder()
+                .teamId(request.getTeamId())
+                .clientMessageId(clientMessageId)
+                .messageId(response.getMessageId())
+                .sequence(response.getSequence())
+                .duplicate(false)
+                .message(response)
+                .build();
     }
 
     /**
-     * 팀 채팅 메시지 조회
+     * 누락 구간 재동기화: afterSequence 이후 메시지를 순번 오름차순으로 반환
+     *
+     * 최근 캐시가 누락 구간의 시작까지 덮으면 캐시만으로, 아니면 (team_id, team_seq) 범위 조회에
+     * 아직 저장 전인 캐시 메시지를 합쳐서 채운다.
+     * lastSequence는 Redis 순번 카운터가 아니라 실제로 찾은 마지막 순번이고, 삭제된 메시지는 보내지 않지만 순번은 채운 것으로 본다.
+     * 한도에 걸렸거나 afterSequence부터 lastSequence 사이에 빈 순번이 있으면 complete=false로 돌려준다.
      */
-    public List<ChatMessageResponse> getTeamMessages(Long teamId, Member currentMember) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChatResyncResponse resync(Long teamId, ChatPrincipal currentMember, Long afterSequence) {
         if (currentMember == null) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
 
-        // 팀 존재 여부 확인
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
+        if (!teamMembershipCacheService.isActiveMember(currentMember.getMemberId(), teamId)) {
+            throw new BusinessException(ErrorCode.NOT_TEAM_MEMBER);
+        }
 
-        // 최근 50개 메시지 조회 (최신순)
-        Pageable pageable = PageRequest.of(0, 50);
-        Page<TeamChatMessage> messages = messageRepository.findByTeamIdAndIsDeletedFalseOrderByCreatedAtDesc(teamId, pageable);
-        
-        // 시간순으로 정렬하여 반환 (오래된 것부터)
-        return messages.getContent().stream()
-                .sorted((a, b) -> a.getCreatedAt().compareTo(b.getCreatedAt()))
-                .map(ChatMessageResponse::from)
-                .toList();
+        long after = afterSequence != null ? Math.max(0L, afterSequence) : 0L;
+        long last = chatReadStateService.currentSequence(teamId);
+        // 순번 -> 메시지 (삭제된 메시지는 null)
+        TreeMap<Long, ChatMessageResponse> gap = new TreeMap<>();
+        if (after < last) {
+            boolean cacheCovers = false;
+            for (ChatMessageResponse message : getCachedMessages(teamId)) {
+                Long seq = message.getSequence();
+                if (seq == null) {
+                    continue;
+                }
+                if (seq <= after + 1) {
+                    cacheCovers = true;
+                }
+                if (seq > after) {
+                    gap.put(seq, Boolean.TRUE.equals(message.getIsDeleted()) ? null : message);
+                }
+            }
+            if (!cacheCovers) {
+                // 한 건 더 조회해서 이어 받을 구간이 남았는지 판단
+                for (TeamChatMessage message : messageRepository.findMessagesAfterSequence(
+                        teamId, after, PageRequest.of(0, MAX_RESYNC_SIZE + 1))) {
+                    if (!gap.containsKey(message.getTeamSeq())) {
+                        gap.put(message.getTeamSeq(),
+                                Boolean.TRUE.equals(message.getIsDeleted()) ? null : ChatMessageResponse.from(message));
+                    }
+                }
+            }
+        }
+
+        List<ChatMessageResponse> messages = new ArrayList<>();
+        long covered = after;
+        boolean contiguous = true;
+        boolean truncated = false;
+        for (var entry : gap.entrySet()) {
+            if (entry.getValue() != null && messages.size() == MAX_RESYNC_SIZE) {
+                truncated = true;
+                break;
+            }
+            if (entry.getKey() != covered + 1) {
+                contiguous = false;
+            }
+            covered = entry.getKey();
+            if (entry.getValue() != null) {
+                messages.add(entry.getValue());
+            }
+        }
+        return ChatResyncResponse.builder()
+                .teamId(teamId)
+                .afterSequence(after)
+                .lastSequence(covered)
+                .messages(messages)
+                .complete(contiguous && !truncated)
+                .build();
     }
 
     /**
-     * 팀 참여 (온라인 상태 추가)
+     * 팀 채팅 메시지 조회 (오래된 것부터)
+     *
+     * 최근 구간은 Redis 캐시에서, 캐시 범위를 벗어난 과거 구간은 (team_id, created_at) 인덱스 keyset 조회로 채운다.
+     * before: 이 메시지 ID보다 이전 메시지만 조회 (다음 페이지 커서)
      */
-    @Transactional
-    public void joinTeam(Long teamId, Member currentMember) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ChatMessageResponse> getTeamMessages(Long teamId, ChatPrincipal currentMember, Long before, Integer size) {
         if (currentMember == null) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
 
-        String onlineKey = String.format(ONLINE_USERS_KEY, teamId);
-        String sessionKey = String.format(USER_SESSION_KEY, currentMember.getMemberId());
+        if (!teamMembershipCacheService.isActiveMember(currentMember.getMemberId(), teamId)) {
+            throw new BusinessException(ErrorCode.NOT_TEAM_MEMBER);
+        }
 
-        // Redis에 온라인 상태 추가
-        redisTemplate.opsForSet().add(onlineKey, currentMember.getMemberId().toString());
-        redisTemplate.expire(onlineKey, 1, TimeUnit.HOURS);
+        int limit = size == null || size <= 0 ? DEFAULT_HISTORY_SIZE : Math.min(size, MAX_HISTORY_SIZE);
+        List<ChatMessageResponse> cached = getCachedMessages(teamId);
+
+        List<ChatMessageResponse> page = new ArrayList<>(limit);
+        Set<String> seen = new HashSet<>();
+        for (ChatMessageResponse message : cached) {
+            if (page.size() == limit) {
+                break;
+            }
+            if (before != null && Long.parseLong(message.getMessageId()) >= before) {
+                continue;
+            }
+            if (!Boolean.TRUE.equals(message.getIsDeleted()) && seen.add(message.getMessageId())) {
+                page.add(message);
+            }
+        }
 
-        // 사용자 세션 정보 저장
-        redisTemplate.opsForValue().set(sessionKey, teamId.toString(), 1, TimeUnit.HOURS);
+        if (page.size() < limit) {
+            // 캐시 범위보다 과거 구간
+            LocalDateTime cursorAt;
+            long cursorId;
+            if (!page.isEmpty()) {
+                ChatMessageResponse oldest = page.get(page.size() - 1);
+                cursorAt = oldest.getCreatedAt();
+                cursorId = Long.parseLong(oldest.getMessageId());
+            } else if (before != null) {
+                cursorId = before;
+                cursorAt = cached.stream()
+                        .filter(message -> message.getMessageId().equals(before.toString()))
+                        .map(ChatMessageResponse::getCreatedAt)
+                        .findFirst()
+                        .or(() -> messageRepository.findCreatedAtById(before))
+                        .orElse(LocalDateTime.now());
+            } else {
+                cursorAt = LocalDateTime.now().plusDays(1);
+                cursorId = Long.MAX_VALUE;
+            }
+            page.addAll(loadOlderMessages(teamId, cursorAt, cursorId, limit - page.size()));
+        }
 
-        log.info("팀 참여: 팀 ID = {}, 사용자 = {}", teamId, currentMember.getName());
+        // 시간순으로 반환 (오래된 것부터)
+        Collections.reverse(page);
+        return page;
     }
 
     /**
-     * 팀 떠나기 (온라인 상태 제거)
+     * 팀 참여 (세션 접속 현황 등록)
      */
-    @Transactional
-    public void leaveTeam(Long teamId) {
-        Member currentMember = SecurityUtil.getCurrentMember();
+    public void joinTeam(Long teamId, ChatPrincipal currentMember, String sessionId) {
         if (currentMember == null) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
 
-        String onlineKey = String.format(ONLINE_USERS_KEY, teamId);
-        String sessionKey = String.format(USER_SESSION_KEY, currentMember.getMemberId());
+        if (!teamMembershipCacheService.isActiveMember(currentMember.getMemberId(), teamId)) {
+            throw new BusinessException(ErrorCode.NOT_TEAM_MEMBER);
+        }
 
-        // Redis에서 온라인 상태 제거
-        redisTemplate.opsForSet().remove(onlineKey, currentMember.getMemberId().toString());
-        redisTemplate.delete(sessionKey);
+        chatPresenceService.join(sessionId, teamId, currentMember);
+        log.debug("팀 참여: 팀 ID = {}, 사용자 = {}", teamId, currentMember.getDisplayName());
+    }
 
-        log.info("팀 떠나기: 팀 ID = {}, 사용자 = {}", teamId, currentMember.getName());
+    /**
+     * 팀 떠나기 (세션 접속 현황 제거, 같은 회원의 다른 세션은 유지)
+     */
+    public void leaveTeam(Long teamId, String sessionId) {
+        chatPresenceService.leave(sessionId);
+        log.debug("팀 떠나기: 팀 ID = {}, 세션 ID = {}", teamId, sessionId);
     }
 
     /**
      * 온라인 사용자 목록 조회
      */
     public List<Long> getOnlineUsers(Long teamId) {
-        String onlineKey = String.format(ONLINE_USERS_KEY, teamId);
-        return redisTemplate.opsForSet().members(onlineKey)
-                .stream()
-                .map(obj -> Long.valueOf(obj.toString()))
-                .toList();
+        return chatPresenceService.getOnlineMembers(teamId);
     }
 
     /**
-     * 메시지를 Redis에 캐싱
+     * 전송 확정 (스크립트 한 번): 팀 순번 발급, 대기 해시 기록, 최신 메시지 캐시 추가, 발신자 읽음 위치 전진
+     * 팀 순번 키가 없으면 DB 하한으로 만든 뒤 한 번 더 시도한다. (Redis 실패 시 예외 전파 -> 전송 실패)
      */
-    private void cacheMessage(Long teamId, ChatMessageResponse message) {
-        String messagesKey = String.format(CHAT_MESSAGES_KEY, teamId);
-        
-        // 최근 메시지 리스트에 추가
-        redisTemplate.opsForList().leftPush(messagesKey, message);
-        
-        // 리스트 크기 제한
-        redisTemplate.opsForList().trim(messagesKey, 0, MESSAGE_CACHE_SIZE - 1);
-        
-        // TTL 설정
-        redisTemplate.expire(messagesKey, MESSAGE_CACHE_TTL_HOURS, TimeUnit.HOURS);
+    private ChatMessageResponse commit(ChatMessageResponse draft) {
+        Long teamId = draft.getTeamId();
+        Long senderId = draft.getSenderId();
+        List<String> keys = List.of(
+                String.format(ChatReadStateService.TEAM_SEQ_KEY, teamId),
+                ChatMessageWriter.PENDING_KEY,
+                String.format(CHAT_MESSAGES_KEY, teamId),
+                String.format(CHAT_MESSAGES_WARM_KEY, teamId),
+                String.format(ChatReadStateService.READ_KEY, senderId),
+                ChatReadStateService.DIRTY_KEY);
+        Object[] args = {
+                chatMessageCodec.encode(draft),
+                draft.getMessageId(),
+                Integer.toString(MESSAGE_CACHE_SIZE),
+                Long.toString(MESSAGE_CACHE_TTL.toMillis()),
+                teamId.toString(),
+                Long.toString(ChatReadStateService.READ_TTL.toMillis()),
+                senderId + ":" + teamId};
+
+        Long sequence = stringRedisTemplate.execute(ChatRedisScripts.COMMIT_SEND, keys, args);
+        if (sequence != null && sequence < 0) {
+            chatReadStateService.ensureSequence(teamId);
+            sequence = stringRedisTemplate.execute(ChatRedisScripts.COMMIT_SEND, keys, args);
+        }
+        if (sequence == null || sequence < 0) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+        return draft.withSequence(sequence);
     }
 
     /**
-     * 캐시된 메시지 조회
+     * 캐시된 메시지 조회 (최신순, 미적재 상태면 DB에서 채움)
      */
     public List<ChatMessageResponse> getCachedMessages(Long teamId) {
         String messagesKey = String.format(CHAT_MESSAGES_KEY, teamId);
-        List<Object> cachedMessages = redisTemplate.opsForList().range(messagesKey, 0, -1);
-        
-        if (cachedMessages == null || cachedMessages.isEmpty()) {
+        String warmKey = String.format(CHAT_MESSAGES_WARM_KEY, teamId);
+        try {
+            // 리스트 조회와 적재 표시 확인을 한 번의 왕복으로
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.listCommands().lRange(messagesKey.getBytes(StandardCharsets.UTF_8), 0, -1);
+                connection.keyCommands().exists(warmKey.getBytes(StandardCharsets.UTF_8));
+                return null;
+            });
+            @SuppressWarnings("unchecked")
+            List<ChatMessageResponse> cached = decode((List<String>) results.get(0));
+            if (Boolean.TRUE.equals(results.get(1))) {
+                return cached;
+            }
+            return warmCache(teamId, cached);
+        } catch (Exception e) {
+            log.warn("채팅 캐시 조회 실패, DB 조회로 대체: 팀 ID = {}, 에러 = {}", teamId, e.getMessage());
             return List.of();
         }
+    }
+
+    /**
+     * 캐시 적재: 전송 시 먼저 쌓인 최신 메시지 뒤(과거 방향)로 DB 메시지를 덧붙인다.
+     * 앞쪽 LPUSH와 겹치지 않으므로 동시 전송 중에도 안전하고, 적재 표시는 한 노드만 선점한다.
+     */
+    private List<ChatMessageResponse> warmCache(Long teamId, List<ChatMessageResponse> cached) {
+        String messagesKey = String.format(CHAT_MESSAGES_KEY, teamId);
+        String warmKey = String.format(CHAT_MESSAGES_WARM_KEY, teamId);
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(warmKey, "1", MESSAGE_CACHE_TTL))) {
+            return cached;
+        }
+
+        int capacity = MESSAGE_CACHE_SIZE - cached.size();
+        if (capacity <= 0) {
+            return cached;
+        }
+        List<ChatMessageResponse> older;
+        if (cached.isEmpty()) {
+            older = loadOlderMessages(teamId, LocalDateTime.now().plusDays(1), Long.MAX_VALUE, capacity);
+        } else {
+            ChatMessageResponse oldest = cached.get(cached.size() - 1);
+            older = loadOlderMessages(teamId, oldest.getCreatedAt(), Long.parseLong(oldest.getMessageId()), capacity);
+        }
+        if (!older.isEmpty()) {
+            stringRedisTemplate.opsForList().rightPushAll(messagesKey,
+                    older.stream().map(chatMessageCodec::encode).toList());
+            stringRedisTemplate.expire(messagesKey, MESSAGE_CACHE_TTL);
+        }
+        log.debug("채팅 캐시 적재: 팀 ID = {}, {}건", teamId, older.size());
+
+        List<ChatMessageResponse> result = new ArrayList<>(cached);
+        result.addAll(older);
+        return result;
+    }
 
-        return cachedMessages.stream()
-                .map(obj -> (ChatMessageResponse) obj)
+    /**
+     * 커서 이전 메시지 keyset 조회 (최신순)
+     */
+    private List<ChatMessageResponse> loadOlderMessages(Long teamId, LocalDateTime cursorAt, long cursorId, int size) {
+        return messageRepository.findOlderMessages(teamId, cursorAt, cursorId, PageRequest.of(0, size)).stream()
+                .map(ChatMessageResponse::from)
                 .toList();
     }
 
+    private void evictCachedMessage(Long teamId, Long messageId) {
+        try {
+            stringRedisTemplate.execute(ChatRedisScripts.REMOVE_RECENT,
+                    List.of(String.format(CHAT_MESSAGES_KEY, teamId)), messageId.toString());
+        } catch (Exception e) {
+            log.warn("채팅 캐시에서 삭제 메시지 제거 실패: 메시지 ID = {}, 에러 = {}", messageId, e.getMessage());
+        }
+    }
+
+    private List<ChatMessageResponse> decode(List<String> raw) {
+        if (raw == null || raw.isEmpty()) {
+            return List.of();
+        }
+        List<ChatMessageResponse> messages = new ArrayList<>(raw.size());
+        for (String json : raw) {
+            ChatMessageResponse message = chatMessageCodec.decode(json);
+            if (message != null) {
+                messages.add(message);
+            }
+        }
+        return messages;
+    }
+
     /**
      * 메시지 삭제
      */
     @Transactional
-    public void deleteMessage(Long messageId) {
-        Member currentMember = SecurityUtil.getCurrentMember();
+    public void deleteMessage(Long messageId, ChatPrincipal currentMember) {
         if (currentMember == null) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
 
+        // 아직 write-behind 큐에 있는 메시지면 먼저 저장
         TeamChatMessage message = messageRepository.findById(messageId)
+                .or(() -> chatMessageWriter.persistNow(messageId) ? messageRepository.findById(messageId) : Optional.empty())
                 .orElseThrow(() -> new BusinessException(ErrorCode.MESSAGE_NOT_FOUND));
 
         // 본인 메시지만 삭제 가능
@@ -215,7 +456,22 @@ public class TeamChatService {
 
         message.delete();
         messageRepository.save(message);
+        Long teamId = message.getTeam().getId();
+        afterCommit(() -> evictCachedMessage(teamId, messageId));
 
-        log.info("메시지 삭제: 메시지 ID = {}, 삭제자 = {}", messageId, currentMember.getName());
+        log.debug("메시지 삭제: 메시지 ID = {}, 삭제자 = {}", messageId, currentMember.getDisplayName());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 }
@@ -0,0 +1,67 @@
+package com.kopo.hanagreenworld.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 로컬 캐시 무효화 브로드캐스트 (Redis Pub/Sub)
+ *
+ * 메시지 형식: "{cacheName}|{key}"
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus implements MessageListener {
+
+    private static final String CHANNEL = "cache:invalidation";
+    private static final String SEPARATOR = "|";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(StringRedisTemplate stringRedisTemplate,
+                                RedisMessageListenerContainer listenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 캐시 무효화 핸들러 등록 (캐시 이름당 하나)
+     */
+    public void subscribe(String cacheName, Consumer<String> handler) {
+        handlers.put(cacheName, handler);
+    }
+
+    /**
+     * 모든 노드에 무효화 전파 (자기 자신 포함)
+     */
+    public void publish(String cacheName, String key) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, cacheName + SEPARATOR + key);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 전파 실패: cache = {}, key = {}, 에러 = {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int idx = body.indexOf(SEPARATOR);
+        if (idx < 0) {
+            return;
+        }
+        Consumer<String> handler = handlers.get(body.substring(0, idx));
+        if (handler != null) {
+            handler.accept(body.substring(idx + 1));
+        }
+    }
+}
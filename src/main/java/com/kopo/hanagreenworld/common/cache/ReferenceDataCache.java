@@ -0,0 +1,165 @@
+package com.kopo.hanagreenworld.common.cache;
+
+import com.kopo.hanagreenworld.activity.domain.Challenge;
+import com.kopo.hanagreenworld.activity.domain.Quiz;
+import com.kopo.hanagreenworld.activity.repository.ChallengeRepository;
+import com.kopo.hanagreenworld.activity.repository.QuizRepository;
+import com.kopo.hanagreenworld.member.domain.Achievement;
+import com.kopo.hanagreenworld.member.repository.AchievementRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기준 데이터(챌린지, 업적, 퀴즈) 불변 스냅샷 캐시
+ *
+ * 작고 거의 바뀌지 않는 테이블이므로 전체를 한 번에 읽어 불변 스냅샷으로 교체한다.
+ * 관리자 수정 시 invalidate()로 모든 노드에 무효화를 전파하고, 다음 조회 때 한 번만 다시 읽는다.
+ * 스냅샷의 엔티티는 준영속 상태이므로 읽기 전용으로만 사용해야 한다.
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+    private static final String CACHE_NAME = "reference-data";
+
+    private final ChallengeRepository challengeRepository;
+    private final AchievementRepository achievementRepository;
+    private final QuizRepository quizRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public ReferenceDataCache(ChallengeRepository challengeRepository,
+                              AchievementRepository achievementRepository,
+                              QuizRepository quizRepository,
+                              CacheInvalidationBus invalidationBus) {
+        this.challengeRepository = challengeRepository;
+        this.achievementRepository = achievementRepository;
+        this.quizRepository = quizRepository;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(CACHE_NAME, key -> generation.incrementAndGet());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            current();
+        } catch (Exception e) {
+            log.error("기준 데이터 캐시 초기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    public List<Challenge> getActiveChallenges() {
+        return current().activeChallenges;
+    }
+
+    /**
+     * 현재 진행 중인 대표 챌린지 (활성 챌린지 중 첫 번째)
+     */
+    public Challenge getCurrentChallenge() {
+        List<Challenge> challenges = current().activeChallenges;
+        return challenges.isEmpty() ? null : challenges.get(0);
+    }
+
+    public Optional<Challenge> findActiveChallenge(Long challengeId) {
+        return Optional.ofNullable(current().challengesById.get(challengeId));
+    }
+
+    public List<Achievement> getActiveAchievements() {
+        return current().activeAchievements;
+    }
+
+    public Optional<Quiz> findQuiz(Long quizId) {
+        return Optional.ofNullable(current().quizzesById.get(quizId));
+    }
+
+    public Optional<Quiz> findRandomQuiz() {
+        List<Quiz> quizzes = current().quizzes;
+        if (quizzes.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(quizzes.get(ThreadLocalRandom.current().nextInt(quizzes.size())));
+    }
+
+    /**
+     * 모든 노드의 스냅샷 무효화 (트랜잭션 중이면 커밋 이후)
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishInvalidation();
+                }
+            });
+        } else {
+            publishInvalidation();
+        }
+    }
+
+    private void publishInvalidation() {
+        generation.incrementAndGet();
+        invalidationBus.publish(CACHE_NAME, "*");
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        long gen = generation.get();
+        if (current != null && current.generation == gen) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            gen = generation.get();
+            if (current == null || current.generation != gen) {
+                // 로딩 중 무효화가 들어오면 generation이 달라져 다음 조회에서 다시 읽는다
+                current = load(gen);
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private Snapshot load(long gen) {
+        List<Challenge> challenges = List.copyOf(challengeRepository.findByIsActiveTrue());
+        List<Achievement> achievements = List.copyOf(achievementRepository.findByIsActiveTrue());
+        List<Quiz> quizzes = List.copyOf(quizRepository.findAll());
+
+        log.info("기준 데이터 캐시 적재: 챌린지 {}개, 업적 {}개, 퀴즈 {}개",
+                challenges.size(), achievements.size(), quizzes.size());
+        return new Snapshot(gen, challenges, achievements, quizzes);
+    }
+
+    private static final class Snapshot {
+        private final long generation;
+        private final List<Challenge> activeChallenges;
+        private final Map<Long, Challenge> challengesById;
+        private final List<Achievement> activeAchievements;
+        private final List<Quiz> quizzes;
+        private final Map<Long, Quiz> quizzesById;
+
+        private Snapshot(long generation, List<Challenge> activeChallenges,
+                         List<Achievement> activeAchievements, List<Quiz> quizzes) {
+            this.generation = generation;
+            this.activeChallenges = activeChallenges;
+            this.challengesById = activeChallenges.stream()
+                    .collect(Collectors.toUnmodifiableMap(Challenge::getId, Function.identity()));
+            this.activeAchievements = activeAchievements;
+            this.quizzes = quizzes;
+            this.quizzesById = quizzes.stream()
+                    .collect(Collectors.toUnmodifiableMap(Quiz::getId, Function.identity()));
+        }
+    }
+}
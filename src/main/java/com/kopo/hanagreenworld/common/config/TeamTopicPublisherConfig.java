@@ -0,0 +1,28 @@
+package com.kopo.hanagreenworld.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kopo.hanagreenworld.common.websocket.TeamTopicPublisher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.MessageChannel;
+
+/**
+ * 팀 토픽 발행 설정
+ *
+ * app.websocket.coalesce.enabled=true 이면 팀 토픽 이벤트를 tick(기본 20ms) 단위로 묶어 한 프레임으로 보낸다.
+ */
+@Configuration
+public class TeamTopicPublisherConfig {
+
+    @Bean
+    public TeamTopicPublisher teamTopicPublisher(@Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+                                                 ObjectMapper objectMapper,
+                                                 @Value("${app.websocket.coalesce.enabled:false}") boolean coalesce,
+                                                 @Value("${app.websocket.coalesce.max-batch-size:200}") int maxBatchSize) {
+        // brokerChannel은 WebSocket 설정이 끝난 뒤 생성되므로 지연 주입
+        return new TeamTopicPublisher(brokerChannel, objectMapper, coalesce, maxBatchSize);
+    }
+}
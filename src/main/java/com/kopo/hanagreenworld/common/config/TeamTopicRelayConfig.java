@@ -0,0 +1,32 @@
+package com.kopo.hanagreenworld.common.config;
+
+import com.kopo.hanagreenworld.common.websocket.RedisRelayTransport;
+import com.kopo.hanagreenworld.common.websocket.TeamTopicRelay;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageChannel;
+
+/**
+ * 다중 노드 STOMP 팀 토픽 중계 설정
+ *
+ * app.websocket.broker-mode=redis 이면 각 노드의 SimpleBroker는 그대로 두고
+ * 팀 토픽 발행만 Redis Pub/Sub으로 다른 노드에 중계한다. (기본값 simple = 단일 노드)
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.websocket.broker-mode", havingValue = "redis")
+public class TeamTopicRelayConfig {
+
+    @Bean
+    public TeamTopicRelay teamTopicRelay(StringRedisTemplate stringRedisTemplate,
+                                         RedisMessageListenerContainer redisMessageListenerContainer,
+                                         @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel) {
+        // brokerChannel은 WebSocketConfig가 이 빈을 참조하며 생성되므로 지연 주입
+        return new TeamTopicRelay(
+                new RedisRelayTransport(stringRedisTemplate, redisMessageListenerContainer), brokerChannel);
+    }
+}
@@ -1,25 +1,85 @@
 package com.kopo.hanagreenworld.common.config;
 
+import com.kopo.hanagreenworld.chat.service.ChatPresenceService;
 import com.kopo.hanagreenworld.common.interceptor.JwtChannelInterceptor;
+import com.kopo.hanagreenworld.common.websocket.TeamTopicRelay;
+import com.kopo.hanagreenworld.common.websocket.WebSocketFlowControl;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtChannelInterceptor jwtChannelInterceptor;
+    // app.websocket.broker-mode=redis 일 때만 존재 (다중 노드 팀 토픽 중계)
+    private final ObjectProvider<TeamTopicRelay> teamTopicRelay;
+    private final ChatPresenceService chatPresenceService;
+    private final WebSocketFlowControl webSocketFlowControl;
+
+    @Value("${app.websocket.heartbeat-ms:10000}")
+    private long heartbeatMs;
+
+    // 채널 실행기: virtual-threads=true 이고 JDK 21 이상이면 가상 스레드(동시 실행 수 제한), 아니면 bounded 스레드 풀
+    @Value("${app.websocket.virtual-threads:false}")
+    private boolean virtualThreads;
+    @Value("${app.websocket.virtual-threads-concurrency:2000}")
+    private int virtualThreadsConcurrency;
+    @Value("${app.websocket.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+    @Value("${app.websocket.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+    @Value("${app.websocket.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+    @Value("${app.websocket.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+    @Value("${app.websocket.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+    @Value("${app.websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    // 전송 계층 한도: 세션 송신 버퍼/시간을 넘으면 세션 종료, 수신 메시지 크기 제한
+    @Value("${app.websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+    @Value("${app.websocket.transport.send-buffer-size-kb:512}")
+    private int sendBufferSizeKb;
+    @Value("${app.websocket.transport.message-size-kb:64}")
+    private int messageSizeKb;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트가 구독할 수 있는 destination prefix
-        config.enableSimpleBroker("/topic", "/queue");
+        // 하트비트로 끊긴 연결을 감지하고 접속 현황을 갱신한다
+        config.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                .setTaskScheduler(messageBrokerTaskScheduler);
+        TeamTopicRelay relay = teamTopicRelay.getIfAvailable();
+        if (relay != null) {
+            config.configureBrokerChannel().interceptors(relay.brokerInterceptor());
+        }
         
         // 클라이언트가 메시지를 보낼 때 사용할 destination prefix
         config.setApplicationDestinationPrefixes("/app");
@@ -43,7 +103,47 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         // JWT 인증 인터셉터 추가
-        registration.interceptors(jwtChannelInterceptor);
+        registration.interceptors(jwtChannelInterceptor, chatPresenceService.activityInterceptor());
+        TeamTopicRelay relay = teamTopicRelay.getIfAvailable();
+        if (relay != null) {
+            // 인증을 통과한 구독만 추적하도록 JWT 인터셉터 뒤에 등록
+            registration.interceptors(relay.inboundInterceptor());
+        }
+        configureExecutor(registration, "ws-inbound-", inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 세션별 미전송 프레임 한도 (느린 클라이언트)
+        registration.interceptors(webSocketFlowControl.outboundInterceptor());
+        configureExecutor(registration, "ws-outbound-", outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeKb * 1024)
+                .setMessageSizeLimit(messageSizeKb * 1024)
+                .addDecoratorFactory(webSocketFlowControl.decoratorFactory());
+    }
+
+    private void configureExecutor(ChannelRegistration registration, String threadNamePrefix,
+                                   int corePoolSize, int maxPoolSize, int queueCapacity) {
+        if (virtualThreads && Runtime.version().feature() >= 21) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            // 한도를 넘으면 호출 스레드가 대기하므로 자연스럽게 역압이 걸린다
+            executor.setConcurrencyLimit(virtualThreadsConcurrency);
+            registration.executor(executor);
+            return;
+        }
+        if (virtualThreads) {
+            log.warn("가상 스레드는 JDK 21 이상에서만 사용 가능하여 스레드 풀을 사용합니다: {}", threadNamePrefix);
+        }
+        registration.taskExecutor()
+                .corePoolSize(corePoolSize)
+                .maxPoolSize(maxPoolSize)
+                .queueCapacity(queueCapacity);
     }
 }
 
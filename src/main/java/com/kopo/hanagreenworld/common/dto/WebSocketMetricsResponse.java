@@ -0,0 +1,20 @@
+package com.kopo.hanagreenworld.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class WebSocketMetricsResponse {
+    private int sessions;
+    private long pendingFrames; // 전체 세션 미전송 프레임 수
+    private int maxSessionPendingFrames;
+    private int peakSessionPendingFrames;
+    private long droppedFrames;
+    private long slowConsumerDisconnects;
+    private String slowConsumerPolicy;
+    private int inboundQueueDepth; // -1: 큐 없음(가상 스레드)
+    private int inboundActiveThreads;
+    private int outboundQueueDepth;
+    private int outboundActiveThreads;
+}
@@ -51,6 +51,8 @@ public enum ErrorCode {
     TEAM_NOT_ACTIVE(400, "TM_005", "비활성화된 팀입니다."),
     TEAM_FULL(400, "TM_006", "팀원 수가 가득 찼습니다."),
     TEAM_NAME_DUPLICATED(400, "TM_007", "이미 사용 중인 팀 이름입니다."),
+    NOT_TEAM_MEMBER(403, "TM_008", "해당 팀의 멤버가 아닙니다."),
+    INVITE_CODE_RATE_LIMITED(429, "TM_009", "초대코드 확인 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
     UNAUTHORIZED(401, "AU_007", "인증이 필요합니다."),
 
     // 채팅 관련 에러
@@ -58,6 +60,7 @@ public enum ErrorCode {
     MESSAGE_NOT_FOUND(400, "CH_002", "메시지를 찾을 수 없습니다."),
     MESSAGE_TOO_LONG(400, "CH_003", "메시지가 너무 깁니다."),
     DAILY_MESSAGE_LIMIT_EXCEEDED(400, "CH_004", "일일 메시지 한도를 초과했습니다."),
+    CHAT_RATE_LIMITED(429, "CH_005", "메시지를 너무 빠르게 보내고 있습니다. 잠시 후 다시 시도해주세요."),
     ;
 
     private final int status;
@@ -1,8 +1,9 @@
 package com.kopo.hanagreenworld.common.interceptor;
 
 import com.kopo.hanagreenworld.common.util.JwtUtil;
-import com.kopo.hanagreenworld.member.domain.Member;
-import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import com.kopo.hanagreenworld.common.websocket.ChatPrincipal;
+import com.kopo.hanagreenworld.member.dto.MemberDisplay;
+import com.kopo.hanagreenworld.member.service.MemberDisplayCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -17,153 +18,110 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * WebSocket STOMP 메시지에서 JWT 토큰을 처리하는 인터셉터
+ *
+ * CONNECT에서만 토큰을 검증하고 불변 ChatPrincipal을 만들어 세션에 둔다. (회원 표시 정보는 캐시에서)
+ * 이후 프레임은 세션의 인증 객체를 SecurityContext에 되돌려 놓기만 하며, 정상 경로에서는 로그를 남기지 않는다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtChannelInterceptor implements ChannelInterceptor {
 
+    private static final String AUTHENTICATION_ATTRIBUTE = "USER_AUTHENTICATION";
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final JwtUtil jwtUtil;
-    private final MemberRepository memberRepository;
+    private final MemberDisplayCache memberDisplayCache;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
-        
-        if (accessor != null) {
-            log.info("🔍 STOMP 메시지 처리: Command = {}, Destination = {}, SessionId = {}", 
-                accessor.getCommand(), accessor.getDestination(), accessor.getSessionId());
-            
-            if (StompCommand.CONNECT.equals(accessor.getCommand())) {
-                log.info("🔗 CONNECT 명령 처리 시작");
-                // CONNECT 시 JWT 토큰으로 인증하고 세션에 저장
-                handleConnect(accessor);
-            } else if (StompCommand.SEND.equals(accessor.getCommand())) {
-                log.info("📤 SEND 명령 처리 시작");
-                // SEND 시 세션에서 인증 정보 복원
-                handleSend(accessor);
-            }
-        } else {
-            log.warn("⚠️ StompHeaderAccessor가 null입니다!");
+        if (accessor == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (StompCommand.CONNECT.equals(command)) {
+            handleConnect(accessor);
+        } else if (StompCommand.SEND.equals(command) || StompCommand.SUBSCRIBE.equals(command)) {
+            restoreAuthentication(accessor);
         }
-        
         return message;
     }
 
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        // 인바운드 스레드는 풀에서 재사용되므로 다른 세션의 인증이 남지 않도록 비운다
+        SecurityContextHolder.clearContext();
+    }
+
     /**
      * CONNECT 명령 처리: JWT 토큰으로 인증하고 세션에 저장
      */
     private void handleConnect(StompHeaderAccessor accessor) {
-        String token = getTokenFromHeaders(accessor);
-        
-        if (StringUtils.hasText(token)) {
-            log.debug("WebSocket CONNECT - JWT 토큰 발견: {}", token.substring(0, Math.min(20, token.length())) + "...");
-            
-            if (jwtUtil.validateToken(token)) {
-                try {
-                    Long memberId = jwtUtil.getMemberIdFromToken(token);
-                    Member member = memberRepository.findById(memberId).orElse(null);
-                    
-                    if (member != null && member.getStatus().name().equals("ACTIVE")) {
-                        UsernamePasswordAuthenticationToken authentication = 
-                            new UsernamePasswordAuthenticationToken(
-                                member,
-                                null,
-                                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + member.getRole().name()))
-                            );
-                        
-                        // 세션에 인증 정보 저장
-                        accessor.getSessionAttributes().put("SPRING_SECURITY_CONTEXT", SecurityContextHolder.createEmptyContext());
-                        accessor.getSessionAttributes().put("USER_AUTHENTICATION", authentication);
-                        accessor.getSessionAttributes().put("MEMBER_ID", memberId);
-                        accessor.getSessionAttributes().put("MEMBER", member);
-                        
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                        accessor.setUser(authentication);
-                        
-                        log.info("WebSocket CONNECT 인증 성공: 사용자 ID = {}, 이름 = {}, 세션 ID = {}", 
-                            memberId, member.getName(), accessor.getSessionId());
-                    } else {
-                        log.warn("WebSocket CONNECT 인증 실패: 유효하지 않은 사용자 (ID: {})", memberId);
-                    }
-                } catch (Exception e) {
-                    log.error("WebSocket CONNECT JWT 토큰 처리 중 오류 발생: {}", e.getMessage());
-                }
-            } else {
-                log.warn("WebSocket CONNECT 인증 실패: 유효하지 않은 JWT 토큰");
-            }
-        } else {
-            log.warn("WebSocket CONNECT에 JWT 토큰이 없습니다");
+        UsernamePasswordAuthenticationToken authentication = authenticate(getTokenFromHeaders(accessor));
+        if (authentication == null) {
+            log.warn("WebSocket CONNECT 인증 실패: 세션 ID = {}", accessor.getSessionId());
+            return;
         }
+
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes != null) {
+            attributes.put(AUTHENTICATION_ATTRIBUTE, authentication);
+            attributes.put(ChatPrincipal.SESSION_ATTRIBUTE, authentication.getPrincipal());
+        }
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        accessor.setUser(authentication);
+        log.debug("WebSocket CONNECT 인증 성공: 사용자 ID = {}, 세션 ID = {}",
+                authentication.getName(), accessor.getSessionId());
     }
 
     /**
-     * SEND 명령 처리: 세션에서 인증 정보 복원
+     * SEND/SUBSCRIBE 처리: 세션에서 인증 정보 복원 (없으면 헤더 토큰으로 한 번 더 시도)
      */
-    private void handleSend(StompHeaderAccessor accessor) {
-        String sessionId = accessor.getSessionId();
-        
-        // 세션에서 인증 정보 가져오기
-        Object authObj = accessor.getSessionAttributes().get("USER_AUTHENTICATION");
-        Object memberObj = accessor.getSessionAttributes().get("MEMBER");
-        Object memberIdObj = accessor.getSessionAttributes().get("MEMBER_ID");
-        
-        if (authObj instanceof UsernamePasswordAuthenticationToken && memberObj instanceof Member) {
-            UsernamePasswordAuthenticationToken authentication = (UsernamePasswordAuthenticationToken) authObj;
-            Member member = (Member) memberObj;
-            Long memberId = (Long) memberIdObj;
-            
-            // SecurityContext에 인증 정보 설정
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            
-            log.info("WebSocket SEND 인증 복원 성공: 사용자 ID = {}, 이름 = {}, 세션 ID = {}", 
-                memberId, member.getName(), sessionId);
+    private void restoreAuthentication(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        Object authentication = attributes != null ? attributes.get(AUTHENTICATION_ATTRIBUTE) : null;
+        if (authentication instanceof UsernamePasswordAuthenticationToken token) {
+            SecurityContextHolder.getContext().setAuthentication(token);
+            return;
+        }
+
+        UsernamePasswordAuthenticationToken fallback = authenticate(getTokenFromHeaders(accessor));
+        if (fallback != null) {
+            SecurityContextHolder.getContext().setAuthentication(fallback);
         } else {
-            log.warn("WebSocket SEND 인증 실패: 세션에 인증 정보가 없습니다. 세션 ID = {}", sessionId);
-            
-            // 헤더에서 토큰을 다시 시도
-            String token = getTokenFromHeaders(accessor);
-            if (StringUtils.hasText(token)) {
-                log.info("WebSocket SEND - 헤더에서 토큰 재시도: {}", token.substring(0, Math.min(20, token.length())) + "...");
-                handleTokenAuthentication(accessor, token);
-            }
+            log.debug("WebSocket {} 인증 정보 없음: 세션 ID = {}", accessor.getCommand(), accessor.getSessionId());
         }
     }
 
     /**
-     * 토큰으로 직접 인증 처리 (SEND 시 fallback)
+     * 토큰 검증 후 인증 객체 생성 (토큰의 회원 ID + 표시 정보 캐시, 엔티티 조회 없음)
      */
-    private void handleTokenAuthentication(StompHeaderAccessor accessor, String token) {
-        if (jwtUtil.validateToken(token)) {
-            try {
-                Long memberId = jwtUtil.getMemberIdFromToken(token);
-                Member member = memberRepository.findById(memberId).orElse(null);
-                
-                if (member != null && member.getStatus().name().equals("ACTIVE")) {
-                    UsernamePasswordAuthenticationToken authentication = 
-                        new UsernamePasswordAuthenticationToken(
-                            member,
-                            null,
-                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + member.getRole().name()))
-                        );
-                    
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    
-                    log.info("WebSocket SEND 토큰 인증 성공: 사용자 ID = {}, 이름 = {}", 
-                        memberId, member.getName());
-                } else {
-                    log.warn("WebSocket SEND 토큰 인증 실패: 유효하지 않은 사용자 (ID: {})", memberId);
-                }
-            } catch (Exception e) {
-                log.error("WebSocket SEND 토큰 처리 중 오류 발생: {}", e.getMessage());
+    private UsernamePasswordAuthenticationToken authenticate(String token) {
+        if (!StringUtils.hasText(token) || !jwtUtil.validateToken(token)) {
+            return null;
+        }
+        try {
+            Long memberId = jwtUtil.getMemberIdFromToken(token);
+            MemberDisplay display = memberDisplayCache.get(memberId)
+                    .filter(MemberDisplay::isActive)
+                    .orElse(null);
+            if (display == null) {
+                log.warn("WebSocket 인증 실패: 유효하지 않은 사용자 (ID: {})", memberId);
+                return null;
             }
-        } else {
-            log.warn("WebSocket SEND 인증 실패: 유효하지 않은 JWT 토큰");
+            ChatPrincipal principal = ChatPrincipal.of(display);
+            return new UsernamePasswordAuthenticationToken(principal, null,
+                    List.of(new SimpleGrantedAuthority("ROLE_" + principal.getRole().name())));
+        } catch (Exception e) {
+            log.error("WebSocket JWT 토큰 처리 중 오류 발생: {}", e.getMessage());
+            return null;
         }
     }
 
@@ -171,24 +129,13 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
      * STOMP 헤더에서 JWT 토큰 추출
      */
     private String getTokenFromHeaders(StompHeaderAccessor accessor) {
-        // Authorization 헤더에서 토큰 추출
-        List<String> authHeaders = accessor.getNativeHeader("Authorization");
-        if (authHeaders != null && !authHeaders.isEmpty()) {
-            String bearerToken = authHeaders.get(0);
-            if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-                return bearerToken.substring(7);
-            }
+        String bearerToken = accessor.getFirstNativeHeader("Authorization");
+        if (bearerToken == null) {
+            bearerToken = accessor.getFirstNativeHeader("authorization");
         }
-        
-        // authorization 헤더에서도 시도 (소문자)
-        authHeaders = accessor.getNativeHeader("authorization");
-        if (authHeaders != null && !authHeaders.isEmpty()) {
-            String bearerToken = authHeaders.get(0);
-            if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-                return bearerToken.substring(7);
-            }
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+            return bearerToken.substring(BEARER_PREFIX.length());
         }
-        
         return null;
     }
 }
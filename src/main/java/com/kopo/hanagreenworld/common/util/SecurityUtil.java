@@ -1,5 +1,6 @@
 package com.kopo.hanagreenworld.common.util;
 
+import com.kopo.hanagreenworld.common.websocket.ChatPrincipal;
 import com.kopo.hanagreenworld.member.domain.Member;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -69,6 +70,11 @@ public class SecurityUtil {
             }
         }
         
+        // WebSocket 세션 principal인 경우
+        if (principal instanceof ChatPrincipal chatPrincipal) {
+            return chatPrincipal.getMemberId();
+        }
+
         // Member 객체인 경우
         if (principal instanceof Member) {
             try {
@@ -0,0 +1,45 @@
+package com.kopo.hanagreenworld.common.websocket;
+
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.dto.MemberDisplay;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.security.Principal;
+
+/**
+ * STOMP 세션 인증 주체 (CONNECT 시 한 번 생성, 불변)
+ *
+ * getName()은 사용자 destination(/user/...) 키로 쓰이므로 회원 ID 문자열을 반환하고,
+ * 화면 표시용 이름은 displayName으로 둔다.
+ */
+@Getter
+public final class ChatPrincipal implements Principal, Serializable {
+
+    public static final String SESSION_ATTRIBUTE = "CHAT_PRINCIPAL";
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final Long memberId;
+    private final String displayName;
+    private final Member.MemberRole role;
+    private final String name;
+
+    public ChatPrincipal(Long memberId, String displayName, Member.MemberRole role) {
+        this.memberId = memberId;
+        this.displayName = displayName;
+        this.role = role;
+        this.name = String.valueOf(memberId);
+    }
+
+    public static ChatPrincipal of(MemberDisplay display) {
+        return new ChatPrincipal(display.getMemberId(), display.getName(), display.getRole());
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,49 @@
+package com.kopo.hanagreenworld.common.websocket;
+
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Redis Pub/Sub 기반 팀 토픽 중계 전송
+ */
+public class RedisRelayTransport implements TeamTopicRelay.Transport {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Map<String, MessageListener> listeners = new ConcurrentHashMap<>();
+
+    public RedisRelayTransport(StringRedisTemplate stringRedisTemplate,
+                               RedisMessageListenerContainer listenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @Override
+    public void publish(String channel, byte[] body) {
+        byte[] rawChannel = channel.getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(rawChannel, body));
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<byte[]> handler) {
+        MessageListener listener = (message, pattern) -> handler.accept(message.getBody());
+        listeners.put(channel, listener);
+        listenerContainer.addMessageListener(listener, new ChannelTopic(channel));
+    }
+
+    @Override
+    public void unsubscribe(String channel) {
+        MessageListener listener = listeners.remove(channel);
+        if (listener != null) {
+            listenerContainer.removeMessageListener(listener, new ChannelTopic(channel));
+        }
+    }
+}
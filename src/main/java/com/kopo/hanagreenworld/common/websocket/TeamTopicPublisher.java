@@ -0,0 +1,130 @@
+package com.kopo.hanagreenworld.common.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 팀 토픽(/topic/team/{teamId}...) 발행 창구
+ *
+ * - 기본 모드: 이벤트마다 바로 한 프레임씩 발행한다. (기존 convertAndSend와 동일한 destination)
+ * - 묶음 모드(app.websocket.coalesce.enabled=true): 팀별로 짧은 tick 동안 이벤트를 모았다가
+ *   /topic/team/{teamId}/batch 로 한 프레임만 발행한다. 클라이언트는 events[].destination으로 원래 구독 위치를 구분한다.
+ * - 페이로드는 한 번만 JSON 직렬화해 byte[]로 보내므로 SimpleBroker가 모든 구독자에게 같은 배열을 공유한다.
+ */
+@Slf4j
+public class TeamTopicPublisher {
+
+    public static final String TEAM_TOPIC_PREFIX = "/topic/team/";
+    public static final String BATCH_SUFFIX = "/batch";
+
+    private final MessageChannel brokerChannel;
+    private final ObjectMapper objectMapper;
+    private final boolean coalesce;
+    private final int maxBatchSize;
+    private final Map<Long, Queue<Event>> pending = new ConcurrentHashMap<>();
+    private final LongAdder publishedEvents = new LongAdder();
+    private final LongAdder sentFrames = new LongAdder();
+
+    public TeamTopicPublisher(MessageChannel brokerChannel, ObjectMapper objectMapper,
+                              boolean coalesce, int maxBatchSize) {
+        this.brokerChannel = brokerChannel;
+        this.objectMapper = objectMapper;
+        this.coalesce = coalesce;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * 팀 토픽 발행 (subPath 예: null, "/delete", "/online", "/presence")
+     */
+    public void publish(Long teamId, String subPath, Object payload) {
+        String destination = TEAM_TOPIC_PREFIX + teamId + (subPath != null ? subPath : "");
+        publishedEvents.increment();
+        if (!coalesce) {
+            send(destination, payload);
+            return;
+        }
+        pending.computeIfAbsent(teamId, k -> new ConcurrentLinkedQueue<>()).add(new Event(destination, payload));
+    }
+
+    /**
+     * 모아 둔 이벤트를 팀별 묶음 프레임으로 발행 (tick마다 호출)
+     */
+    @Scheduled(fixedRateString = "${app.websocket.coalesce.tick-ms:20}")
+    public void flush() {
+        if (!coalesce) {
+            return;
+        }
+        pending.forEach((teamId, queue) -> {
+            List<Event> batch = new ArrayList<>();
+            Event event;
+            while ((event = queue.poll()) != null) {
+                batch.add(event);
+                if (batch.size() == maxBatchSize) {
+                    send(TEAM_TOPIC_PREFIX + teamId + BATCH_SUFFIX, new Batch(teamId, batch));
+                    batch = new ArrayList<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                send(TEAM_TOPIC_PREFIX + teamId + BATCH_SUFFIX, new Batch(teamId, batch));
+            }
+        });
+    }
+
+    public boolean isCoalescing() {
+        return coalesce;
+    }
+
+    public long getPublishedEvents() {
+        return publishedEvents.sum();
+    }
+
+    public long getSentFrames() {
+        return sentFrames.sum();
+    }
+
+    private void send(String destination, Object payload) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            log.error("팀 토픽 직렬화 실패: destination = {}, 에러 = {}", destination, e.getMessage());
+            return;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        brokerChannel.send(MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+        sentFrames.increment();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Event {
+        private final String destination;
+        private final Object payload;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Batch {
+        private final Long teamId;
+        private final List<Event> events;
+    }
+}
@@ -0,0 +1,228 @@
+package com.kopo.hanagreenworld.common.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 팀 토픽(/topic/team/{teamId}/**) 노드 간 중계
+ *
+ * - 브로커 채널로 발행된 팀 토픽 메시지를 팀별 채널("stomp:relay:team:{teamId}")로 내보낸다.
+ * - 노드는 로컬 구독자가 있는 팀 채널만 구독하므로, 구독자가 없는 노드에는 메시지가 오지 않는다.
+ * - 다른 노드에서 온 메시지는 로컬 브로커 채널에 다시 넣어 로컬 구독자에게만 전달한다. (자기 노드 메시지는 무시)
+ *
+ * 메시지 형식: "{nodeId}\t{destination}\t{contentType}\n" + payload
+ */
+@Slf4j
+public class TeamTopicRelay {
+
+    public static final String RELAYED_HEADER = "teamTopicRelayed";
+
+    private static final String CHANNEL_PREFIX = "stomp:relay:team:";
+    private static final Pattern TEAM_TOPIC = Pattern.compile("^/topic/team/(\\d+)(/.*)?$");
+    private static final byte NEWLINE = '\n';
+
+    /**
+     * 노드 간 메시지 전송 수단 (운영: Redis Pub/Sub)
+     */
+    public interface Transport {
+        void publish(String channel, byte[] body);
+
+        void subscribe(String channel, Consumer<byte[]> handler);
+
+        void unsubscribe(String channel);
+    }
+
+    private final Transport transport;
+    private final MessageChannel brokerChannel;
+    private final String nodeId = UUID.randomUUID().toString();
+    // sessionId -> (subscriptionId -> teamId)
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new ConcurrentHashMap<>();
+    // teamId -> 로컬 구독 수
+    private final Map<Long, Integer> localSubscriberCounts = new ConcurrentHashMap<>();
+
+    public TeamTopicRelay(Transport transport, MessageChannel brokerChannel) {
+        this.transport = transport;
+        this.brokerChannel = brokerChannel;
+    }
+
+    /**
+     * clientInboundChannel 인터셉터: 로컬 구독 현황 추적 (인증 인터셉터 뒤에 등록)
+     */
+    public ChannelInterceptor inboundInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                trackSubscription(message);
+                return message;
+            }
+        };
+    }
+
+    /**
+     * brokerChannel 인터셉터: 서버가 발행한 팀 토픽 메시지를 다른 노드로 중계
+     */
+    public ChannelInterceptor brokerInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                relayOutbound(message);
+                return message;
+            }
+        };
+    }
+
+    public boolean hasLocalSubscribers(Long teamId) {
+        return localSubscriberCounts.containsKey(teamId);
+    }
+
+    void trackSubscription(Message<?> message) {
+        MessageHeaders headers = message.getHeaders();
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(headers);
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        if (type == null || sessionId == null) {
+            return;
+        }
+
+        switch (type) {
+            case SUBSCRIBE -> {
+                Long teamId = parseTeamId(SimpMessageHeaderAccessor.getDestination(headers));
+                String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(headers);
+                if (teamId == null || subscriptionId == null) {
+                    return;
+                }
+                Long previous = sessionSubscriptions
+                        .computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>())
+                        .put(subscriptionId, teamId);
+                if (previous == null) {
+                    increment(teamId);
+                }
+            }
+            case UNSUBSCRIBE -> {
+                String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(headers);
+                Map<String, Long> subscriptions = sessionSubscriptions.get(sessionId);
+                if (subscriptions == null || subscriptionId == null) {
+                    return;
+                }
+                Long teamId = subscriptions.remove(subscriptionId);
+                if (teamId != null) {
+                    decrement(teamId);
+                }
+            }
+            case DISCONNECT -> {
+                Map<String, Long> subscriptions = sessionSubscriptions.remove(sessionId);
+                if (subscriptions != null) {
+                    subscriptions.values().forEach(this::decrement);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    void relayOutbound(Message<?> message) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || headers.containsKey(RELAYED_HEADER)) {
+            return;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        Long teamId = parseTeamId(destination);
+        if (teamId == null) {
+            return;
+        }
+        if (!(message.getPayload() instanceof byte[] payload)) {
+            log.warn("팀 토픽 중계 불가 (직렬화되지 않은 payload): destination = {}", destination);
+            return;
+        }
+
+        MimeType contentType = SimpMessageHeaderAccessor.getContentType(headers);
+        byte[] head = (nodeId + "\t" + destination + "\t" + (contentType != null ? contentType : ""))
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] body = new byte[head.length + 1 + payload.length];
+        System.arraycopy(head, 0, body, 0, head.length);
+        body[head.length] = NEWLINE;
+        System.arraycopy(payload, 0, body, head.length + 1, payload.length);
+
+        try {
+            transport.publish(CHANNEL_PREFIX + teamId, body);
+        } catch (Exception e) {
+            // 중계 실패해도 로컬 구독자에게는 전달된다
+            log.warn("팀 토픽 중계 실패: destination = {}, 에러 = {}", destination, e.getMessage());
+        }
+    }
+
+    void deliverInbound(byte[] body) {
+        int newline = indexOf(body, NEWLINE);
+        if (newline < 0) {
+            return;
+        }
+        String[] head = new String(body, 0, newline, StandardCharsets.UTF_8).split("\t", -1);
+        if (head.length != 3 || nodeId.equals(head[0])) {
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(head[1]);
+        if (!head[2].isEmpty()) {
+            accessor.setContentType(MimeType.valueOf(head[2]));
+        }
+        accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+        byte[] payload = Arrays.copyOfRange(body, newline + 1, body.length);
+        brokerChannel.send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+
+    private void increment(Long teamId) {
+        localSubscriberCounts.compute(teamId, (id, count) -> {
+            if (count == null) {
+                transport.subscribe(CHANNEL_PREFIX + id, this::deliverInbound);
+                log.debug("팀 토픽 중계 구독 시작: 팀 ID = {}", id);
+                return 1;
+            }
+            return count + 1;
+        });
+    }
+
+    private void decrement(Long teamId) {
+        localSubscriberCounts.computeIfPresent(teamId, (id, count) -> {
+            if (count <= 1) {
+                transport.unsubscribe(CHANNEL_PREFIX + id);
+                log.debug("팀 토픽 중계 구독 해제: 팀 ID = {}", id);
+                return null;
+            }
+            return count - 1;
+        });
+    }
+
+    static Long parseTeamId(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = TEAM_TOPIC.matcher(destination);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    private static int indexOf(byte[] bytes, byte target) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,201 @@
+package com.kopo.hanagreenworld.common.websocket;
+
+import com.kopo.hanagreenworld.common.dto.WebSocketMetricsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * STOMP 세션별 송신 흐름 제어 (느린 클라이언트 대응)
+ *
+ * - clientOutboundChannel에 들어온 프레임 수와 실제 소켓에 쓴 프레임 수의 차이로 세션별 미전송 프레임 수를 센다.
+ *   (outbound 실행기 큐 + 세션 송신 버퍼에 쌓인 양)
+ * - 한도를 넘으면 정책에 따라 MESSAGE 프레임을 버리거나(DROP) 세션을 끊는다(DISCONNECT).
+ *   버린 메시지는 클라이언트가 순번 재동기화(/app/chat.resync)로 채운다.
+ * - 송신 버퍼/시간 한도 초과로 전송 계층이 끊은 세션(SESSION_NOT_RELIABLE)도 함께 집계한다.
+ */
+@Slf4j
+@Component
+public class WebSocketFlowControl {
+
+    public enum SlowConsumerPolicy {
+        DROP, DISCONNECT
+    }
+
+    private final SlowConsumerPolicy policy;
+    private final int maxPendingFrames;
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+    private final LongAdder droppedFrames = new LongAdder();
+    private final LongAdder slowConsumerDisconnects = new LongAdder();
+    private final AtomicInteger maxObservedPending = new AtomicInteger();
+    private volatile long lastLoggedDropped;
+
+    public WebSocketFlowControl(@Value("${app.websocket.slow-consumer.policy:DISCONNECT}") SlowConsumerPolicy policy,
+                                @Value("${app.websocket.slow-consumer.max-pending-frames:500}") int maxPendingFrames) {
+        this.policy = policy;
+        this.maxPendingFrames = maxPendingFrames;
+    }
+
+    /**
+     * 연결된 원본 세션을 등록하고, 실제 전송 시 미전송 카운트를 줄이는 세션으로 감싼다
+     */
+    public WebSocketHandlerDecoratorFactory decoratorFactory() {
+        return handler -> new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                SessionState state = new SessionState(session);
+                sessions.put(session.getId(), state);
+                super.afterConnectionEstablished(new CountingSession(session, state));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+                    slowConsumerDisconnects.increment();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * clientOutboundChannel 인터셉터: 세션별 미전송 프레임 수 확인
+     */
+    public ChannelInterceptor outboundInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                return admit(message);
+            }
+        };
+    }
+
+    private Message<?> admit(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        SessionState state = sessionId != null ? sessions.get(sessionId) : null;
+        if (state == null) {
+            return message;
+        }
+
+        int pending = state.pending.get();
+        if (pending >= maxPendingFrames
+                && SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+            droppedFrames.increment();
+            if (policy == SlowConsumerPolicy.DISCONNECT && state.closing.compareAndSet(false, true)) {
+                log.warn("느린 WebSocket 세션 종료: 세션 ID = {}, 미전송 프레임 = {}", sessionId, pending);
+                try {
+                    state.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+                } catch (IOException e) {
+                    log.debug("WebSocket 세션 종료 실패: {}", e.getMessage());
+                }
+            }
+            return null;
+        }
+
+        int next = state.pending.incrementAndGet();
+        maxObservedPending.accumulateAndGet(next, Math::max);
+        return message;
+    }
+
+    public WebSocketMetricsResponse snapshot(Executor inboundExecutor, Executor outboundExecutor) {
+        long totalPending = 0;
+        int maxPending = 0;
+        for (SessionState state : sessions.values()) {
+            int pending = state.pending.get();
+            totalPending += pending;
+            maxPending = Math.max(maxPending, pending);
+        }
+        return WebSocketMetricsResponse.builder()
+                .sessions(sessions.size())
+                .pendingFrames(totalPending)
+                .maxSessionPendingFrames(maxPending)
+                .peakSessionPendingFrames(maxObservedPending.get())
+                .droppedFrames(droppedFrames.sum())
+                .slowConsumerDisconnects(slowConsumerDisconnects.sum())
+                .slowConsumerPolicy(policy.name())
+                .inboundQueueDepth(queueDepth(inboundExecutor))
+                .inboundActiveThreads(activeCount(inboundExecutor))
+                .outboundQueueDepth(queueDepth(outboundExecutor))
+                .outboundActiveThreads(activeCount(outboundExecutor))
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${app.websocket.slow-consumer.log-ms:60000}")
+    public void logDrops() {
+        long dropped = droppedFrames.sum();
+        if (dropped != lastLoggedDropped) {
+            log.info("WebSocket 송신 제한: 누적 폐기 프레임 = {}, 느린 세션 종료 = {}, 최대 미전송 = {}",
+                    dropped, slowConsumerDisconnects.sum(), maxObservedPending.get());
+            lastLoggedDropped = dropped;
+        }
+    }
+
+    private static int queueDepth(Executor executor) {
+        // 가상 스레드 실행기는 큐 없이 동시 실행 수로만 제한하므로 -1
+        if (executor instanceof ThreadPoolTaskExecutor pool && pool.getThreadPoolExecutor() != null) {
+            return pool.getThreadPoolExecutor().getQueue().size();
+        }
+        return -1;
+    }
+
+    private static int activeCount(Executor executor) {
+        if (executor instanceof ThreadPoolTaskExecutor pool && pool.getThreadPoolExecutor() != null) {
+            return pool.getActiveCount();
+        }
+        return -1;
+    }
+
+    private static class SessionState {
+        private final WebSocketSession session;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean closing = new AtomicBoolean();
+
+        SessionState(WebSocketSession session) {
+            this.session = session;
+        }
+    }
+
+    /**
+     * 실제 소켓 전송 시점에 미전송 프레임 수 감소
+     */
+    private static class CountingSession extends WebSocketSessionDecorator {
+        private final SessionState state;
+
+        CountingSession(WebSocketSession session, SessionState state) {
+            super(session);
+            this.state = state;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            try {
+                super.sendMessage(message);
+            } finally {
+                state.pending.updateAndGet(v -> v > 0 ? v - 1 : 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.kopo.hanagreenworld.member.controller;
+
+import com.kopo.hanagreenworld.member.dto.AchievementProgressResponse;
+import com.kopo.hanagreenworld.member.service.AchievementService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/achievements")
+@RequiredArgsConstructor
+@Tag(name = "업적 API", description = "회원 업적 진행/달성 현황 API")
+public class AchievementController {
+
+    private final AchievementService achievementService;
+
+    @GetMapping("/me")
+    @Operation(summary = "내 업적 조회", description = "현재 로그인한 사용자의 업적 진행률과 달성 여부를 조회합니다.")
+    public ResponseEntity<List<AchievementProgressResponse>> getMyAchievements() {
+        return ResponseEntity.ok(achievementService.getMyAchievements());
+    }
+}
@@ -1,11 +1,19 @@
 package com.kopo.hanagreenworld.member.controller;
 
 import com.kopo.hanagreenworld.member.dto.*;
+import com.kopo.hanagreenworld.member.service.RollingTeamLeaderboard;
+import com.kopo.hanagreenworld.member.service.TeamDiscoveryService;
+import com.kopo.hanagreenworld.member.service.TeamLiveRankingService;
+import com.kopo.hanagreenworld.member.service.TeamMemberLeaderboardService;
+import com.kopo.hanagreenworld.member.service.TeamRosterService;
+import com.kopo.hanagreenworld.member.service.TeamSearchIndex;
 import com.kopo.hanagreenworld.member.service.TeamService;
 import com.kopo.hanagreenworld.common.exception.BusinessException;
 import com.kopo.hanagreenworld.common.exception.ErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import com.kopo.hanagreenworld.common.util.SecurityUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +30,10 @@ import java.util.Map;
 public class TeamController {
 
     private final TeamService teamService;
+    private final TeamRosterService teamRosterService;
+    private final TeamDiscoveryService teamDiscoveryService;
+    private final TeamLiveRankingService teamLiveRankingService;
+    private final TeamMemberLeaderboardService teamMemberLeaderboardService;
 
     @GetMapping("/my-team")
     @Operation(summary = "내 팀 정보 조회", description = "현재 사용자가 속한 팀의 상세 정보를 조회합니다.")
@@ -62,10 +74,17 @@ public class TeamController {
         }
     }
 
+    @GetMapping("/ranking/live")
+    @Operation(summary = "실시간 팀 랭킹 조회", description = "최근 24시간(DAILY) 또는 최근 7일(WEEKLY) 적립 포인트 기준 팀 랭킹을 조회합니다.")
+    public ResponseEntity<TeamLiveRankingResponse> getLiveRanking(@RequestParam(required = false) RollingTeamLeaderboard.Window window,
+                                                                  @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(teamLiveRankingService.getRanking(window, size));
+    }
+
     @PostMapping("/join")
     @Operation(summary = "팀 참여", description = "초대코드를 사용하여 팀에 참여합니다.")
     public ResponseEntity<TeamResponse> joinTeam(@Valid @RequestBody TeamJoinRequest request) {
-        log.info("팀 참여 요청: 초대코드 = {}", request.getInviteCode());
+        log.info("팀 참여 요청");
         try {
             TeamResponse response = teamService.joinTeamByInviteCode(request.getInviteCode());
             log.info("팀 참여 성공: 팀 ID = {}, 팀명 = {}", response.getId(), response.getName());
@@ -106,14 +125,14 @@ public class TeamController {
     }
 
     @PostMapping("/{teamId}/invite-code")
-    @Operation(summary = "팀 초대 코드 생성", description = "새로운 팀 초대 코드를 생성합니다.")
-    public ResponseEntity<TeamInviteCodeResponse> generateInviteCode(@PathVariable Long teamId) {
+    @Operation(summary = "팀 초대 코드 생성", description = "새로운 팀 초대 코드를 생성합니다. (유효기간, 최대 사용 횟수 지정 가능)")
+    public ResponseEntity<TeamInviteCodeResponse> generateInviteCode(@PathVariable Long teamId,
+                                                                     @RequestParam(required = false) Integer ttlHours,
+                                                                     @RequestParam(required = false) Integer maxUses) {
         log.info("팀 초대 코드 생성 요청: 팀 ID = {}", teamId);
         try {
-            // TODO: 실제 초대 코드 생성 로직 구현
-            String inviteCode = "GG-" + teamId.toString().substring(0, 4).toUpperCase();
-            TeamInviteCodeResponse response = new TeamInviteCodeResponse(inviteCode);
-            log.info("팀 초대 코드 생성 성공: 팀 ID = {}, 초대 코드 = {}", teamId, inviteCode);
+            TeamInviteCodeResponse response = teamService.generateInviteCode(teamId, ttlHours, maxUses);
+            log.info("팀 초대 코드 생성 성공: 팀 ID = {}, 만료 = {}", teamId, response.getExpiresAt());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("팀 초대 코드 생성 실패: 팀 ID = {}, 에러 = {}", teamId, e.getMessage(), e);
@@ -123,15 +142,16 @@ public class TeamController {
 
     @PostMapping("/validate-invite-code")
     @Operation(summary = "초대코드 검증", description = "초대코드가 유효한지 검증하고 팀 정보를 반환합니다.")
-    public ResponseEntity<?> validateInviteCode(@Valid @RequestBody TeamJoinRequest request) {
-        log.info("초대코드 검증 요청: 초대코드 = {}", request.getInviteCode());
+    public ResponseEntity<?> validateInviteCode(@Valid @RequestBody TeamJoinRequest request,
+                                                HttpServletRequest httpRequest) {
+        log.info("초대코드 검증 요청");
         try {
-            TeamResponse response = teamService.validateInviteCode(request.getInviteCode());
+            TeamResponse response = teamService.validateInviteCode(request.getInviteCode(), resolveClientKey(httpRequest));
             log.info("초대코드 검증 성공: 팀 ID = {}, 팀명 = {}", response.getId(), response.getName());
             return ResponseEntity.ok(response);
         } catch (BusinessException e) {
             if (e.getErrorCode() == ErrorCode.INVALID_INVITE_CODE) {
-                log.info("유효하지 않은 초대코드: {}", request.getInviteCode());
+                log.info("유효하지 않은 초대코드");
                 return ResponseEntity.status(400).body(Map.of(
                     "error", "INVALID_INVITE_CODE",
                     "message", "유효하지 않은 초대코드입니다.",
@@ -160,6 +180,18 @@ public class TeamController {
         }
     }
 
+    @GetMapping("/discover")
+    @Operation(summary = "팀 탐색", description = "팀 이름(초성 포함) 검색, 빈 자리/월간 포인트 필터, 정렬, 커서 페이지네이션을 지원합니다. (sort: MONTHLY_POINTS, MEMBERS, NEWEST, NAME)")
+    public ResponseEntity<TeamDiscoveryResponse> discoverTeams(@RequestParam(required = false) String q,
+                                                               @RequestParam(required = false) Boolean openSeatsOnly,
+                                                               @RequestParam(required = false) Long minMonthlyPoints,
+                                                               @RequestParam(required = false) TeamSearchIndex.Sort sort,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer size) {
+        TeamDiscoveryResponse response = teamDiscoveryService.search(q, openSeatsOnly, minMonthlyPoints, sort, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/create")
     @Operation(summary = "팀 생성", description = "새로운 팀을 생성합니다.")
     public ResponseEntity<TeamResponse> createTeam(@Valid @RequestBody TeamCreateRequest request) {
@@ -176,22 +208,39 @@ public class TeamController {
 
 
     @GetMapping("/{teamId}/members")
-    @Operation(summary = "팀 멤버 목록 조회", description = "특정 팀의 멤버 목록을 조회합니다.")
-    public ResponseEntity<TeamMembersResponse> getTeamMembers(@PathVariable Long teamId) {
+    @Operation(summary = "팀 멤버 목록 조회", description = "특정 팀의 멤버 목록을 조회합니다. (cursor: 이전 응답의 nextCursor)")
+    public ResponseEntity<TeamMembersResponse> getTeamMembers(@PathVariable Long teamId,
+                                                              @RequestParam(required = false) Long cursor,
+                                                              @RequestParam(required = false) Integer size) {
         log.info("팀 멤버 목록 조회 요청: 팀 ID = {}", teamId);
         try {
-            // TODO: 실제 팀 멤버 조회 로직 구현
-            TeamMembersResponse response = TeamMembersResponse.builder()
-                    .teamId(teamId)
-                    .members(java.util.Collections.emptyList())
-                    .totalCount(0)
-                    .build();
-            log.info("팀 멤버 목록 조회 성공: 팀 ID = {}", teamId);
+            TeamMembersResponse response = teamRosterService.getTeamMembers(teamId, cursor, size);
+            log.info("팀 멤버 목록 조회 성공: 팀 ID = {}, 멤버 수 = {}", teamId, response.getMembers().size());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("팀 멤버 목록 조회 실패: 팀 ID = {}, 에러 = {}", teamId, e.getMessage(), e);
             throw e;
         }
     }
-}
 
+    @GetMapping("/{teamId}/leaderboard")
+    @Operation(summary = "팀 내 멤버 리더보드 조회", description = "이번 달 적립 씨앗(SEEDS) 또는 오늘 걸음수(STEPS) 기준 상위 멤버와 내 순위를 조회합니다.")
+    public ResponseEntity<TeamMemberLeaderboardResponse> getMemberLeaderboard(@PathVariable Long teamId,
+                                                                              @RequestParam(required = false) TeamMemberLeaderboardService.Type type,
+                                                                              @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(teamMemberLeaderboardService.getLeaderboard(teamId, type, size));
+    }
+
+    /**
+     * 초대코드 요청 제한 키 (인증 사용자는 회원 ID, 그 외에는 클라이언트 IP)
+     * X-Forwarded-For는 클라이언트가 임의로 바꿀 수 있으므로 직접 읽지 않는다.
+     * 프록시 뒤에서는 server.forward-headers-strategy로 신뢰하는 프록시의 헤더만 remoteAddr에 반영된다.
+     */
+    private String resolveClientKey(HttpServletRequest request) {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+        if (memberId != null) {
+            return "member:" + memberId;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -47,10 +47,19 @@ public class Achievement extends DateTimeEntity {
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
 
+    // 달성 주체 (회원 업적 / 팀 엠블럼), 기존 데이터는 null = 회원
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", length = 10)
+    private Target target;
+
+    public enum Target {
+        MEMBER, TEAM
+    }
+
     @Builder
     public Achievement(String achievementCode, String name, String description,
                       String imageUrl, String icon, String category,
-                      Long requiredValue, Integer pointsReward, Boolean isActive) {
+                      Long requiredValue, Integer pointsReward, Boolean isActive, Target target) {
         this.achievementCode = achievementCode;
         this.name = name;
         this.description = description;
@@ -60,7 +69,12 @@ public class Achievement extends DateTimeEntity {
         this.requiredValue = requiredValue;
         this.pointsReward = pointsReward;
         this.isActive = isActive == null ? true : isActive;
+        this.target = target == null ? Target.MEMBER : target;
     }
 
     public void deactivate() { this.isActive = false; }
+
+    public Target getTargetOrDefault() {
+        return target == null ? Target.MEMBER : target;
+    }
 }
\ No newline at end of file
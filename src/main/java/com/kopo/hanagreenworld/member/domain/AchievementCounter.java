@@ -0,0 +1,63 @@
+package com.kopo.hanagreenworld.member.domain;
+
+import java.time.LocalDate;
+import jakarta.persistence.*;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업적 진행 카운터 (회원/팀별 지표 누적값)
+ *
+ * 이력 재조회 없이 업적 달성 여부를 판단하기 위한 값으로, 원자적 UPSERT로만 변경한다.
+ */
+@Entity
+@Table(
+    name = "achievement_counters",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_achievement_counter", columnNames = {"owner_type", "owner_id", "metric"})
+    }
+)
+@Getter
+@NoArgsConstructor
+public class AchievementCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "achievement_counter_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "owner_type", length = 10, nullable = false)
+    private Achievement.Target ownerType;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    // ACTIVITY(활동 횟수), POINTS(적립 포인트), CARBON(탄소 절감 g), STREAK(연속 활동 일수)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", length = 20, nullable = false)
+    private Metric metric;
+
+    @Column(name = "counter_value", nullable = false)
+    private Long counterValue = 0L;
+
+    // STREAK 계산용 마지막 활동일
+    @Column(name = "last_date")
+    private LocalDate lastDate;
+
+    public enum Metric {
+        ACTIVITY, POINTS, CARBON, STREAK;
+
+        public static Metric fromCategory(String category) {
+            if (category == null) {
+                return null;
+            }
+            try {
+                return Metric.valueOf(category.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.kopo.hanagreenworld.member.domain;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.*;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(
+    name = "earned_achievements",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_earned_achievement", columnNames = {"owner_type", "owner_id", "achievement_id"})
+    }
+)
+@Getter
+@NoArgsConstructor
+public class EarnedAchievement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "earned_achievement_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "owner_type", length = 10, nullable = false)
+    private Achievement.Target ownerType;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "achievement_id", nullable = false)
+    private Long achievementId;
+
+    @Column(name = "earned_at", nullable = false)
+    private LocalDateTime earnedAt;
+}
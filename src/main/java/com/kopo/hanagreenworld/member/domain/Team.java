@@ -38,6 +38,10 @@ public class Team extends DateTimeEntity {
     @Column(name = "max_members")
     private Integer maxMembers;
 
+    // 활성 멤버 수 (좌석 예약용 카운터, 조건부 UPDATE로만 변경)
+    @Column(name = "member_count")
+    private Integer memberCount = 0;
+
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
 
@@ -49,6 +53,7 @@ public class Team extends DateTimeEntity {
         this.leaderId = leaderId;
         this.maxMembers = maxMembers;
         this.isActive = isActive == null ? true : isActive;
+        this.memberCount = 1; // 팀장
     }
 
     public void deactivate() { this.isActive = false; }
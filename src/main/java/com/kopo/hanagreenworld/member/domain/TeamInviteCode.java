@@ -0,0 +1,71 @@
+package com.kopo.hanagreenworld.member.domain;
+
+import com.kopo.hanagreenworld.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+    name = "team_invite_codes",
+    indexes = {
+        @Index(name = "idx_invite_code_team", columnList = "team_id, is_active")
+    }
+)
+@Getter
+@NoArgsConstructor
+public class TeamInviteCode extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "invite_code_id")
+    private Long id;
+
+    @Column(name = "invite_code", length = 20, nullable = false, unique = true)
+    private String code;
+
+    // 팀 ID만 참조 (순환 참조 방지)
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(name = "created_by")
+    private Long createdBy;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // null이면 사용 횟수 제한 없음
+    @Column(name = "max_uses")
+    private Integer maxUses;
+
+    @Column(name = "use_count", nullable = false)
+    private Integer useCount = 0;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive = true;
+
+    @Builder
+    public TeamInviteCode(String code, Long teamId, Long createdBy,
+                          LocalDateTime expiresAt, Integer maxUses) {
+        this.code = code;
+        this.teamId = teamId;
+        this.createdBy = createdBy;
+        this.expiresAt = expiresAt;
+        this.maxUses = maxUses;
+        this.useCount = 0;
+        this.isActive = true;
+    }
+
+    public boolean isUsable(LocalDateTime now) {
+        return this.isActive
+                && this.expiresAt.isAfter(now)
+                && (this.maxUses == null || this.useCount < this.maxUses);
+    }
+
+    public void deactivate() {
+        this.isActive = false;
+    }
+}
@@ -0,0 +1,52 @@
+package com.kopo.hanagreenworld.member.dto;
+
+import com.kopo.hanagreenworld.member.domain.Achievement;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class AchievementProgressResponse {
+    private String code;
+    private String name;
+    private String description;
+    private String icon;
+    private String imageUrl;
+    private String category;
+    private Long requiredValue;
+    private Long currentValue;
+    private Integer pointsReward;
+    private Boolean isEarned;
+    private LocalDateTime earnedAt;
+
+    public static AchievementProgressResponse of(Achievement achievement, long currentValue, LocalDateTime earnedAt) {
+        return AchievementProgressResponse.builder()
+                .code(achievement.getAchievementCode())
+                .name(achievement.getName())
+                .description(achievement.getDescription())
+                .icon(achievement.getIcon())
+                .imageUrl(achievement.getImageUrl())
+                .category(achievement.getCategory())
+                .requiredValue(achievement.getRequiredValue())
+                .currentValue(currentValue)
+                .pointsReward(achievement.getPointsReward())
+                .isEarned(earnedAt != null)
+                .earnedAt(earnedAt)
+                .build();
+    }
+
+    public TeamResponse.EmblemResponse toEmblem() {
+        return TeamResponse.EmblemResponse.builder()
+                .id(code)
+                .name(name)
+                .description(description)
+                .iconUrl(imageUrl)
+                .isEarned(isEarned)
+                .earnedAt(earnedAt)
+                .currentValue(currentValue)
+                .requiredValue(requiredValue)
+                .build();
+    }
+}
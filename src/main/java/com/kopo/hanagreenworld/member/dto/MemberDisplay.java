@@ -0,0 +1,26 @@
+package com.kopo.hanagreenworld.member.dto;
+
+import com.kopo.hanagreenworld.member.domain.Member;
+import lombok.Getter;
+
+/**
+ * 회원 표시 정보 (표시 정보 캐시 값, 엔티티 대신 사용)
+ */
+@Getter
+public class MemberDisplay {
+    private final Long memberId;
+    private final String name;
+    private final Member.MemberRole role;
+    private final Member.MemberStatus status;
+
+    public MemberDisplay(Long memberId, String name, Member.MemberRole role, Member.MemberStatus status) {
+        this.memberId = memberId;
+        this.name = name;
+        this.role = role;
+        this.status = status;
+    }
+
+    public boolean isActive() {
+        return this.status == Member.MemberStatus.ACTIVE;
+    }
+}
@@ -0,0 +1,44 @@
+package com.kopo.hanagreenworld.member.dto;
+
+import com.kopo.hanagreenworld.member.service.TeamSearchIndex;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class TeamDiscoveryResponse {
+    private List<TeamSummary> teams;
+    private String nextCursor; // 다음 페이지 조회용 커서 (없으면 null)
+    private Boolean hasNext;
+
+    @Getter
+    @Builder
+    public static class TeamSummary {
+        private Long id;
+        private String name;
+        private String description;
+        private Integer members;
+        private Integer maxMembers;
+        private Boolean hasOpenSeats;
+        private Long monthlyPoints;
+        private Long totalPoints;
+        private LocalDateTime createdAt;
+
+        public static TeamSummary from(TeamSearchIndex.Entry entry) {
+            return TeamSummary.builder()
+                    .id(entry.getTeamId())
+                    .name(entry.getName())
+                    .description(entry.getDescription())
+                    .members(entry.getMemberCount())
+                    .maxMembers(entry.getMaxMembers())
+                    .hasOpenSeats(entry.hasOpenSeats())
+                    .monthlyPoints(entry.getMonthlyPoints())
+                    .totalPoints(entry.getTotalPoints())
+                    .createdAt(entry.getCreatedAt())
+                    .build();
+        }
+    }
+}
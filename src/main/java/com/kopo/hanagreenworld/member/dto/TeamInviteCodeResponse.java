@@ -1,15 +1,29 @@
 package com.kopo.hanagreenworld.member.dto;
 
+import com.kopo.hanagreenworld.member.domain.TeamInviteCode;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Builder
 public class TeamInviteCodeResponse {
     private String inviteCode;
+    private LocalDateTime expiresAt;
+    private Integer maxUses;
     
-    public TeamInviteCodeResponse(String inviteCode) {
+    public TeamInviteCodeResponse(String inviteCode, LocalDateTime expiresAt, Integer maxUses) {
         this.inviteCode = inviteCode;
+        this.expiresAt = expiresAt;
+        this.maxUses = maxUses;
     }
-}
 
+    public static TeamInviteCodeResponse from(TeamInviteCode inviteCode) {
+        return TeamInviteCodeResponse.builder()
+                .inviteCode(inviteCode.getCode())
+                .expiresAt(inviteCode.getExpiresAt())
+                .maxUses(inviteCode.getMaxUses())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.kopo.hanagreenworld.member.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 초대코드로 본 가입 전 팀 미리보기 (초대코드 캐시 값)
+ */
+@Getter
+public class TeamInvitePreview {
+    private final Long teamId;
+    private final String teamName;
+    private final String slogan;
+    private final String leaderName;
+    private final LocalDateTime createdAt;
+
+    public TeamInvitePreview(Long teamId, String teamName, String slogan, String leaderName, LocalDateTime createdAt) {
+        this.teamId = teamId;
+        this.teamName = teamName;
+        this.slogan = slogan;
+        this.leaderName = leaderName;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,24 @@
+package com.kopo.hanagreenworld.member.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class TeamLiveRankingResponse {
+    private String window; // DAILY(최근 24시간), WEEKLY(최근 7일)
+    private List<TeamRank> teams;
+    private LocalDateTime updatedAt;
+
+    @Getter
+    @Builder
+    public static class TeamRank {
+        private Integer rank;
+        private Long teamId;
+        private String teamName;
+        private Long points;
+    }
+}
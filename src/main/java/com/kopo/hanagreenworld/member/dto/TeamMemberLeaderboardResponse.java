@@ -0,0 +1,26 @@
+package com.kopo.hanagreenworld.member.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class TeamMemberLeaderboardResponse {
+    private Long teamId;
+    private String type;   // SEEDS(이번 달 적립 씨앗), STEPS(오늘 걸음수)
+    private String period; // yyyy-MM 또는 yyyy-MM-dd
+    private List<MemberRank> members;
+    private Integer myRank;  // 기록이 없으면 null
+    private Long myScore;
+
+    @Getter
+    @Builder
+    public static class MemberRank {
+        private Integer rank;
+        private Long memberId;
+        private String name;
+        private Long score;
+    }
+}
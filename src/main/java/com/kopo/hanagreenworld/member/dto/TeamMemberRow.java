@@ -0,0 +1,17 @@
+package com.kopo.hanagreenworld.member.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팀 멤버 목록 조회용 프로젝션 (member_teams + member_profiles + point_transactions 집계)
+ * monthlyPoints/totalPoints는 팀 가입 이후 적립분 합계
+ */
+public interface TeamMemberRow {
+    Long getMemberTeamId();
+    Long getMemberId();
+    String getNickname();
+    String getRole();
+    LocalDateTime getJoinedAt();
+    Long getMonthlyPoints();
+    Long getTotalPoints();
+}
@@ -12,6 +12,8 @@ public class TeamMembersResponse {
     private Long teamId;
     private List<TeamMemberResponse> members;
     private Integer totalCount;
+    private Long nextCursor; // 다음 페이지 조회용 커서 (없으면 null)
+    private Boolean hasNext;
 
     @Getter
     @Builder
@@ -25,5 +27,17 @@ public class TeamMembersResponse {
         private LocalDateTime joinedAt;
         private String profileImageUrl;
         private Boolean isOnline;
+
+        public static TeamMemberResponse from(TeamMemberRow row, boolean isOnline) {
+            return TeamMemberResponse.builder()
+                    .id(row.getMemberId())
+                    .name(row.getNickname())
+                    .role(row.getRole())
+                    .totalPoints(row.getTotalPoints() != null ? row.getTotalPoints() : 0L)
+                    .monthlyPoints(row.getMonthlyPoints() != null ? row.getMonthlyPoints() : 0L)
+                    .joinedAt(row.getJoinedAt())
+                    .isOnline(isOnline)
+                    .build();
+        }
     }
 }
@@ -0,0 +1,24 @@
+package com.kopo.hanagreenworld.member.dto;
+
+import com.kopo.hanagreenworld.member.domain.MemberTeam;
+import lombok.Getter;
+
+/**
+ * 회원의 활성 팀 소속 정보 (멤버십 캐시 값)
+ */
+@Getter
+public class TeamMembership {
+    private final Long memberId;
+    private final Long teamId;
+    private final MemberTeam.TeamRole role;
+
+    public TeamMembership(Long memberId, Long teamId, MemberTeam.TeamRole role) {
+        this.memberId = memberId;
+        this.teamId = teamId;
+        this.role = role;
+    }
+
+    public boolean isLeader() {
+        return this.role == MemberTeam.TeamRole.LEADER;
+    }
+}
@@ -39,6 +39,8 @@ public class TeamResponse {
         private String iconUrl;
         private Boolean isEarned;
         private LocalDateTime earnedAt;
+        private Long currentValue;  // 진행도
+        private Long requiredValue; // 달성 조건 값
     }
 
     @Getter
@@ -55,6 +57,15 @@ public class TeamResponse {
 
     public static TeamResponse from(Team team, TeamStatsResponse stats, List<EmblemResponse> emblems, 
                                    Member leader, Challenge currentChallenge, Integer completedChallenges) {
+        return from(team, stats, emblems, leader, currentChallenge, completedChallenges, null);
+    }
+
+    /**
+     * 초대코드는 팀 멤버에게만 노출 (그 외에는 null)
+     */
+    public static TeamResponse from(Team team, TeamStatsResponse stats, List<EmblemResponse> emblems, 
+                                   Member leader, Challenge currentChallenge, Integer completedChallenges,
+                                   String inviteCode) {
         return TeamResponse.builder()
                 .id(team.getId())
                 .name(team.getTeamName())
@@ -64,7 +75,7 @@ public class TeamResponse {
                 .members(stats.getActiveMembers())
                 .owner(leader != null ? leader.getName() : "알 수 없음")
                 .createdAt(team.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy년 M월 d일")))
-                .inviteCode(generateInviteCode(team.getId()))
+                .inviteCode(inviteCode)
                 .currentChallenge(currentChallenge != null ? currentChallenge.getTitle() : "진행 중인 챌린지 없음")
                 .totalSeeds(stats.getTotalPoints())
                 .carbonSavedKg(stats.getCarbonSavedKg().doubleValue())
@@ -72,8 +83,21 @@ public class TeamResponse {
                 .stats(stats)
                 .build();
     }
-    
-    private static String generateInviteCode(Long teamId) {
-        return "GG-" + String.format("%04d", teamId).toUpperCase();
+
+    /**
+     * 초대코드 검증용 가입 전 미리보기 (초대코드 캐시 값만으로 구성, 통계/엠블럼 없음)
+     */
+    public static TeamResponse preview(TeamInvitePreview preview, Challenge currentChallenge) {
+        return TeamResponse.builder()
+                .id(preview.getTeamId())
+                .name(preview.getTeamName())
+                .slogan(preview.getSlogan())
+                .completedChallenges(0)
+                .owner(preview.getLeaderName() != null ? preview.getLeaderName() : "알 수 없음")
+                .createdAt(preview.getCreatedAt() != null
+                        ? preview.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy년 M월 d일")) : null)
+                .currentChallenge(currentChallenge != null ? currentChallenge.getTitle() : "진행 중인 챌린지 없음")
+                .emblems(List.of())
+                .build();
     }
-}
\ No newline at end of file
+}
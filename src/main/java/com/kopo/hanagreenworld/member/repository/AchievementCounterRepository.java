@@ -0,0 +1,149 @@
+package com.kopo.hanagreenworld.member.repository;
+
+import com.kopo.hanagreenworld.member.domain.Achievement;
+import com.kopo.hanagreenworld.member.domain.AchievementCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AchievementCounterRepository extends JpaRepository<AchievementCounter, Long> {
+
+    /**
+     * 카운터 원자적 증가 (없으면 생성)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO achievement_counters (owner_type, owner_id, metric, counter_value)
+        VALUES (:ownerType, :ownerId, :metric, :delta)
+        ON DUPLICATE KEY UPDATE counter_value = counter_value + :delta
+        """, nativeQuery = true)
+    int increment(@Param("ownerType") String ownerType, @Param("ownerId") Long ownerId,
+                  @Param("metric") String metric, @Param("delta") Long delta);
+
+    /**
+     * 연속 활동 일수 갱신 (오늘 이미 반영됐으면 유지, 어제 활동했으면 +1, 그 외 1로 초기화)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO achievement_counters (owner_type, owner_id, metric, counter_value, last_date)
+        VALUES (:ownerType, :ownerId, 'STREAK', 1, :today)
+        ON DUPLICATE KEY UPDATE
+            counter_value = CASE
+                WHEN last_date = :today THEN counter_value
+                WHEN last_date = :yesterday THEN counter_value + 1
+                ELSE 1 END,
+            last_date = :today
+        """, nativeQuery = true)
+    int touchStreak(@Param("ownerType") String ownerType, @Param("ownerId") Long ownerId,
+                    @Param("today") LocalDate today, @Param("yesterday") LocalDate yesterday);
+
+    @Query("SELECT c.counterValue FROM AchievementCounter c " +
+           "WHERE c.ownerType = :ownerType AND c.ownerId = :ownerId AND c.metric = :metric")
+    Optional<Long> findValue(@Param("ownerType") Achievement.Target ownerType, @Param("ownerId") Long ownerId,
+                             @Param("metric") AchievementCounter.Metric metric);
+
+    List<AchievementCounter> findByOwnerTypeAndOwnerId(Achievement.Target ownerType, Long ownerId);
+
+    /**
+     * 적립 이력 기준 ACTIVITY(건수) / POINTS(합계) 카운터 보정 - 회원별, 팀별(현재 팀 가입 이후 적립분)
+     * 보정 전부터 쌓인 값보다 작아지지 않도록 큰 값을 유지한다. (업적 보상 적립은 제외)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO achievement_counters (owner_type, owner_id, metric, counter_value)
+        SELECT src.owner_type, src.owner_id, :metric, src.total FROM (
+            SELECT 'MEMBER' AS owner_type, pt.member_id AS owner_id,
+                   SUM(CASE WHEN :metric = 'ACTIVITY' THEN 1 ELSE pt.points_amount END) AS total
+            FROM point_transactions pt
+            WHERE pt.transaction_type = 'EARN' AND pt.category <> 'ACHIEVEMENT'
+            GROUP BY pt.member_id
+            UNION ALL
+            SELECT 'TEAM', mt.team_id,
+                   SUM(CASE WHEN :metric = 'ACTIVITY' THEN 1 ELSE pt.points_amount END)
+            FROM point_transactions pt
+            JOIN member_teams mt ON mt.member_id = pt.member_id AND mt.is_active = true
+                AND (mt.joined_at IS NULL OR pt.occurred_at >= mt.joined_at)
+            WHERE pt.transaction_type = 'EARN' AND pt.category <> 'ACHIEVEMENT'
+            GROUP BY mt.team_id
+        ) src
+        ON DUPLICATE KEY UPDATE counter_value = GREATEST(counter_value, src.total)
+        """, nativeQuery = true)
+    int backfillEarnCounter(@Param("metric") String metric);
+
+    /**
+     * 걷기 기록 기준 CARBON(g) 카운터 보정 - 회원별, 팀별(현재 팀 가입 이후 기록분)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO achievement_counters (owner_type, owner_id, metric, counter_value)
+        SELECT src.owner_type, src.owner_id, 'CARBON', src.total FROM (
+            SELECT 'MEMBER' AS owner_type, w.member_id AS owner_id, FLOOR(SUM(w.carbon_saved) * 1000) AS total
+            FROM walking_records w
+            GROUP BY w.member_id
+            UNION ALL
+            SELECT 'TEAM', mt.team_id, FLOOR(SUM(w.carbon_saved) * 1000)
+            FROM walking_records w
+            JOIN member_teams mt ON mt.member_id = w.member_id AND mt.is_active = true
+                AND (mt.joined_at IS NULL OR w.activity_date >= mt.joined_at)
+            GROUP BY mt.team_id
+        ) src
+        ON DUPLICATE KEY UPDATE counter_value = GREATEST(counter_value, src.total)
+        """, nativeQuery = true)
+    int backfillCarbonCounter();
+
+    /**
+     * 연속 활동 일수 보정용 적립일 목록 (owner_type, owner_id, 적립일) - 주체별 최신순
+     */
+    @Query(value = """
+        SELECT 'MEMBER' AS owner_type, pt.member_id AS owner_id, DATE(pt.occurred_at) AS earned_on
+        FROM point_transactions pt
+        WHERE pt.transaction_type = 'EARN' AND pt.category <> 'ACHIEVEMENT' AND pt.occurred_at >= :from
+        GROUP BY pt.member_id, DATE(pt.occurred_at)
+        UNION ALL
+        SELECT 'TEAM', mt.team_id, DATE(pt.occurred_at)
+        FROM point_transactions pt
+        JOIN member_teams mt ON mt.member_id = pt.member_id AND mt.is_active = true
+            AND (mt.joined_at IS NULL OR pt.occurred_at >= mt.joined_at)
+        WHERE pt.transaction_type = 'EARN' AND pt.category <> 'ACHIEVEMENT' AND pt.occurred_at >= :from
+        GROUP BY mt.team_id, DATE(pt.occurred_at)
+        ORDER BY owner_type, owner_id, earned_on DESC
+        """, nativeQuery = true)
+    List<Object[]> findEarnDatesSince(@Param("from") LocalDateTime from);
+
+    /**
+     * 연속 활동 일수 보정 (보정 전부터 쌓인 값보다 작아지지 않도록 큰 값을 유지)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO achievement_counters (owner_type, owner_id, metric, counter_value, last_date)
+        VALUES (:ownerType, :ownerId, 'STREAK', :streak, :lastDate)
+        ON DUPLICATE KEY UPDATE
+            counter_value = GREATEST(counter_value, :streak),
+            last_date = GREATEST(COALESCE(last_date, :lastDate), :lastDate)
+        """, nativeQuery = true)
+    int backfillStreak(@Param("ownerType") String ownerType, @Param("ownerId") Long ownerId,
+                       @Param("streak") Long streak, @Param("lastDate") LocalDate lastDate);
+
+    /**
+     * 조건을 충족했지만 아직 지급되지 않은 업적 (owner_type, owner_id, achievement_id) - 기동 시 보정용
+     */
+    @Query(value = """
+        SELECT c.owner_type, c.owner_id, a.achievement_id
+        FROM achievement_counters c
+        JOIN achievements a ON a.category = c.metric AND a.is_active = true
+            AND COALESCE(a.target_type, 'MEMBER') = c.owner_type
+            AND c.counter_value >= CASE WHEN c.metric = 'CARBON' THEN a.required_value * 1000 ELSE a.required_value END
+        LEFT JOIN earned_achievements e ON e.owner_type = c.owner_type AND e.owner_id = c.owner_id
+            AND e.achievement_id = a.achievement_id
+        WHERE e.earned_achievement_id IS NULL
+        """, nativeQuery = true)
+    List<Object[]> findReachedButNotEarned();
+}
@@ -0,0 +1,16 @@
+package com.kopo.hanagreenworld.member.repository;
+
+import com.kopo.hanagreenworld.member.domain.Achievement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AchievementRepository extends JpaRepository<Achievement, Long> {
+
+    /**
+     * 활성화된 업적들만 조회
+     */
+    List<Achievement> findByIsActiveTrue();
+}
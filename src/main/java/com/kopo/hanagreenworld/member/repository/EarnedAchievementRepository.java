@@ -0,0 +1,28 @@
+package com.kopo.hanagreenworld.member.repository;
+
+import com.kopo.hanagreenworld.member.domain.Achievement;
+import com.kopo.hanagreenworld.member.domain.EarnedAchievement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EarnedAchievementRepository extends JpaRepository<EarnedAchievement, Long> {
+
+    List<EarnedAchievement> findByOwnerTypeAndOwnerId(Achievement.Target ownerType, Long ownerId);
+
+    /**
+     * 업적 지급 기록 (이미 지급됐으면 무시, 새로 지급되면 1 반환)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO earned_achievements (owner_type, owner_id, achievement_id, earned_at)
+        VALUES (:ownerType, :ownerId, :achievementId, NOW())
+        """, nativeQuery = true)
+    int insertIgnore(@Param("ownerType") String ownerType, @Param("ownerId") Long ownerId,
+                     @Param("achievementId") Long achievementId);
+}
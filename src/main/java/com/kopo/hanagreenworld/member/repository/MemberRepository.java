@@ -1,7 +1,10 @@
 package com.kopo.hanagreenworld.member.repository;
 
 import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.dto.MemberDisplay;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -19,4 +22,17 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByLoginId(String loginId);
     
     boolean existsByEmail(String email);
+
+    /**
+     * 회원 표시 정보만 조회 (엔티티 로딩 없음)
+     */
+    @Query("SELECT new com.kopo.hanagreenworld.member.dto.MemberDisplay(m.memberId, m.name, m.role, m.status) " +
+           "FROM Member m WHERE m.memberId = :memberId")
+    Optional<MemberDisplay> findDisplayById(@Param("memberId") Long memberId);
+
+    /**
+     * 회원 행 잠금 (같은 회원의 팀 가입/생성 직렬화, 트랜잭션 종료 시 해제)
+     */
+    @Query(value = "SELECT member_id FROM members WHERE member_id = :memberId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("memberId") Long memberId);
 }
\ No newline at end of file
@@ -1,11 +1,14 @@
 package com.kopo.hanagreenworld.member.repository;
 
 import com.kopo.hanagreenworld.member.domain.MemberTeam;
+import com.kopo.hanagreenworld.member.dto.TeamMemberRow;
+import com.kopo.hanagreenworld.member.dto.TeamMembership;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +19,18 @@ public interface MemberTeamRepository extends JpaRepository<MemberTeam, Long> {
      * 특정 사용자가 속한 활성 팀 조회
      */
     Optional<MemberTeam> findByMember_MemberIdAndIsActiveTrue(Long memberId);
+
+    /**
+     * 특정 사용자의 활성 팀 소속 여부 (가입/생성 전 확인)
+     */
+    boolean existsByMember_MemberIdAndIsActiveTrue(Long memberId);
+
+    /**
+     * 특정 사용자의 활성 팀 소속 정보 조회 (엔티티 로딩 없이 ID/역할만)
+     */
+    @Query("SELECT new com.kopo.hanagreenworld.member.dto.TeamMembership(mt.member.memberId, mt.team.id, mt.role) " +
+           "FROM MemberTeam mt WHERE mt.member.memberId = :memberId AND mt.isActive = true")
+    Optional<TeamMembership> findActiveMembershipByMemberId(@Param("memberId") Long memberId);
     
     /**
      * 특정 팀의 모든 활성 멤버 조회
@@ -43,4 +58,41 @@ public interface MemberTeamRepository extends JpaRepository<MemberTeam, Long> {
      * 특정 팀의 활성 멤버 수 조회
      */
     long countByTeam_IdAndIsActiveTrue(Long teamId);
+
+    /**
+     * 팀 멤버 목록 조회 (닉네임, 역할, 이번 달/누적 적립 원큐씨앗을 한 번에, member_team_id 기준 키셋 페이지네이션)
+     * 적립 합계는 이 팀에 가입한 시점(joined_at) 이후 적립분만 센다.
+     */
+    @Query(value = """
+        SELECT mt.member_team_id AS memberTeamId,
+               mt.member_id AS memberId,
+               COALESCE(mp.nickname, m.name) AS nickname,
+               mt.role AS role,
+               mt.joined_at AS joinedAt,
+               COALESCE(pt.monthly_points, 0) AS monthlyPoints,
+               COALESCE(pt.total_points, 0) AS totalPoints
+        FROM member_teams mt
+        JOIN members m ON m.member_id = mt.member_id
+        LEFT JOIN member_profiles mp ON mp.member_id = mt.member_id
+        LEFT JOIN (
+            SELECT p.member_id,
+                   SUM(CASE WHEN p.occurred_at >= :monthStart THEN p.points_amount ELSE 0 END) AS monthly_points,
+                   SUM(p.points_amount) AS total_points
+            FROM point_transactions p
+            JOIN member_teams tm ON tm.member_id = p.member_id
+            WHERE tm.team_id = :teamId AND tm.is_active = true
+            AND p.transaction_type = 'EARN'
+            AND (tm.joined_at IS NULL OR p.occurred_at >= tm.joined_at)
+            GROUP BY p.member_id
+        ) pt ON pt.member_id = mt.member_id
+        WHERE mt.team_id = :teamId
+        AND mt.is_active = true
+        AND mt.member_team_id > :cursor
+        ORDER BY mt.member_team_id
+        LIMIT :size
+        """, nativeQuery = true)
+    List<TeamMemberRow> findTeamMemberRows(@Param("teamId") Long teamId,
+                                           @Param("monthStart") LocalDateTime monthStart,
+                                           @Param("cursor") Long cursor,
+                                           @Param("size") int size);
 }
@@ -0,0 +1,45 @@
+package com.kopo.hanagreenworld.member.repository;
+
+import com.kopo.hanagreenworld.member.domain.TeamInviteCode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TeamInviteCodeRepository extends JpaRepository<TeamInviteCode, Long> {
+
+    /**
+     * 초대코드로 활성 코드 조회
+     */
+    Optional<TeamInviteCode> findByCodeAndIsActiveTrue(String code);
+
+    /**
+     * 팀의 가장 최근 유효 초대코드 조회
+     */
+    Optional<TeamInviteCode> findFirstByTeamIdAndIsActiveTrueAndExpiresAtAfterOrderByIdDesc(Long teamId, LocalDateTime now);
+
+    /**
+     * 초대코드 사용 처리 (만료/사용 한도를 조건으로 원자적으로 증가)
+     */
+    @Modifying
+    @Query("UPDATE TeamInviteCode c SET c.useCount = c.useCount + 1 " +
+           "WHERE c.code = :code AND c.isActive = true AND c.expiresAt > :now " +
+           "AND (c.maxUses IS NULL OR c.useCount < c.maxUses)")
+    int consume(@Param("code") String code, @Param("now") LocalDateTime now);
+
+    boolean existsByCode(String code);
+
+    /**
+     * 초대코드가 한 번도 발급되지 않은 활성 팀 (팀 ID, 팀장 ID) - 기존 팀 초대코드 보정용
+     */
+    @Query("SELECT t.id, t.leaderId FROM Team t " +
+           "WHERE t.isActive = true " +
+           "AND NOT EXISTS (SELECT c.id FROM TeamInviteCode c WHERE c.teamId = t.id)")
+    List<Object[]> findActiveTeamsWithoutInviteCode();
+}
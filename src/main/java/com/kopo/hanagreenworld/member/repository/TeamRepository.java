@@ -2,6 +2,7 @@ package com.kopo.hanagreenworld.member.repository;
 
 import com.kopo.hanagreenworld.member.domain.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -86,5 +87,54 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
      * 활성화된 팀들을 총 팀 포인트 순으로 조회
      */
     List<Team> findByIsActiveTrueOrderByTotalTeamPointsDesc();
+
+    /**
+     * 팀 좌석 예약 (정원 미만일 때만 원자적으로 증가, 성공 시 1 반환)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Team t SET t.memberCount = t.memberCount + 1
+        WHERE t.id = :teamId
+        AND t.isActive = true
+        AND (t.maxMembers IS NULL OR t.memberCount < t.maxMembers)
+        """)
+    int reserveSeat(@Param("teamId") Long teamId);
+
+    /**
+     * 팀 좌석 반납
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Team t SET t.memberCount = t.memberCount - 1 WHERE t.id = :teamId AND t.memberCount > 0")
+    int releaseSeat(@Param("teamId") Long teamId);
+
+    /**
+     * 팀 포인트 원자적 적립 (현재 보유/누적 동시 증가)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Team t SET t.currentTeamPoints = COALESCE(t.currentTeamPoints, 0) + :amount,
+                          t.totalTeamPoints = COALESCE(t.totalTeamPoints, 0) + :amount
+        WHERE t.id = :teamId AND t.isActive = true
+        """)
+    int addTeamPoints(@Param("teamId") Long teamId, @Param("amount") Long amount);
+
+    /**
+     * 팀 현재 포인트 조회 (적립 직후 잔액 확인용)
+     */
+    @Query("SELECT t.currentTeamPoints FROM Team t WHERE t.id = :teamId")
+    Long findCurrentTeamPoints(@Param("teamId") Long teamId);
+
+    /**
+     * 카운터가 없는 기존 팀의 멤버 수 초기화
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE teams SET member_count = (
+            SELECT COUNT(*) FROM member_teams mt
+            WHERE mt.team_id = teams.team_id AND mt.is_active = true
+        )
+        WHERE member_count IS NULL
+        """, nativeQuery = true)
+    int initializeMissingMemberCounts();
 }
 
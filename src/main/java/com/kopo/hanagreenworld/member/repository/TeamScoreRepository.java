@@ -0,0 +1,26 @@
+package com.kopo.hanagreenworld.member.repository;
+
+import com.kopo.hanagreenworld.member.domain.TeamScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TeamScoreRepository extends JpaRepository<TeamScore, Long> {
+
+    /**
+     * 팀의 특정 월 점수 조회
+     */
+    Optional<TeamScore> findByTeam_IdAndReportDate(Long teamId, String reportDate);
+
+    /**
+     * 월간 팀 점수 원자적 누적 (해당 월 행이 없으면 0 반환)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TeamScore ts SET ts.totalScore = ts.totalScore + :score WHERE ts.team.id = :teamId AND ts.reportDate = :reportDate")
+    int addScore(@Param("teamId") Long teamId, @Param("reportDate") String reportDate, @Param("score") Long score);
+}
@@ -0,0 +1,140 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.kopo.hanagreenworld.member.domain.AchievementCounter;
+import com.kopo.hanagreenworld.member.repository.AchievementCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * 기존 회원/팀 업적 카운터 보정
+ *
+ * 업적 카운터는 적립/걷기 이벤트마다 증가하므로, 도입 전 이력이 있는 회원과 팀은 진행도가 0부터 시작한다.
+ * 기동 시 한 번 적립/걷기 이력으로 ACTIVITY, POINTS, CARBON, STREAK 값을 다시 계산해 채우고 (기존 값보다 작아지지 않음),
+ * 이미 조건을 넘은 업적은 지급 대기열에 올린다.
+ * 여러 노드가 동시에 돌지 않도록 Redis 잠금을 잡은 노드만 실행하고, 끝나면 완료 표시를 남겨 다시 실행하지 않는다.
+ * 연속 활동 일수는 최근 1년치 적립 이력까지만 본다.
+ */
+@Slf4j
+@Component
+public class AchievementCounterBackfill {
+
+    private static final String LOCK_KEY = "achievement:counter:backfill:lock";
+    private static final String DONE_KEY = "achievement:counter:backfill:done";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+    private static final int STREAK_WINDOW_DAYS = 366;
+
+    private final AchievementCounterRepository counterRepository;
+    private final AchievementService achievementService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    public AchievementCounterBackfill(AchievementCounterRepository counterRepository,
+                                      AchievementService achievementService,
+                                      StringRedisTemplate stringRedisTemplate,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${app.achievement.backfill-enabled:true}") boolean enabled) {
+        this.counterRepository = counterRepository;
+        this.achievementService = achievementService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(DONE_KEY))
+                    || !Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL))) {
+                return;
+            }
+            int activity = execute(() -> counterRepository.backfillEarnCounter(AchievementCounter.Metric.ACTIVITY.name()));
+            int points = execute(() -> counterRepository.backfillEarnCounter(AchievementCounter.Metric.POINTS.name()));
+            int carbon = execute(counterRepository::backfillCarbonCounter);
+            int streak = execute(this::backfillStreaks);
+
+            stringRedisTemplate.opsForValue().set(DONE_KEY, "1");
+            log.info("업적 카운터 보정 완료: 활동 {}건, 포인트 {}건, 탄소 {}건, 연속 {}건", activity, points, carbon, streak);
+
+            // 보정으로 조건을 넘은 업적 지급 (중복 지급은 유니크 키로 차단)
+            achievementService.reconcile();
+        } catch (Exception e) {
+            stringRedisTemplate.delete(LOCK_KEY);
+            log.error("업적 카운터 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 주체별 적립일을 최신순으로 훑어 오늘 또는 어제까지 이어진 연속 일수만 반영
+     * (그보다 오래 끊긴 연속 기록은 다음 활동 때 1로 초기화되므로 보정 대상이 아님)
+     */
+    private int backfillStreaks() {
+        LocalDate today = LocalDate.now();
+        List<Object[]> rows = counterRepository.findEarnDatesSince(today.minusDays(STREAK_WINDOW_DAYS).atStartOfDay());
+
+        int updated = 0;
+        String ownerType = null;
+        Long ownerId = null;
+        LocalDate lastDate = null;
+        LocalDate expected = null;
+        long streak = 0;
+        boolean counting = false;
+        for (Object[] row : rows) {
+            String type = row[0].toString();
+            Long id = ((Number) row[1]).longValue();
+            LocalDate date = toLocalDate(row[2]);
+
+            if (!type.equals(ownerType) || !id.equals(ownerId)) {
+                updated += saveStreak(ownerType, ownerId, streak, lastDate);
+                ownerType = type;
+                ownerId = id;
+                lastDate = date;
+                expected = date;
+                streak = 0;
+                counting = !date.isBefore(today.minusDays(1));
+            }
+            if (!counting) {
+                continue;
+            }
+            if (date.equals(expected)) {
+                streak++;
+                expected = date.minusDays(1);
+            } else {
+                counting = false;
+            }
+        }
+        updated += saveStreak(ownerType, ownerId, streak, lastDate);
+        return updated;
+    }
+
+    private int saveStreak(String ownerType, Long ownerId, long streak, LocalDate lastDate) {
+        if (ownerType == null || streak <= 0) {
+            return 0;
+        }
+        return counterRepository.backfillStreak(ownerType, ownerId, streak, lastDate);
+    }
+
+    private LocalDate toLocalDate(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+
+    private int execute(IntSupplier action) {
+        Integer count = transactionTemplate.execute(status -> action.getAsInt());
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,361 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kopo.hanagreenworld.common.cache.CacheInvalidationBus;
+import com.kopo.hanagreenworld.common.cache.ReferenceDataCache;
+import com.kopo.hanagreenworld.common.exception.BusinessException;
+import com.kopo.hanagreenworld.common.exception.ErrorCode;
+import com.kopo.hanagreenworld.common.util.SecurityUtil;
+import com.kopo.hanagreenworld.member.domain.Achievement;
+import com.kopo.hanagreenworld.member.domain.AchievementCounter;
+import com.kopo.hanagreenworld.member.dto.AchievementProgressResponse;
+import com.kopo.hanagreenworld.member.dto.TeamMembership;
+import com.kopo.hanagreenworld.member.repository.AchievementCounterRepository;
+import com.kopo.hanagreenworld.member.repository.EarnedAchievementRepository;
+import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import com.kopo.hanagreenworld.point.domain.PointCategory;
+import com.kopo.hanagreenworld.point.domain.PointTransaction;
+import com.kopo.hanagreenworld.point.domain.PointTransactionType;
+import com.kopo.hanagreenworld.point.domain.TeamPointTransaction;
+import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
+import com.kopo.hanagreenworld.point.service.TeamPointLedgerService;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 업적 / 팀 엠블럼 엔진
+ *
+ * - 적립/걷기 이벤트마다 회원/팀 카운터(ACTIVITY, POINTS, CARBON, STREAK)를 원자적으로 증가시키고
+ *   증가 전후 값으로 조건을 넘긴 업적만 골라낸다. (이력 재조회 없음)
+ * - 달성한 업적은 커밋 이후 큐에 모았다가 한 트랜잭션으로 묶어 지급한다. (중복 지급은 유니크 키로 차단)
+ * - 진행/달성 현황은 주체별로 로컬 캐시에 보관하고, 변경 시 모든 노드에서 무효화한다.
+ */
+@Slf4j
+@Service
+public class AchievementService {
+
+    private static final String CACHE_NAME = "achievement";
+    private static final int MAX_AWARDS_PER_FLUSH = 500;
+    private static final long GRAMS_PER_KG = 1000L;
+
+    private final AchievementCounterRepository counterRepository;
+    private final EarnedAchievementRepository earnedAchievementRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final TeamMembershipCacheService teamMembershipCacheService;
+    private final MemberRepository memberRepository;
+    private final MemberProfileRepository memberProfileRepository;
+    private final PointTransactionRepository pointTransactionRepository;
+    private final TeamPointLedgerService teamPointLedgerService;
+    private final CacheInvalidationBus invalidationBus;
+    private final TransactionTemplate transactionTemplate;
+    private final Queue<Award> pendingAwards = new ConcurrentLinkedQueue<>();
+    private final Cache<String, List<AchievementProgressResponse>> readModel = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public AchievementService(AchievementCounterRepository counterRepository,
+                              EarnedAchievementRepository earnedAchievementRepository,
+                              ReferenceDataCache referenceDataCache,
+                              TeamMembershipCacheService teamMembershipCacheService,
+                              MemberRepository memberRepository,
+                              MemberProfileRepository memberProfileRepository,
+                              PointTransactionRepository pointTransactionRepository,
+                              TeamPointLedgerService teamPointLedgerService,
+                              CacheInvalidationBus invalidationBus,
+                              PlatformTransactionManager transactionManager) {
+        this.counterRepository = counterRepository;
+        this.earnedAchievementRepository = earnedAchievementRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.teamMembershipCacheService = teamMembershipCacheService;
+        this.memberRepository = memberRepository;
+        this.memberProfileRepository = memberProfileRepository;
+        this.pointTransactionRepository = pointTransactionRepository;
+        this.teamPointLedgerService = teamPointLedgerService;
+        this.invalidationBus = invalidationBus;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        invalidationBus.subscribe(CACHE_NAME, readModel::invalidate);
+    }
+
+    /**
+     * 원큐씨앗 적립 이벤트 반영 (적립 트랜잭션에 참여)
+     */
+    @Transactional
+    public void recordEarn(Long memberId, int points) {
+        Long teamId = findTeamId(memberId);
+        apply(Achievement.Target.MEMBER, memberId, points);
+        if (teamId != null) {
+            apply(Achievement.Target.TEAM, teamId, points);
+        }
+    }
+
+    /**
+     * 탄소 절감량 반영 (걷기 등)
+     */
+    @Transactional
+    public void recordCarbon(Long memberId, BigDecimal carbonSavedKg) {
+        if (carbonSavedKg == null || carbonSavedKg.signum() <= 0) {
+            return;
+        }
+        long grams = carbonSavedKg.multiply(BigDecimal.valueOf(GRAMS_PER_KG)).longValue();
+        Long teamId = findTeamId(memberId);
+        bump(Achievement.Target.MEMBER, memberId, AchievementCounter.Metric.CARBON, grams);
+        evictAfterCommit(Achievement.Target.MEMBER, memberId);
+        if (teamId != null) {
+            bump(Achievement.Target.TEAM, teamId, AchievementCounter.Metric.CARBON, grams);
+            evictAfterCommit(Achievement.Target.TEAM, teamId);
+        }
+    }
+
+    /**
+     * 내 업적 현황
+     */
+    public List<AchievementProgressResponse> getMyAchievements() {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+        if (memberId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        return getProgress(Achievement.Target.MEMBER, memberId);
+    }
+
+    /**
+     * 팀 엠블럼 현황
+     */
+    public List<AchievementProgressResponse> getTeamEmblems(Long teamId) {
+        return getProgress(Achievement.Target.TEAM, teamId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        try {
+            List<Object[]> rows = counterRepository.findReachedButNotEarned();
+            for (Object[] row : rows) {
+                pendingAwards.add(new Award(Achievement.Target.valueOf(row[0].toString()),
+                        ((Number) row[1]).longValue(), ((Number) row[2]).longValue()));
+            }
+            if (!rows.isEmpty()) {
+                log.info("미지급 업적 보정 대기열 등록: {}건", rows.size());
+            }
+        } catch (Exception e) {
+            log.error("미지급 업적 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 달성 업적 일괄 지급
+     */
+    @Scheduled(fixedDelayString = "${app.achievement.award-flush-ms:1000}")
+    public void flushAwards() {
+        List<Award> batch = new ArrayList<>();
+        Award award;
+        while (batch.size() < MAX_AWARDS_PER_FLUSH && (award = pendingAwards.poll()) != null) {
+            batch.add(award);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(this::grant));
+        } catch (Exception e) {
+            // 한 건 실패로 전체가 막히지 않도록 건별로 재시도
+            log.warn("업적 일괄 지급 실패, 건별 재시도: {}건, 에러 = {}", batch.size(), e.getMessage());
+            for (Award each : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> grant(each));
+                } catch (Exception ex) {
+                    log.error("업적 지급 실패: {} {} - 업적 ID = {}, 에러 = {}",
+                            each.getOwnerType(), each.getOwnerId(), each.getAchievementId(), ex.getMessage());
+                }
+            }
+        }
+        batch.forEach(each -> evictNow(each.getOwnerType(), each.getOwnerId()));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        while (!pendingAwards.isEmpty()) {
+            flushAwards();
+        }
+    }
+
+    private void apply(Achievement.Target ownerType, Long ownerId, int points) {
+        bump(ownerType, ownerId, AchievementCounter.Metric.ACTIVITY, 1L);
+        if (points > 0) {
+            bump(ownerType, ownerId, AchievementCounter.Metric.POINTS, points);
+        }
+        touchStreak(ownerType, ownerId);
+        evictAfterCommit(ownerType, ownerId);
+    }
+
+    private void bump(Achievement.Target ownerType, Long ownerId, AchievementCounter.Metric metric, long delta) {
+        counterRepository.increment(ownerType.name(), ownerId, metric.name(), delta);
+        long after = counterRepository.findValue(ownerType, ownerId, metric).orElse(delta);
+        long before = after - delta;
+
+        for (Achievement achievement : candidates(ownerType, metric)) {
+            long required = requiredValue(achievement, metric);
+            if (before < required && after >= required) {
+                queueAfterCommit(new Award(ownerType, ownerId, achievement.getId()));
+            }
+        }
+    }
+
+    private void touchStreak(Achievement.Target ownerType, Long ownerId) {
+        LocalDate today = LocalDate.now();
+        counterRepository.touchStreak(ownerType.name(), ownerId, today, today.minusDays(1));
+        long streak = counterRepository.findValue(ownerType, ownerId, AchievementCounter.Metric.STREAK).orElse(1L);
+
+        // 연속 일수는 하루에 1씩만 증가하므로 정확히 도달한 날에만 지급 대상
+        for (Achievement achievement : candidates(ownerType, AchievementCounter.Metric.STREAK)) {
+            if (streak == requiredValue(achievement, AchievementCounter.Metric.STREAK)) {
+                queueAfterCommit(new Award(ownerType, ownerId, achievement.getId()));
+            }
+        }
+    }
+
+    private List<Achievement> candidates(Achievement.Target ownerType, AchievementCounter.Metric metric) {
+        return referenceDataCache.getActiveAchievements().stream()
+                .filter(a -> a.getTargetOrDefault() == ownerType)
+                .filter(a -> AchievementCounter.Metric.fromCategory(a.getCategory()) == metric)
+                .filter(a -> a.getRequiredValue() != null)
+                .toList();
+    }
+
+    private long requiredValue(Achievement achievement, AchievementCounter.Metric metric) {
+        long required = achievement.getRequiredValue();
+        return metric == AchievementCounter.Metric.CARBON ? required * GRAMS_PER_KG : required;
+    }
+
+    private void grant(Award award) {
+        if (earnedAchievementRepository.insertIgnore(award.getOwnerType().name(), award.getOwnerId(), award.getAchievementId()) == 0) {
+            return;
+        }
+
+        Achievement achievement = referenceDataCache.getActiveAchievements().stream()
+                .filter(a -> a.getId().equals(award.getAchievementId()))
+                .findFirst()
+                .orElse(null);
+        if (achievement == null || achievement.getPointsReward() == null || achievement.getPointsReward() <= 0) {
+            return;
+        }
+
+        int reward = achievement.getPointsReward();
+        if (award.getOwnerType() == Achievement.Target.TEAM) {
+            // 엠블럼 보상은 팀 일일 적립 한도에 걸려 잘리지 않도록 한도 없이 적립
+            teamPointLedgerService.grantReward(award.getOwnerId(), reward,
+                    TeamPointTransaction.TeamPointCategory.TEAM_ECO_ACTIVITY,
+                    achievement.getName() + " 엠블럼 획득 보상");
+        } else {
+            memberProfileRepository.findByMember_MemberId(award.getOwnerId()).ifPresent(profile -> {
+                profile.updateCurrentPoints((long) reward);
+                pointTransactionRepository.save(PointTransaction.builder()
+                        .member(memberRepository.getReferenceById(award.getOwnerId()))
+                        .pointTransactionType(PointTransactionType.EARN)
+                        .category(PointCategory.ACHIEVEMENT)
+                        .description(achievement.getName() + " 업적 달성 보상")
+                        .pointsAmount(reward)
+                        .balanceAfter(profile.getCurrentPoints())
+                        .build());
+            });
+        }
+        log.info("업적 지급: {} {} - {}", award.getOwnerType(), award.getOwnerId(), achievement.getAchievementCode());
+    }
+
+    private List<AchievementProgressResponse> getProgress(Achievement.Target ownerType, Long ownerId) {
+        return readModel.get(cacheKey(ownerType, ownerId), key -> loadProgress(ownerType, ownerId));
+    }
+
+    private List<AchievementProgressResponse> loadProgress(Achievement.Target ownerType, Long ownerId) {
+        Map<AchievementCounter.Metric, Long> counters = new EnumMap<>(AchievementCounter.Metric.class);
+        counterRepository.findByOwnerTypeAndOwnerId(ownerType, ownerId)
+                .forEach(counter -> counters.put(counter.getMetric(), counter.getCounterValue()));
+        Map<Long, LocalDateTime> earned = new HashMap<>();
+        earnedAchievementRepository.findByOwnerTypeAndOwnerId(ownerType, ownerId)
+                .forEach(each -> earned.put(each.getAchievementId(), each.getEarnedAt()));
+
+        List<AchievementProgressResponse> result = new ArrayList<>();
+        for (Achievement achievement : referenceDataCache.getActiveAchievements()) {
+            if (achievement.getTargetOrDefault() != ownerType) {
+                continue;
+            }
+            AchievementCounter.Metric metric = AchievementCounter.Metric.fromCategory(achievement.getCategory());
+            long value = metric != null ? counters.getOrDefault(metric, 0L) : 0L;
+            if (metric == AchievementCounter.Metric.CARBON) {
+                value = value / GRAMS_PER_KG; // 조건 값과 같은 kg 단위로 노출
+            }
+            result.add(AchievementProgressResponse.of(achievement, value, earned.get(achievement.getId())));
+        }
+        return List.copyOf(result);
+    }
+
+    private Long findTeamId(Long memberId) {
+        return teamMembershipCacheService.getMembership(memberId)
+                .map(TeamMembership::getTeamId)
+                .orElse(null);
+    }
+
+    private void queueAfterCommit(Award award) {
+        afterCommit(() -> pendingAwards.add(award));
+    }
+
+    private void evictAfterCommit(Achievement.Target ownerType, Long ownerId) {
+        afterCommit(() -> evictNow(ownerType, ownerId));
+    }
+
+    private void evictNow(Achievement.Target ownerType, Long ownerId) {
+        String key = cacheKey(ownerType, ownerId);
+        readModel.invalidate(key);
+        invalidationBus.publish(CACHE_NAME, key);
+    }
+
+    private String cacheKey(Achievement.Target ownerType, Long ownerId) {
+        return ownerType.name() + ":" + ownerId;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Award {
+        private final Achievement.Target ownerType;
+        private final Long ownerId;
+        private final Long achievementId;
+    }
+}
@@ -0,0 +1,39 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kopo.hanagreenworld.member.dto.MemberDisplay;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 회원 표시 정보(이름, 역할, 상태) 로컬 캐시
+ *
+ * 채팅 인증/전송 경로에서 회원 엔티티를 매번 조회하지 않도록 projection 결과를 짧은 TTL로 보관한다.
+ * 회원 이름/역할/상태를 바꾸는 경로가 아직 없어 따로 무효화하지 않으므로, 변경은 최대 TTL(기본 10분)만큼 늦게 반영된다.
+ * (CONNECT 시점에만 읽으므로 이미 연결된 세션은 재연결 전까지 이전 값을 쓴다)
+ */
+@Service
+public class MemberDisplayCache {
+
+    private final MemberRepository memberRepository;
+    private final Cache<Long, Optional<MemberDisplay>> cache;
+
+    public MemberDisplayCache(MemberRepository memberRepository,
+                              @Value("${app.member.display-cache.max-size:50000}") long maxSize,
+                              @Value("${app.member.display-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public Optional<MemberDisplay> get(Long memberId) {
+        return cache.get(memberId, memberRepository::findDisplayById);
+    }
+}
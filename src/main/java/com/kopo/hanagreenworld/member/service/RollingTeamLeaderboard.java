@@ -0,0 +1,146 @@
+package com.kopo.hanagreenworld.member.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시간 버킷 링 버퍼 기반 팀 롤링 리더보드 (최근 24시간 / 최근 7일)
+ *
+ * 팀마다 1시간 단위 버킷 168개를 링 버퍼로 유지하고, 버킷이 회전할 때
+ * 윈도우를 벗어나는 버킷 값만 빼서 구간 합계를 증분으로 갱신한다.
+ * 시간은 epoch 기준 시(hour) 인덱스로 다룬다.
+ */
+public final class RollingTeamLeaderboard {
+
+    static final int DAY_HOURS = 24;
+    static final int WEEK_HOURS = 24 * 7;
+
+    public enum Window {
+        DAILY, WEEKLY
+    }
+
+    private final Map<Long, Buckets> teams = new ConcurrentHashMap<>();
+    private volatile long currentHour;
+
+    public RollingTeamLeaderboard(long currentHour) {
+        this.currentHour = currentHour;
+    }
+
+    /**
+     * 특정 시간 버킷에 포인트 누적 (윈도우 밖의 과거 값은 무시)
+     */
+    public void add(long teamId, long hour, long amount) {
+        if (hour > currentHour) {
+            currentHour = hour;
+        }
+        teams.compute(teamId, (id, buckets) -> {
+            Buckets target = buckets != null ? buckets : new Buckets(currentHour);
+            target.add(hour, amount);
+            return target;
+        });
+    }
+
+    /**
+     * 버킷 회전 (매 정시 호출)
+     */
+    public void advanceTo(long hour) {
+        if (hour > currentHour) {
+            currentHour = hour;
+        }
+        long head = currentHour;
+        teams.values().forEach(buckets -> buckets.advanceTo(head));
+        // 7일간 활동이 없는 팀 제거 (동시 적립과 겹치지 않도록 키 단위 원자 연산)
+        teams.keySet().forEach(teamId ->
+                teams.computeIfPresent(teamId, (id, buckets) -> buckets.isEmpty() ? null : buckets));
+    }
+
+    public long sum(long teamId, Window window) {
+        Buckets buckets = teams.get(teamId);
+        return buckets == null ? 0L : buckets.sum(currentHour, window);
+    }
+
+    /**
+     * 상위 N개 팀 (크기 N의 최소 힙으로 선별, 합계 내림차순)
+     */
+    public List<long[]> top(Window window, int n) {
+        PriorityQueue<long[]> heap = new PriorityQueue<>(n + 1,
+                Comparator.<long[]>comparingLong(e -> e[1]).thenComparingLong(e -> -e[0]));
+        long head = currentHour;
+        teams.forEach((teamId, buckets) -> {
+            long sum = buckets.sum(head, window);
+            if (sum <= 0) {
+                return;
+            }
+            heap.offer(new long[]{teamId, sum});
+            if (heap.size() > n) {
+                heap.poll();
+            }
+        });
+
+        List<long[]> result = new ArrayList<>(heap);
+        result.sort(Comparator.<long[]>comparingLong(e -> e[1]).reversed().thenComparingLong(e -> e[0]));
+        return result;
+    }
+
+    private static int slot(long hour) {
+        return (int) Math.floorMod(hour, (long) WEEK_HOURS);
+    }
+
+    private static final class Buckets {
+        private final long[] values = new long[WEEK_HOURS];
+        private long headHour;
+        private long daySum;
+        private long weekSum;
+
+        private Buckets(long headHour) {
+            this.headHour = headHour;
+        }
+
+        synchronized void add(long hour, long amount) {
+            advanceTo(hour);
+            if (hour <= headHour - WEEK_HOURS) {
+                return;
+            }
+            values[slot(hour)] += amount;
+            weekSum += amount;
+            if (hour > headHour - DAY_HOURS) {
+                daySum += amount;
+            }
+        }
+
+        synchronized void advanceTo(long hour) {
+            if (hour <= headHour) {
+                return;
+            }
+            if (hour - headHour >= WEEK_HOURS) {
+                Arrays.fill(values, 0L);
+                daySum = 0L;
+                weekSum = 0L;
+                headHour = hour;
+                return;
+            }
+            for (long h = headHour + 1; h <= hour; h++) {
+                // h-168 시간 버킷은 7일 윈도우에서, h-24 시간 버킷은 24시간 윈도우에서 빠진다
+                int slot = slot(h);
+                weekSum -= values[slot];
+                values[slot] = 0L;
+                daySum -= values[slot(h - DAY_HOURS)];
+            }
+            headHour = hour;
+        }
+
+        synchronized long sum(long hour, Window window) {
+            advanceTo(hour);
+            return window == Window.DAILY ? daySum : weekSum;
+        }
+
+        synchronized boolean isEmpty() {
+            return weekSum == 0L;
+        }
+    }
+}
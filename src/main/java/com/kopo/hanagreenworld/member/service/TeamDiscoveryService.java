@@ -0,0 +1,144 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.kopo.hanagreenworld.common.cache.CacheInvalidationBus;
+import com.kopo.hanagreenworld.member.domain.Team;
+import com.kopo.hanagreenworld.member.dto.TeamDiscoveryResponse;
+import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 팀 탐색 (이름 검색 + 필터 + 정렬 + 커서 페이지네이션)
+ *
+ * 활성 팀 전체를 불변 인덱스(TeamSearchIndex)로 만들어 두고 요청은 메모리에서만 처리한다.
+ * 팀 생성/가입/탈퇴 시 dirty 표시 후 짧은 주기로 재구성하며, 월간 포인트 반영을 위해 주기적으로 전체 재구성한다.
+ */
+@Slf4j
+@Service
+public class TeamDiscoveryService {
+
+    private static final String CACHE_NAME = "team-discovery";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TeamRepository teamRepository;
+    private final PointTransactionRepository pointTransactionRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private volatile TeamSearchIndex index = TeamSearchIndex.empty();
+
+    public TeamDiscoveryService(TeamRepository teamRepository,
+                                PointTransactionRepository pointTransactionRepository,
+                                CacheInvalidationBus invalidationBus) {
+        this.teamRepository = teamRepository;
+        this.pointTransactionRepository = pointTransactionRepository;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(CACHE_NAME, key -> dirty.set(true));
+    }
+
+    /**
+     * 팀 탐색
+     */
+    public TeamDiscoveryResponse search(String query, Boolean openSeatsOnly, Long minMonthlyPoints,
+                                        TeamSearchIndex.Sort sort, String cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        TeamSearchIndex.Result result = index.search(TeamSearchIndex.Query.builder()
+                .text(query)
+                .openSeatsOnly(Boolean.TRUE.equals(openSeatsOnly))
+                .minMonthlyPoints(minMonthlyPoints)
+                .sort(sort)
+                .cursor(cursor)
+                .size(pageSize)
+                .build());
+
+        return TeamDiscoveryResponse.builder()
+                .teams(result.getEntries().stream().map(TeamDiscoveryResponse.TeamSummary::from).toList())
+                .nextCursor(result.getNextCursor())
+                .hasNext(result.getNextCursor() != null)
+                .build();
+    }
+
+    /**
+     * 팀 정보 변경 알림 (커밋 이후 모든 노드에 재구성 표시)
+     */
+    public void markDirty() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishDirty();
+                }
+            });
+        } else {
+            publishDirty();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.team.discovery.refresh-delay-ms:2000}")
+    public void refreshIfDirty() {
+        if (dirty.getAndSet(false)) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.team.discovery.full-refresh-ms:300000}",
+            initialDelayString = "${app.team.discovery.full-refresh-ms:300000}")
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            Map<Long, Long> monthlyPoints = loadMonthlyPoints();
+            List<TeamSearchIndex.Entry> entries = teamRepository.findByIsActiveTrue().stream()
+                    .map(team -> toEntry(team, monthlyPoints.getOrDefault(team.getId(), 0L)))
+                    .toList();
+            index = TeamSearchIndex.build(entries);
+            log.info("팀 탐색 인덱스 재구성 완료: 팀 수 = {}, 소요 = {}ms", entries.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("팀 탐색 인덱스 재구성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void publishDirty() {
+        dirty.set(true);
+        invalidationBus.publish(CACHE_NAME, "*");
+    }
+
+    private Map<Long, Long> loadMonthlyPoints() {
+        Map<Long, Long> result = new HashMap<>();
+        for (Object[] row : pointTransactionRepository.sumEarnedPointsGroupByTeam(
+                LocalDate.now().withDayOfMonth(1).atStartOfDay())) {
+            result.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return result;
+    }
+
+    private TeamSearchIndex.Entry toEntry(Team team, long monthlyPoints) {
+        return TeamSearchIndex.Entry.builder()
+                .teamId(team.getId())
+                .name(team.getTeamName())
+                .description(team.getDescription())
+                .memberCount(team.getMemberCount() != null ? team.getMemberCount() : 0)
+                .maxMembers(team.getMaxMembers())
+                .monthlyPoints(monthlyPoints)
+                .totalPoints(team.getTotalTeamPoints() != null ? team.getTotalTeamPoints() : 0L)
+                .createdAt(team.getCreatedAt())
+                .build();
+    }
+}
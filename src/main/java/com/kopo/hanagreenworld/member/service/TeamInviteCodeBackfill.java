@@ -0,0 +1,71 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.kopo.hanagreenworld.member.repository.TeamInviteCodeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 기존 팀 초대코드 보정
+ *
+ * 팀 ID에서 유도하던 초대코드를 랜덤 코드로 바꾸기 전에 만들어진 팀은 team_invite_codes 행이 없어 초대코드가 비어 보인다.
+ * 기동 시 한 번도 코드가 발급되지 않은 활성 팀에만 팀장 명의로 기본 코드를 발급한다. (만료된 코드를 자동 갱신하지는 않음)
+ * 여러 노드가 동시에 돌지 않도록 Redis 잠금을 잡은 노드만 실행한다.
+ */
+@Slf4j
+@Component
+public class TeamInviteCodeBackfill {
+
+    private static final String LOCK_KEY = "team:invite:backfill:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+
+    private final TeamInviteCodeRepository inviteCodeRepository;
+    private final TeamInviteCodeService teamInviteCodeService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean enabled;
+
+    public TeamInviteCodeBackfill(TeamInviteCodeRepository inviteCodeRepository,
+                                  TeamInviteCodeService teamInviteCodeService,
+                                  StringRedisTemplate stringRedisTemplate,
+                                  @Value("${app.team.invite-code.backfill-enabled:true}") boolean enabled) {
+        this.inviteCodeRepository = inviteCodeRepository;
+        this.teamInviteCodeService = teamInviteCodeService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL))) {
+                return;
+            }
+            List<Object[]> teams = inviteCodeRepository.findActiveTeamsWithoutInviteCode();
+            int issued = 0;
+            for (Object[] row : teams) {
+                Long teamId = (Long) row[0];
+                try {
+                    // 팀별 트랜잭션 (한 팀 실패가 나머지에 영향 없도록)
+                    teamInviteCodeService.issue(teamId, (Long) row[1], null, null);
+                    issued++;
+                } catch (Exception e) {
+                    log.warn("초대코드 보정 실패: 팀 ID = {}, 에러 = {}", teamId, e.getMessage());
+                }
+            }
+            if (issued > 0) {
+                log.info("기존 팀 초대코드 보정 완료: {}개 팀", issued);
+            }
+        } catch (Exception e) {
+            log.error("초대코드 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+}
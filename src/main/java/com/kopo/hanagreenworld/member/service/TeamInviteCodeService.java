@@ -0,0 +1,369 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.kopo.hanagreenworld.common.exception.BusinessException;
+import com.kopo.hanagreenworld.common.exception.ErrorCode;
+import com.kopo.hanagreenworld.member.domain.Team;
+import com.kopo.hanagreenworld.member.domain.TeamInviteCode;
+import com.kopo.hanagreenworld.member.dto.MemberDisplay;
+import com.kopo.hanagreenworld.member.dto.TeamInvitePreview;
+import com.kopo.hanagreenworld.member.repository.TeamInviteCodeRepository;
+import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 팀 초대코드 발급/검증/사용
+ *
+ * - 코드: "GG-" + 랜덤 8자리 (혼동 문자 제외 32진 알파벳)
+ * - Redis 해시(teamId, maxUses, uses + 팀 미리보기 정보) + TTL로, 검증은 요청 수 제한과 함께 스크립트 한 번(왕복 1회)으로 끝낸다.
+ * - MySQL(team_invite_codes)이 원본이며, 사용 처리는 DB의 조건부 UPDATE로 한도를 보장한다.
+ * - 클라이언트별 요청 수를 제한해 무차별 대입이 DB까지 내려오지 않도록 한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TeamInviteCodeService {
+
+    private static final String CODE_PREFIX = "GG-";
+    private static final char[] CODE_ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789".toCharArray();
+    private static final int CODE_LENGTH = 8;
+
+    private static final String INVITE_CODE_KEY = "team:invite:code:%s";
+    private static final String TEAM_CURRENT_CODE_KEY = "team:invite:team:%d";
+    private static final String RATE_LIMIT_KEY = "team:invite:rate:%s";
+    private static final String FIELD_TEAM_ID = "teamId";
+    private static final String FIELD_MAX_USES = "maxUses";
+    private static final String FIELD_USES = "uses";
+    private static final String FIELD_TEAM_NAME = "teamName";
+    private static final String FIELD_SLOGAN = "slogan";
+    private static final String FIELD_LEADER_NAME = "leaderName";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    /**
+     * 요청 수 증가(첫 요청에만 만료 설정) 후 한도 안이면 코드 해시까지 함께 조회
+     * KEYS: 요청 수 카운터, 코드 해시 / ARGV: 제한 구간(ms), 한도
+     * 반환: {요청 수, 필드, 값, ...} (한도 초과면 {요청 수})
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> LOOKUP = new DefaultRedisScript<>(
+            "local count = redis.call('INCR', KEYS[1]) " +
+            "if count == 1 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end " +
+            "if count > tonumber(ARGV[2]) then return {count} end " +
+            "local fields = redis.call('HGETALL', KEYS[2]) " +
+            "table.insert(fields, 1, count) " +
+            "return fields", List.class);
+    /**
+     * 코드 해시 교체 + TTL + 팀의 현재 코드 포인터를 한 번에 (중간 실패로 TTL 없는 해시가 남지 않도록)
+     * KEYS: 코드 해시, 팀 현재 코드 / ARGV: TTL(ms), 코드, (필드, 값) 쌍...
+     */
+    private static final DefaultRedisScript<Long> STORE = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], unpack(ARGV, 3)) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[1]) " +
+            "return 1", Long.class);
+    private static final Duration RATE_LIMIT_WINDOW = Duration.ofMinutes(1);
+    // 팀의 현재 코드 포인터가 아직 이 코드를 가리킬 때만 삭제 (그 사이 새로 발급된 코드는 유지)
+    private static final DefaultRedisScript<Long> CLEAR_TEAM_CODE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private final TeamInviteCodeRepository inviteCodeRepository;
+    private final TeamRepository teamRepository;
+    private final MemberDisplayCache memberDisplayCache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SecureRandom random = new SecureRandom();
+    private final int defaultTtlHours;
+    private final Integer defaultMaxUses;
+    private final int rateLimitPerMinute;
+
+    public TeamInviteCodeService(TeamInviteCodeRepository inviteCodeRepository,
+                                 TeamRepository teamRepository,
+                                 MemberDisplayCache memberDisplayCache,
+                                 StringRedisTemplate stringRedisTemplate,
+                                 @Value("${app.team.invite-code.ttl-hours:168}") int defaultTtlHours,
+                                 @Value("${app.team.invite-code.max-uses:50}") Integer defaultMaxUses,
+                                 @Value("${app.team.invite-code.rate-limit-per-minute:20}") int rateLimitPerMinute) {
+        this.inviteCodeRepository = inviteCodeRepository;
+        this.teamRepository = teamRepository;
+        this.memberDisplayCache = memberDisplayCache;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.defaultTtlHours = defaultTtlHours;
+        this.defaultMaxUses = defaultMaxUses;
+        this.rateLimitPerMinute = rateLimitPerMinute;
+    }
+
+    /**
+     * 초대코드 발급
+     */
+    @Transactional
+    public TeamInviteCode issue(Long teamId, Long createdBy, Integer ttlHours, Integer maxUses) {
+        int hours = ttlHours != null && ttlHours > 0 ? ttlHours : defaultTtlHours;
+        Integer uses = maxUses != null && maxUses > 0 ? maxUses : defaultMaxUses;
+
+        String code = generateUniqueCode();
+        TeamInviteCode inviteCode = inviteCodeRepository.save(TeamInviteCode.builder()
+                .code(code)
+                .teamId(teamId)
+                .createdBy(createdBy)
+                .expiresAt(LocalDateTime.now().plusHours(hours))
+                .maxUses(uses)
+                .build());
+
+        afterCommit(() -> cache(inviteCode));
+        log.info("초대코드 발급: 팀 ID = {}, 만료 = {}, 최대 사용 = {}", teamId, inviteCode.getExpiresAt(), uses);
+        return inviteCode;
+    }
+
+    /**
+     * 초대코드 검증 후 팀 ID 반환 (사용 처리하지 않음)
+     */
+    public Long resolve(String rawCode, String clientKey) {
+        return Long.valueOf(lookup(normalize(rawCode), clientKey).get(FIELD_TEAM_ID));
+    }
+
+    /**
+     * 초대코드 검증 후 가입 전 팀 미리보기 반환 (캐시 적중 시 Redis 왕복 1회로 끝남)
+     */
+    public TeamInvitePreview preview(String rawCode, String clientKey) {
+        Map<String, String> fields = lookup(normalize(rawCode), clientKey);
+        String createdAt = fields.get(FIELD_CREATED_AT);
+        return new TeamInvitePreview(Long.valueOf(fields.get(FIELD_TEAM_ID)), fields.get(FIELD_TEAM_NAME),
+                fields.get(FIELD_SLOGAN), fields.get(FIELD_LEADER_NAME),
+                createdAt != null ? LocalDateTime.parse(createdAt) : null);
+    }
+
+    /**
+     * 요청 수 제한 확인 + 코드 해시 조회 (스크립트 한 번), 미스면 원본 테이블에서 확인 후 재적재
+     */
+    private Map<String, String> lookup(String code, String clientKey) {
+        Map<String, String> cached = null;
+        try {
+            List<?> result = stringRedisTemplate.execute(LOOKUP,
+                    List.of(String.format(RATE_LIMIT_KEY, clientKey), String.format(INVITE_CODE_KEY, code)),
+                    Long.toString(RATE_LIMIT_WINDOW.toMillis()), Integer.toString(rateLimitPerMinute));
+            if (result != null && !result.isEmpty()) {
+                if (((Number) result.get(0)).longValue() > rateLimitPerMinute) {
+                    throw new BusinessException(ErrorCode.INVITE_CODE_RATE_LIMITED);
+                }
+                cached = new HashMap<>();
+                for (int i = 1; i + 1 < result.size(); i += 2) {
+                    cached.put(result.get(i).toString(), result.get(i + 1).toString());
+                }
+            }
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("초대코드 캐시 조회 실패: {}", e.getMessage());
+        }
+
+        if (cached != null && cached.containsKey(FIELD_TEAM_ID)) {
+            long uses = parseLong(cached.get(FIELD_USES), 0L);
+            Long maxUses = parseLong(cached.get(FIELD_MAX_USES), null);
+            if (maxUses != null && uses >= maxUses) {
+                throw new BusinessException(ErrorCode.INVALID_INVITE_CODE);
+            }
+            return cached;
+        }
+
+        // Redis 미스: 원본 테이블에서 확인 후 재적재
+        TeamInviteCode inviteCode = inviteCodeRepository.findByCodeAndIsActiveTrue(code)
+                .filter(c -> c.isUsable(LocalDateTime.now()))
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INVITE_CODE));
+        Team team = teamRepository.findById(inviteCode.getTeamId())
+                .filter(Team::getIsActive)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INVITE_CODE));
+        Map<String, String> fields = toFields(inviteCode, team);
+        store(inviteCode, fields);
+        return fields;
+    }
+
+    /**
+     * 초대코드 사용 (가입 트랜잭션 안에서 호출, 롤백 시 사용 횟수도 롤백됨)
+     */
+    @Transactional
+    public Long redeem(String rawCode, String clientKey) {
+        Long teamId = resolve(rawCode, clientKey);
+        String code = normalize(rawCode);
+
+        if (inviteCodeRepository.consume(code, LocalDateTime.now()) == 0) {
+            evict(code, teamId);
+            throw new BusinessException(ErrorCode.INVALID_INVITE_CODE);
+        }
+
+        afterCommit(() -> {
+            try {
+                stringRedisTemplate.opsForHash().increment(String.format(INVITE_CODE_KEY, code), FIELD_USES, 1);
+            } catch (Exception e) {
+                log.warn("초대코드 사용 횟수 캐시 갱신 실패: {}", e.getMessage());
+            }
+        });
+        return teamId;
+    }
+
+    /**
+     * 팀의 현재 유효 초대코드 조회 (없으면 null)
+     */
+    public String findActiveCode(Long teamId) {
+        String key = String.format(TEAM_CURRENT_CODE_KEY, teamId);
+        try {
+            String code = stringRedisTemplate.opsForValue().get(key);
+            if (code != null) {
+                if (isCachedUsable(code)) {
+                    return code;
+                }
+                // 사용 한도 소진/실패로 정리된 코드를 가리키는 포인터는 지우고 원본 테이블에서 다시 찾는다
+                evict(code, teamId);
+            }
+        } catch (Exception e) {
+            log.warn("팀 초대코드 캐시 조회 실패: 팀 ID = {}, 에러 = {}", teamId, e.getMessage());
+        }
+
+        return inviteCodeRepository
+                .findFirstByTeamIdAndIsActiveTrueAndExpiresAtAfterOrderByIdDesc(teamId, LocalDateTime.now())
+                .filter(c -> c.isUsable(LocalDateTime.now()))
+                .map(c -> {
+                    cache(c);
+                    return c.getCode();
+                })
+                .orElse(null);
+    }
+
+    private void cache(TeamInviteCode inviteCode) {
+        teamRepository.findById(inviteCode.getTeamId())
+                .filter(Team::getIsActive)
+                .ifPresent(team -> store(inviteCode, toFields(inviteCode, team)));
+    }
+
+    private void store(TeamInviteCode inviteCode, Map<String, String> fields) {
+        Duration ttl = Duration.between(LocalDateTime.now(), inviteCode.getExpiresAt());
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(2 + fields.size() * 2);
+        args.add(Long.toString(ttl.toMillis()));
+        args.add(inviteCode.getCode());
+        fields.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        try {
+            stringRedisTemplate.execute(STORE, List.of(String.format(INVITE_CODE_KEY, inviteCode.getCode()),
+                    String.format(TEAM_CURRENT_CODE_KEY, inviteCode.getTeamId())), args.toArray());
+        } catch (Exception e) {
+            log.warn("초대코드 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 코드 해시 필드 (사용 한도 + 가입 전 미리보기에 필요한 팀 정보)
+     */
+    private Map<String, String> toFields(TeamInviteCode inviteCode, Team team) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_TEAM_ID, team.getId().toString());
+        if (inviteCode.getMaxUses() != null) {
+            fields.put(FIELD_MAX_USES, inviteCode.getMaxUses().toString());
+        }
+        fields.put(FIELD_USES, inviteCode.getUseCount().toString());
+        fields.put(FIELD_TEAM_NAME, team.getTeamName());
+        if (team.getDescription() != null) {
+            fields.put(FIELD_SLOGAN, team.getDescription());
+        }
+        memberDisplayCache.get(team.getLeaderId())
+                .map(MemberDisplay::getName)
+                .ifPresent(name -> fields.put(FIELD_LEADER_NAME, name));
+        if (team.getCreatedAt() != null) {
+            fields.put(FIELD_CREATED_AT, team.getCreatedAt().toString());
+        }
+        return fields;
+    }
+
+    private Map<Object, Object> readCache(String code) {
+        try {
+            return stringRedisTemplate.opsForHash().entries(String.format(INVITE_CODE_KEY, code));
+        } catch (Exception e) {
+            log.warn("초대코드 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isCachedUsable(String code) {
+        Map<Object, Object> cached = readCache(code);
+        if (cached == null || cached.isEmpty()) {
+            return false;
+        }
+        Long maxUses = parseLong(cached.get(FIELD_MAX_USES), null);
+        return maxUses == null || parseLong(cached.get(FIELD_USES), 0L) < maxUses;
+    }
+
+    private void evict(String code, Long teamId) {
+        try {
+            stringRedisTemplate.delete(String.format(INVITE_CODE_KEY, code));
+            stringRedisTemplate.execute(CLEAR_TEAM_CODE, List.of(String.format(TEAM_CURRENT_CODE_KEY, teamId)), code);
+        } catch (Exception e) {
+            log.warn("초대코드 캐시 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private String generateUniqueCode() {
+        for (int attempt = 0; attempt < 5; attempt++) {
+            StringBuilder sb = new StringBuilder(CODE_PREFIX);
+            for (int i = 0; i < CODE_LENGTH; i++) {
+                sb.append(CODE_ALPHABET[random.nextInt(CODE_ALPHABET.length)]);
+            }
+            String code = sb.toString();
+            if (!inviteCodeRepository.existsByCode(code)) {
+                return code;
+            }
+        }
+        throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+
+    private String normalize(String rawCode) {
+        if (rawCode == null || rawCode.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_INVITE_CODE);
+        }
+        String code = rawCode.trim().toUpperCase();
+        if (!code.startsWith(CODE_PREFIX) || code.length() != CODE_PREFIX.length() + CODE_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_INVITE_CODE);
+        }
+        return code;
+    }
+
+    private Long parseLong(Object value, Long defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.valueOf(value.toString());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.kopo.hanagreenworld.common.cache.CacheInvalidationBus;
+import com.kopo.hanagreenworld.member.domain.Team;
+import com.kopo.hanagreenworld.member.dto.TeamLiveRankingResponse;
+import com.kopo.hanagreenworld.member.dto.TeamMembership;
+import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
+import com.kopo.hanagreenworld.point.repository.TeamPointTransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 실시간 팀 랭킹 (최근 24시간 / 최근 7일)
+ *
+ * - 원큐씨앗 적립(소속 팀) 및 팀 포인트 적립 시 현재 시간 버킷에 누적 (다른 노드에는 Redis Pub/Sub으로 전파)
+ * - 상위 N 목록은 버킷 회전(매 정시) 및 변경 발생 시 짧은 주기로 재계산한 스냅샷을 그대로 반환
+ * - 기동 시 최근 7일 적립 내역을 시간 단위로 집계해 적재
+ */
+@Slf4j
+@Service
+public class TeamLiveRankingService {
+
+    private static final String CACHE_NAME = "team-live-ranking";
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final TeamRepository teamRepository;
+    private final PointTransactionRepository pointTransactionRepository;
+    private final TeamPointTransactionRepository teamPointTransactionRepository;
+    private final TeamMembershipCacheService teamMembershipCacheService;
+    private final CacheInvalidationBus invalidationBus;
+    private final int snapshotSize;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private final RollingTeamLeaderboard leaderboard = new RollingTeamLeaderboard(currentHour());
+    private volatile Map<RollingTeamLeaderboard.Window, TeamLiveRankingResponse> snapshots =
+            new EnumMap<>(RollingTeamLeaderboard.Window.class);
+
+    public TeamLiveRankingService(TeamRepository teamRepository,
+                                  PointTransactionRepository pointTransactionRepository,
+                                  TeamPointTransactionRepository teamPointTransactionRepository,
+                                  TeamMembershipCacheService teamMembershipCacheService,
+                                  CacheInvalidationBus invalidationBus,
+                                  @Value("${app.team.live-ranking.size:100}") int snapshotSize) {
+        this.teamRepository = teamRepository;
+        this.pointTransactionRepository = pointTransactionRepository;
+        this.teamPointTransactionRepository = teamPointTransactionRepository;
+        this.teamMembershipCacheService = teamMembershipCacheService;
+        this.invalidationBus = invalidationBus;
+        this.snapshotSize = snapshotSize;
+        invalidationBus.subscribe(CACHE_NAME, this::applyRemote);
+    }
+
+    /**
+     * 랭킹 조회 (스냅샷에서 상위 size개)
+     */
+    public TeamLiveRankingResponse getRanking(RollingTeamLeaderboard.Window window, Integer size) {
+        RollingTeamLeaderboard.Window target = window != null ? window : RollingTeamLeaderboard.Window.DAILY;
+        TeamLiveRankingResponse snapshot = snapshots.get(target);
+        if (snapshot == null) {
+            return TeamLiveRankingResponse.builder().window(target.name()).teams(List.of()).build();
+        }
+        if (size == null || size <= 0 || size >= snapshot.getTeams().size()) {
+            return snapshot;
+        }
+        return TeamLiveRankingResponse.builder()
+                .window(snapshot.getWindow())
+                .teams(snapshot.getTeams().subList(0, size))
+                .updatedAt(snapshot.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 회원 적립 포인트를 소속 팀에 반영 (커밋 이후)
+     */
+    public void recordEarn(Long memberId, long amount) {
+        if (amount <= 0) {
+            return;
+        }
+        afterCommit(() -> teamMembershipCacheService.getMembership(memberId)
+                .map(TeamMembership::getTeamId)
+                .ifPresent(teamId -> add(teamId, amount)));
+    }
+
+    /**
+     * 팀 단위 적립 포인트 반영 (커밋 이후)
+     */
+    public void recordTeamPoints(Long teamId, long amount) {
+        if (amount <= 0) {
+            return;
+        }
+        afterCommit(() -> add(teamId, amount));
+    }
+
+    private void add(Long teamId, long amount) {
+        long hour = currentHour();
+        leaderboard.add(teamId, hour, amount);
+        dirty.set(true);
+        invalidationBus.publish(CACHE_NAME, nodeId + ":" + teamId + ":" + hour + ":" + amount);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            LocalDateTime from = LocalDateTime.now().withMinute(0).withSecond(0).withNano(0)
+                    .minusHours(RollingTeamLeaderboard.WEEK_HOURS - 1);
+            List<Object[]> rows = new ArrayList<>(pointTransactionRepository.sumEarnedPointsGroupByTeamAndHour(from));
+            rows.addAll(teamPointTransactionRepository.sumEarnedPointsGroupByTeamAndHour(from));
+            for (Object[] row : rows) {
+                long hour = toHour(LocalDateTime.parse(row[1] + ":00", HOUR_FORMAT));
+                leaderboard.add(((Number) row[0]).longValue(), hour, ((Number) row[2]).longValue());
+            }
+            refresh();
+            log.info("실시간 팀 랭킹 초기화 완료: 집계 행 수 = {}", rows.size());
+        } catch (Exception e) {
+            log.error("실시간 팀 랭킹 초기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 매 정시 버킷 회전
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    public void rotate() {
+        leaderboard.advanceTo(currentHour());
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.team.live-ranking.refresh-ms:5000}")
+    public void refreshIfDirty() {
+        if (dirty.getAndSet(false)) {
+            refresh();
+        }
+    }
+
+    private void refresh() {
+        Map<RollingTeamLeaderboard.Window, List<long[]>> tops = new EnumMap<>(RollingTeamLeaderboard.Window.class);
+        List<Long> teamIds = new ArrayList<>();
+        for (RollingTeamLeaderboard.Window window : RollingTeamLeaderboard.Window.values()) {
+            List<long[]> top = leaderboard.top(window, snapshotSize);
+            tops.put(window, top);
+            top.forEach(entry -> teamIds.add(entry[0]));
+        }
+
+        Map<Long, String> names = teamRepository.findAllById(teamIds.stream().distinct().toList()).stream()
+                .collect(Collectors.toMap(Team::getId, Team::getTeamName, (a, b) -> a));
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<RollingTeamLeaderboard.Window, TeamLiveRankingResponse> next = new EnumMap<>(RollingTeamLeaderboard.Window.class);
+        tops.forEach((window, top) -> {
+            List<TeamLiveRankingResponse.TeamRank> ranks = new ArrayList<>(top.size());
+            for (long[] entry : top) {
+                ranks.add(TeamLiveRankingResponse.TeamRank.builder()
+                        .rank(ranks.size() + 1)
+                        .teamId(entry[0])
+                        .teamName(names.get(entry[0]))
+                        .points(entry[1])
+                        .build());
+            }
+            next.put(window, TeamLiveRankingResponse.builder()
+                    .window(window.name())
+                    .teams(List.copyOf(ranks))
+                    .updatedAt(now)
+                    .build());
+        });
+        snapshots = next;
+    }
+
+    /**
+     * 다른 노드의 적립 반영 ("nodeId:teamId:hour:amount", 자기 노드 메시지는 무시)
+     */
+    private void applyRemote(String payload) {
+        String[] parts = payload.split(":");
+        if (parts.length != 4 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            leaderboard.add(Long.parseLong(parts[1]), Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+            dirty.set(true);
+        } catch (NumberFormatException e) {
+            log.warn("실시간 팀 랭킹 메시지 형식 오류: {}", payload);
+        }
+    }
+
+    private static long currentHour() {
+        return toHour(LocalDateTime.now());
+    }
+
+    // 서버 로컬 시각 기준 시간 인덱스 (DB의 occurred_at과 같은 기준)
+    private static long toHour(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 3600;
+    }
+}
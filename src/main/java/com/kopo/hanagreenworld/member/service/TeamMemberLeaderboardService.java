@@ -0,0 +1,247 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.kopo.hanagreenworld.activity.repository.WalkingRecordRepository;
+import com.kopo.hanagreenworld.common.exception.BusinessException;
+import com.kopo.hanagreenworld.common.exception.ErrorCode;
+import com.kopo.hanagreenworld.common.util.SecurityUtil;
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.dto.TeamMemberLeaderboardResponse;
+import com.kopo.hanagreenworld.member.dto.TeamMembership;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 팀 내 멤버 리더보드 (이번 달 적립 씨앗 / 오늘 걸음수)
+ *
+ * - 팀/기간별 Redis ZSET (member = 회원 ID, score = 누적값)
+ * - 적립/걸음수 제출 커밋 이후 ZINCRBY/ZADD로 갱신하고, 조회는 ZREVRANGE + ZREVRANK (O(log n))
+ * - 키가 적재되지 않았거나 팀 구성이 바뀐 경우 DB 집계 한 번으로 다시 채운다
+ *   (교체는 Lua 한 번으로 원자적으로 하고, 집계 도중 들어온 반영이 있으면 적재 표시를 남기지 않아 다음 조회에 다시 채운다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TeamMemberLeaderboardService {
+
+    private static final String BOARD_KEY = "team:%d:board:%s:%s";
+    private static final String LOADED_SUFFIX = ":loaded";
+    private static final String VERSION_SUFFIX = ":version";
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final Duration SEEDS_TTL = Duration.ofDays(40);
+    private static final Duration STEPS_TTL = Duration.ofDays(2);
+    private static final int DEFAULT_SIZE = 10;
+    private static final int MAX_SIZE = 100;
+
+    /**
+     * 반영: 적재된 보드면 ZINCRBY + TTL, 아직 적재 전(또는 재적재 중)이면 버전만 올려 진행 중인 재적재가 표시를 남기지 않게 한다
+     * KEYS: 보드, 적재 표시, 버전 / ARGV: 증가량, TTL(ms), 회원 ID
+     */
+    private static final DefaultRedisScript<Long> INCREMENT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "  redis.call('ZINCRBY', KEYS[1], ARGV[1], ARGV[3]) " +
+            "  redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "  return 1 " +
+            "end " +
+            "redis.call('INCR', KEYS[3]) " +
+            "redis.call('PEXPIRE', KEYS[3], ARGV[2]) " +
+            "return 0", Long.class);
+
+    /**
+     * 재적재: 다른 조회가 이미 채웠으면 건너뛰고, 아니면 DEL + ZADD + TTL을 한 번에 처리한다.
+     * 집계 시작 후 버전이 바뀌었으면(그 사이 반영 발생) 보드는 채우되 적재 표시는 남기지 않는다.
+     * KEYS: 보드, 적재 표시, 버전 / ARGV: TTL(ms), 집계 시작 시 버전, (점수, 회원 ID) 쌍...
+     */
+    private static final DefaultRedisScript<Long> REFILL = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 3, #ARGV, 2 do redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "if #ARGV > 2 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end " +
+            "if (redis.call('GET', KEYS[3]) or '0') ~= ARGV[2] then return -1 end " +
+            "redis.call('SET', KEYS[2], '1', 'PX', ARGV[1]) " +
+            "return 1", Long.class);
+
+    public enum Type {
+        SEEDS, STEPS
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TeamMembershipCacheService teamMembershipCacheService;
+    private final PointTransactionRepository pointTransactionRepository;
+    private final WalkingRecordRepository walkingRecordRepository;
+    private final MemberRepository memberRepository;
+
+    /**
+     * 이번 달 적립 씨앗 반영
+     */
+    public void recordSeeds(Long memberId, long amount) {
+        if (amount <= 0) {
+            return;
+        }
+        afterCommit(() -> increment(memberId, Type.SEEDS, monthPeriod(LocalDate.now()), amount, SEEDS_TTL));
+    }
+
+    /**
+     * 일별 걸음수 반영 (오늘/어제 기록만 유지)
+     */
+    public void recordSteps(Long memberId, LocalDate date, long steps) {
+        if (steps <= 0 || date.isBefore(LocalDate.now().minusDays(1))) {
+            return;
+        }
+        afterCommit(() -> increment(memberId, Type.STEPS, date.toString(), steps, STEPS_TTL));
+    }
+
+    /**
+     * 팀 구성 변경 시 적재 표시 제거 (다음 조회 때 DB 기준으로 다시 채움)
+     */
+    public void invalidateTeam(Long teamId) {
+        afterCommit(() -> {
+            LocalDate today = LocalDate.now();
+            try {
+                stringRedisTemplate.delete(List.of(
+                        key(teamId, Type.SEEDS, monthPeriod(today)) + LOADED_SUFFIX,
+                        key(teamId, Type.STEPS, today.toString()) + LOADED_SUFFIX));
+            } catch (Exception e) {
+                log.warn("팀 리더보드 무효화 실패: 팀 ID = {}, 에러 = {}", teamId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 팀 리더보드 조회 (상위 N명 + 내 순위, 팀 멤버만 가능)
+     */
+    public TeamMemberLeaderboardResponse getLeaderboard(Long teamId, Type type, Integer size) {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+        if (memberId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        if (!teamMembershipCacheService.isActiveMember(memberId, teamId)) {
+            throw new BusinessException(ErrorCode.NOT_TEAM_MEMBER);
+        }
+
+        Type boardType = type != null ? type : Type.SEEDS;
+        int limit = size == null || size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+        LocalDate today = LocalDate.now();
+        String period = boardType == Type.SEEDS ? monthPeriod(today) : today.toString();
+        String key = key(teamId, boardType, period);
+
+        ensureLoaded(teamId, boardType, today, key);
+
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+        Set<ZSetOperations.TypedTuple<String>> top = zSet.reverseRangeWithScores(key, 0, limit - 1);
+        Long myRank = zSet.reverseRank(key, memberId.toString());
+        Double myScore = zSet.score(key, memberId.toString());
+
+        List<Long> memberIds = new ArrayList<>();
+        if (top != null) {
+            top.forEach(tuple -> memberIds.add(Long.valueOf(tuple.getValue())));
+        }
+        Map<Long, String> names = memberRepository.findAllById(memberIds).stream()
+                .collect(Collectors.toMap(Member::getMemberId, Member::getName));
+
+        List<TeamMemberLeaderboardResponse.MemberRank> members = new ArrayList<>(memberIds.size());
+        if (top != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : top) {
+                Long id = Long.valueOf(tuple.getValue());
+                members.add(TeamMemberLeaderboardResponse.MemberRank.builder()
+                        .rank(members.size() + 1)
+                        .memberId(id)
+                        .name(names.get(id))
+                        .score(tuple.getScore() != null ? tuple.getScore().longValue() : 0L)
+                        .build());
+            }
+        }
+
+        return TeamMemberLeaderboardResponse.builder()
+                .teamId(teamId)
+                .type(boardType.name())
+                .period(period)
+                .members(members)
+                .myRank(myRank != null ? myRank.intValue() + 1 : null)
+                .myScore(myScore != null ? myScore.longValue() : 0L)
+                .build();
+    }
+
+    private void increment(Long memberId, Type type, String period, long amount, Duration ttl) {
+        teamMembershipCacheService.getMembership(memberId)
+                .map(TeamMembership::getTeamId)
+                .ifPresent(teamId -> {
+                    String key = key(teamId, type, period);
+                    try {
+                        stringRedisTemplate.execute(INCREMENT,
+                                List.of(key, key + LOADED_SUFFIX, key + VERSION_SUFFIX),
+                                Long.toString(amount), Long.toString(ttl.toMillis()), memberId.toString());
+                    } catch (Exception e) {
+                        log.warn("팀 리더보드 갱신 실패: 팀 ID = {}, 에러 = {}", teamId, e.getMessage());
+                    }
+                });
+    }
+
+    /**
+     * 적재 표시가 없으면 DB 집계로 ZSET을 다시 채운다 (탈퇴한 멤버 제거 포함)
+     */
+    private void ensureLoaded(Long teamId, Type type, LocalDate today, String key) {
+        String loadedKey = key + LOADED_SUFFIX;
+        String versionKey = key + VERSION_SUFFIX;
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(loadedKey))) {
+            return;
+        }
+        String version = stringRedisTemplate.opsForValue().get(versionKey);
+
+        List<Object[]> rows = type == Type.SEEDS
+                ? pointTransactionRepository.sumEarnedPointsByTeamMembers(teamId, today.withDayOfMonth(1).atStartOfDay())
+                : walkingRecordRepository.sumStepsByTeamMembers(teamId, today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+
+        Duration ttl = type == Type.SEEDS ? SEEDS_TTL : STEPS_TTL;
+        List<String> args = new ArrayList<>(2 + rows.size() * 2);
+        args.add(Long.toString(ttl.toMillis()));
+        args.add(version != null ? version : "0");
+        for (Object[] row : rows) {
+            args.add(Double.toString(((Number) row[1]).doubleValue()));
+            args.add(row[0].toString());
+        }
+
+        Long result = stringRedisTemplate.execute(REFILL, List.of(key, loadedKey, versionKey), args.toArray());
+        if (result != null && result != 0) {
+            log.info("팀 리더보드 적재: 팀 ID = {}, 유형 = {}, 멤버 수 = {}{}", teamId, type, rows.size(),
+                    result < 0 ? " (집계 중 반영 발생, 다음 조회에 재적재)" : "");
+        }
+    }
+
+    private String key(Long teamId, Type type, String period) {
+        return String.format(BOARD_KEY, teamId, type.name().toLowerCase(), period);
+    }
+
+    private String monthPeriod(LocalDate date) {
+        return date.format(MONTH_FORMAT);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kopo.hanagreenworld.common.cache.CacheInvalidationBus;
+import com.kopo.hanagreenworld.member.domain.MemberTeam;
+import com.kopo.hanagreenworld.member.dto.TeamMembership;
+import com.kopo.hanagreenworld.member.repository.MemberTeamRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 팀 멤버십 2단계 캐시
+ *
+ * L1: 노드 로컬 Caffeine 캐시 (memberId -> teamId, role)
+ * L2: Redis ("teamId:ROLE" 또는 미소속 표시 "NONE")
+ * 가입/탈퇴/생성 시 커밋 이후 무효화하고, Pub/Sub으로 다른 노드의 L1도 비운다.
+ */
+@Slf4j
+@Service
+public class TeamMembershipCacheService {
+
+    private static final String CACHE_NAME = "membership";
+    private static final String MEMBERSHIP_KEY = "team:membership:%d";
+    private static final String NONE = "NONE";
+
+    private final MemberTeamRepository memberTeamRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheInvalidationBus invalidationBus;
+    private final Cache<Long, Optional<TeamMembership>> localCache;
+    private final Duration redisTtl;
+    private final Duration negativeTtl;
+
+    public TeamMembershipCacheService(MemberTeamRepository memberTeamRepository,
+                                      StringRedisTemplate stringRedisTemplate,
+                                      CacheInvalidationBus invalidationBus,
+                                      @Value("${app.team.membership-cache.max-size:50000}") long maxSize,
+                                      @Value("${app.team.membership-cache.local-ttl-seconds:300}") long localTtlSeconds,
+                                      @Value("${app.team.membership-cache.redis-ttl-hours:12}") long redisTtlHours,
+                                      @Value("${app.team.membership-cache.negative-ttl-seconds:60}") long negativeTtlSeconds) {
+        this.memberTeamRepository = memberTeamRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.invalidationBus = invalidationBus;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.redisTtl = Duration.ofHours(redisTtlHours);
+        this.negativeTtl = Duration.ofSeconds(negativeTtlSeconds);
+        invalidationBus.subscribe(CACHE_NAME, key -> localCache.invalidate(Long.valueOf(key)));
+    }
+
+    /**
+     * 회원의 활성 팀 소속 정보 조회 (L1 -> L2 -> DB)
+     */
+    public Optional<TeamMembership> getMembership(Long memberId) {
+        Optional<TeamMembership> cached = localCache.getIfPresent(memberId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Optional<TeamMembership> membership = readFromRedis(memberId);
+        if (membership == null) {
+            membership = memberTeamRepository.findActiveMembershipByMemberId(memberId);
+            writeToRedis(memberId, membership);
+        }
+
+        localCache.put(memberId, membership);
+        return membership;
+    }
+
+    /**
+     * 회원이 특정 팀의 활성 멤버인지 확인
+     */
+    public boolean isActiveMember(Long memberId, Long teamId) {
+        return getMembership(memberId)
+                .map(membership -> membership.getTeamId().equals(teamId))
+                .orElse(false);
+    }
+
+    /**
+     * 멤버십 캐시 무효화
+     * 트랜잭션 중이면 커밋 직후에 한 번 더 비워서 커밋 전 재적재된 값을 제거한다.
+     */
+    public void evict(Long memberId) {
+        evictNow(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(memberId);
+                }
+            });
+        }
+    }
+
+    private void evictNow(Long memberId) {
+        localCache.invalidate(memberId);
+        try {
+            stringRedisTemplate.delete(String.format(MEMBERSHIP_KEY, memberId));
+        } catch (Exception e) {
+            log.warn("멤버십 캐시 삭제 실패: 회원 ID = {}, 에러 = {}", memberId, e.getMessage());
+        }
+        invalidationBus.publish(CACHE_NAME, memberId.toString());
+    }
+
+    /**
+     * Redis 조회 결과: null = 캐시 미스, Optional.empty() = 미소속으로 캐시됨
+     */
+    private Optional<TeamMembership> readFromRedis(Long memberId) {
+        String value;
+        try {
+            value = stringRedisTemplate.opsForValue().get(String.format(MEMBERSHIP_KEY, memberId));
+        } catch (Exception e) {
+            log.warn("멤버십 캐시 조회 실패: 회원 ID = {}, 에러 = {}", memberId, e.getMessage());
+            return null;
+        }
+        if (value == null) {
+            return null;
+        }
+        if (NONE.equals(value)) {
+            return Optional.empty();
+        }
+
+        int idx = value.indexOf(':');
+        if (idx < 0) {
+            return null;
+        }
+        try {
+            Long teamId = Long.valueOf(value.substring(0, idx));
+            MemberTeam.TeamRole role = MemberTeam.TeamRole.valueOf(value.substring(idx + 1));
+            return Optional.of(new TeamMembership(memberId, teamId, role));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void writeToRedis(Long memberId, Optional<TeamMembership> membership) {
+        String key = String.format(MEMBERSHIP_KEY, memberId);
+        try {
+            if (membership.isPresent()) {
+                TeamMembership value = membership.get();
+                stringRedisTemplate.opsForValue().set(key, value.getTeamId() + ":" + value.getRole().name(), redisTtl);
+            } else {
+                stringRedisTemplate.opsForValue().set(key, NONE, negativeTtl);
+            }
+        } catch (Exception e) {
+            log.warn("멤버십 캐시 저장 실패: 회원 ID = {}, 에러 = {}", memberId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kopo.hanagreenworld.chat.service.TeamChatService;
+import com.kopo.hanagreenworld.common.cache.CacheInvalidationBus;
+import com.kopo.hanagreenworld.common.exception.BusinessException;
+import com.kopo.hanagreenworld.common.exception.ErrorCode;
+import com.kopo.hanagreenworld.common.util.SecurityUtil;
+import com.kopo.hanagreenworld.member.domain.Team;
+import com.kopo.hanagreenworld.member.dto.TeamMemberRow;
+import com.kopo.hanagreenworld.member.dto.TeamMembersResponse;
+import com.kopo.hanagreenworld.member.repository.MemberTeamRepository;
+import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 팀 멤버 목록 조회
+ *
+ * 멤버별 엔티티 로딩 없이 프로젝션 쿼리 한 번으로 페이지를 만들고,
+ * 페이지 단위로 짧은 TTL 캐시에 보관한다. 온라인 여부는 캐시와 별도로 매번 덧씌운다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TeamRosterService {
+
+    private static final String CACHE_NAME = "team-roster";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final MemberTeamRepository memberTeamRepository;
+    private final TeamRepository teamRepository;
+    private final TeamMembershipCacheService teamMembershipCacheService;
+    private final TeamChatService teamChatService;
+    private final CacheInvalidationBus invalidationBus;
+    private final Cache<String, RosterPage> rosterCache;
+
+    public TeamRosterService(MemberTeamRepository memberTeamRepository,
+                             TeamRepository teamRepository,
+                             TeamMembershipCacheService teamMembershipCacheService,
+                             TeamChatService teamChatService,
+                             CacheInvalidationBus invalidationBus,
+                             @Value("${app.team.roster-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.memberTeamRepository = memberTeamRepository;
+        this.teamRepository = teamRepository;
+        this.teamMembershipCacheService = teamMembershipCacheService;
+        this.teamChatService = teamChatService;
+        this.invalidationBus = invalidationBus;
+        this.rosterCache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        invalidationBus.subscribe(CACHE_NAME, key -> evictLocal(Long.valueOf(key)));
+    }
+
+    /**
+     * 팀 멤버 목록 조회 (팀 멤버만 가능)
+     */
+    public TeamMembersResponse getTeamMembers(Long teamId, Long cursor, Integer size) {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+        if (memberId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        if (!teamMembershipCacheService.isActiveMember(memberId, teamId)) {
+            throw new BusinessException(ErrorCode.NOT_TEAM_MEMBER);
+        }
+
+        long pageCursor = cursor != null ? cursor : 0L;
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        RosterPage page = rosterCache.get(cacheKey(teamId, pageCursor, pageSize),
+                key -> loadPage(teamId, pageCursor, pageSize));
+
+        Set<Long> onlineMembers = new HashSet<>(teamChatService.getOnlineUsers(teamId));
+        List<TeamMembersResponse.TeamMemberResponse> members = page.getRows().stream()
+                .map(row -> TeamMembersResponse.TeamMemberResponse.from(row, onlineMembers.contains(row.getMemberId())))
+                .toList();
+
+        return TeamMembersResponse.builder()
+                .teamId(teamId)
+                .members(members)
+                .totalCount(page.getTotalCount())
+                .nextCursor(page.getNextCursor())
+                .hasNext(page.getNextCursor() != null)
+                .build();
+    }
+
+    /**
+     * 팀 멤버 구성 변경 시 모든 노드의 목록 캐시 무효화
+     */
+    public void evictTeam(Long teamId) {
+        evictLocal(teamId);
+        invalidationBus.publish(CACHE_NAME, teamId.toString());
+    }
+
+    private void evictLocal(Long teamId) {
+        String prefix = teamId + ":";
+        rosterCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private RosterPage loadPage(Long teamId, long cursor, int size) {
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<TeamMemberRow> rows = memberTeamRepository.findTeamMemberRows(
+                teamId, LocalDate.now().withDayOfMonth(1).atStartOfDay(), cursor, size + 1);
+
+        Long nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            nextCursor = rows.get(size - 1).getMemberTeamId();
+        }
+
+        Integer totalCount = team.getMemberCount() != null
+                ? team.getMemberCount()
+                : memberTeamRepository.countActiveMembersByTeamId(teamId);
+        return new RosterPage(List.copyOf(rows), nextCursor, totalCount);
+    }
+
+    private String cacheKey(Long teamId, long cursor, int size) {
+        return teamId + ":" + cursor + ":" + size;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class RosterPage {
+        private final List<TeamMemberRow> rows;
+        private final Long nextCursor;
+        private final Integer totalCount;
+    }
+}
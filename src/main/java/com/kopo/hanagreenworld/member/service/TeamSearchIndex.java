@@ -0,0 +1,298 @@
+package com.kopo.hanagreenworld.member.service;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 팀 탐색용 불변 인메모리 인덱스
+ *
+ * - 팀 이름을 1/2-gram으로 색인하고, 한글은 초성 문자열도 따로 색인한다. ("ㄱㄹ" -> "그린")
+ * - 정렬 키별 순서를 미리 계산해 두고, 후보 비트셋으로 걸러가며 페이지를 채운다.
+ * - 커서는 "마지막 팀 ID_정렬 위치" 형식이며, 팀이 사라졌으면 위치로 이어간다.
+ */
+public final class TeamSearchIndex {
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int JUNGSUNG_JONGSUNG_COUNT = 21 * 28;
+
+    public enum Sort {
+        MONTHLY_POINTS, MEMBERS, NEWEST, NAME
+    }
+
+    private final Entry[] entries;
+    private final String[] names;
+    private final String[] chosungNames;
+    private final Map<String, int[]> nameGrams;
+    private final Map<String, int[]> chosungGrams;
+    private final Map<Long, Integer> indexByTeamId;
+    private final int[][] orderBySort;
+    private final int[][] rankBySort;
+
+    private TeamSearchIndex(Entry[] entries) {
+        this.entries = entries;
+        this.names = new String[entries.length];
+        this.chosungNames = new String[entries.length];
+        this.indexByTeamId = new HashMap<>(entries.length * 2);
+        for (int i = 0; i < entries.length; i++) {
+            names[i] = normalize(entries[i].getName());
+            chosungNames[i] = toChosung(names[i]);
+            indexByTeamId.put(entries[i].getTeamId(), i);
+        }
+        this.nameGrams = buildGrams(names);
+        this.chosungGrams = buildGrams(chosungNames);
+
+        Sort[] sorts = Sort.values();
+        this.orderBySort = new int[sorts.length][];
+        this.rankBySort = new int[sorts.length][];
+        for (Sort sort : sorts) {
+            int[] order = sortedOrder(comparator(sort));
+            int[] rank = new int[entries.length];
+            for (int pos = 0; pos < order.length; pos++) {
+                rank[order[pos]] = pos;
+            }
+            orderBySort[sort.ordinal()] = order;
+            rankBySort[sort.ordinal()] = rank;
+        }
+    }
+
+    public static TeamSearchIndex build(List<Entry> entries) {
+        return new TeamSearchIndex(entries.toArray(new Entry[0]));
+    }
+
+    public static TeamSearchIndex empty() {
+        return new TeamSearchIndex(new Entry[0]);
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public Result search(Query query) {
+        BitSet candidates = candidates(query.getText());
+        Sort sort = query.getSort() != null ? query.getSort() : Sort.MONTHLY_POINTS;
+        int[] order = orderBySort[sort.ordinal()];
+        int size = query.getSize();
+
+        List<Entry> page = new ArrayList<>(size);
+        int pos = startPosition(query.getCursor(), sort);
+        int lastPos = -1;
+        for (; pos < order.length; pos++) {
+            int idx = order[pos];
+            if (!candidates.get(idx) || !matchesFilters(entries[idx], query)) {
+                continue;
+            }
+            if (page.size() == size) {
+                // 다음 페이지가 존재함
+                Entry last = page.get(page.size() - 1);
+                return new Result(page, last.getTeamId() + "_" + lastPos);
+            }
+            page.add(entries[idx]);
+            lastPos = pos;
+        }
+        return new Result(page, null);
+    }
+
+    private BitSet candidates(String text) {
+        BitSet all = new BitSet(entries.length);
+        if (text == null || text.isBlank()) {
+            all.set(0, entries.length);
+            return all;
+        }
+
+        String q = normalize(text);
+        boolean chosungQuery = isChosungOnly(q);
+        Map<String, int[]> grams = chosungQuery ? chosungGrams : nameGrams;
+        String[] targets = chosungQuery ? chosungNames : names;
+
+        List<int[]> postings = new ArrayList<>();
+        if (q.length() == 1) {
+            postings.add(grams.getOrDefault(q, new int[0]));
+        } else {
+            for (int i = 0; i + 2 <= q.length(); i++) {
+                postings.add(grams.getOrDefault(q.substring(i, i + 2), new int[0]));
+            }
+        }
+        postings.sort(Comparator.comparingInt(p -> p.length));
+
+        // 가장 짧은 포스팅을 기준으로 교집합 후 원문 포함 여부로 최종 확인
+        int[] base = postings.get(0);
+        for (int idx : base) {
+            boolean inAll = true;
+            for (int p = 1; p < postings.size() && inAll; p++) {
+                inAll = Arrays.binarySearch(postings.get(p), idx) >= 0;
+            }
+            if (inAll && targets[idx].contains(q)) {
+                all.set(idx);
+            }
+        }
+        return all;
+    }
+
+    private boolean matchesFilters(Entry entry, Query query) {
+        if (query.isOpenSeatsOnly() && !entry.hasOpenSeats()) {
+            return false;
+        }
+        return query.getMinMonthlyPoints() == null || entry.getMonthlyPoints() >= query.getMinMonthlyPoints();
+    }
+
+    private int startPosition(String cursor, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        int sep = cursor.indexOf('_');
+        try {
+            Long teamId = Long.valueOf(cursor.substring(0, sep));
+            Integer idx = indexByTeamId.get(teamId);
+            if (idx != null) {
+                return rankBySort[sort.ordinal()][idx] + 1;
+            }
+            return Integer.parseInt(cursor.substring(sep + 1)) + 1;
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private int[] sortedOrder(Comparator<Entry> comparator) {
+        Integer[] boxed = new Integer[entries.length];
+        for (int i = 0; i < boxed.length; i++) {
+            boxed[i] = i;
+        }
+        Arrays.sort(boxed, (a, b) -> {
+            int c = comparator.compare(entries[a], entries[b]);
+            return c != 0 ? c : Long.compare(entries[a].getTeamId(), entries[b].getTeamId());
+        });
+        int[] order = new int[boxed.length];
+        for (int i = 0; i < boxed.length; i++) {
+            order[i] = boxed[i];
+        }
+        return order;
+    }
+
+    private Comparator<Entry> comparator(Sort sort) {
+        return switch (sort) {
+            case MONTHLY_POINTS -> Comparator.comparingLong(Entry::getMonthlyPoints).reversed();
+            case MEMBERS -> Comparator.comparingInt(Entry::getMemberCount).reversed();
+            case NEWEST -> Comparator.comparing(Entry::getCreatedAt,
+                    Comparator.nullsLast(Comparator.reverseOrder()));
+            case NAME -> Comparator.comparing(Entry::getName, Comparator.nullsLast(Comparator.naturalOrder()));
+        };
+    }
+
+    private static Map<String, int[]> buildGrams(String[] texts) {
+        Map<String, List<Integer>> postings = new HashMap<>();
+        for (int i = 0; i < texts.length; i++) {
+            String t = texts[i];
+            for (int j = 0; j < t.length(); j++) {
+                addPosting(postings, t.substring(j, j + 1), i);
+                if (j + 2 <= t.length()) {
+                    addPosting(postings, t.substring(j, j + 2), i);
+                }
+            }
+        }
+
+        Map<String, int[]> result = new HashMap<>(postings.size() * 2);
+        postings.forEach((gram, list) -> result.put(gram, list.stream().mapToInt(Integer::intValue).toArray()));
+        return result;
+    }
+
+    private static void addPosting(Map<String, List<Integer>> postings, String gram, int idx) {
+        List<Integer> list = postings.computeIfAbsent(gram, k -> new ArrayList<>());
+        // 같은 이름에 같은 gram이 반복되면 한 번만 (인덱스 오름차순 유지)
+        if (list.isEmpty() || list.get(list.size() - 1) != idx) {
+            list.add(idx);
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String nfc = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfc.length());
+        for (int i = 0; i < nfc.length(); i++) {
+            char c = nfc.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    static String toChosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                sb.append(CHOSUNG[(c - HANGUL_BASE) / JUNGSUNG_JONGSUNG_COUNT]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isChosungOnly(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+        }
+        return !text.isEmpty();
+    }
+
+    @Getter
+    @Builder
+    public static class Entry {
+        private final Long teamId;
+        private final String name;
+        private final String description;
+        private final int memberCount;
+        private final Integer maxMembers;
+        private final long monthlyPoints;
+        private final long totalPoints;
+        private final LocalDateTime createdAt;
+
+        public boolean hasOpenSeats() {
+            return maxMembers == null || memberCount < maxMembers;
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class Query {
+        private final String text;
+        private final boolean openSeatsOnly;
+        private final Long minMonthlyPoints;
+        private final Sort sort;
+        private final String cursor;
+        private final int size;
+    }
+
+    @Getter
+    public static class Result {
+        private final List<Entry> entries;
+        private final String nextCursor;
+
+        Result(List<Entry> entries, String nextCursor) {
+            this.entries = entries;
+            this.nextCursor = nextCursor;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * member_count 컬럼 추가 이전에 생성된 팀의 좌석 카운터 초기화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamSeatCounterInitializer {
+
+    private final TeamRepository teamRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeMemberCounts() {
+        try {
+            int updated = teamRepository.initializeMissingMemberCounts();
+            if (updated > 0) {
+                log.info("팀 좌석 카운터 초기화 완료: {}개 팀", updated);
+            }
+        } catch (Exception e) {
+            log.error("팀 좌석 카운터 초기화 실패: {}", e.getMessage(), e);
+        }
+    }
+}
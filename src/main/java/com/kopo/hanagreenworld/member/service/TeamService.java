@@ -6,15 +6,17 @@ import com.kopo.hanagreenworld.common.util.SecurityUtil;
 import com.kopo.hanagreenworld.member.domain.Member;
 import com.kopo.hanagreenworld.member.domain.MemberTeam;
 import com.kopo.hanagreenworld.member.domain.Team;
+import com.kopo.hanagreenworld.member.domain.TeamInviteCode;
+import com.kopo.hanagreenworld.member.domain.TeamScore;
 import com.kopo.hanagreenworld.member.dto.*;
 import com.kopo.hanagreenworld.member.repository.MemberRepository;
 import com.kopo.hanagreenworld.member.repository.MemberTeamRepository;
 import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import com.kopo.hanagreenworld.member.repository.TeamScoreRepository;
 import com.kopo.hanagreenworld.point.domain.TeamPointTransaction;
-import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
 import com.kopo.hanagreenworld.activity.domain.Challenge;
-import com.kopo.hanagreenworld.activity.repository.ChallengeRepository;
 import com.kopo.hanagreenworld.activity.repository.ChallengeRecordRepository;
+import com.kopo.hanagreenworld.common.cache.ReferenceDataCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,9 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -36,9 +36,15 @@ public class TeamService {
     private final TeamRepository teamRepository;
     private final MemberTeamRepository memberTeamRepository;
     private final MemberRepository memberRepository;
-    private final PointTransactionRepository pointTransactionRepository;
-    private final ChallengeRepository challengeRepository;
+    private final TeamScoreRepository teamScoreRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final ChallengeRecordRepository challengeRecordRepository;
+    private final TeamMembershipCacheService teamMembershipCacheService;
+    private final TeamInviteCodeService teamInviteCodeService;
+    private final TeamRosterService teamRosterService;
+    private final TeamDiscoveryService teamDiscoveryService;
+    private final TeamMemberLeaderboardService teamMemberLeaderboardService;
+    private final AchievementService achievementService;
 
     /**
      * 현재 사용자의 팀 정보 조회
@@ -49,10 +55,11 @@ public class TeamService {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
 
-        MemberTeam memberTeam = memberTeamRepository.findByMember_MemberIdAndIsActiveTrue(currentMember.getMemberId())
+        TeamMembership membership = teamMembershipCacheService.getMembership(currentMember.getMemberId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
 
-        Team team = memberTeam.getTeam();
+        Team team = teamRepository.findById(membership.getTeamId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
         TeamResponse.TeamStatsResponse stats = getTeamStats(team.getId());
         List<TeamResponse.EmblemResponse> emblems = getTeamEmblems(team.getId());
         
@@ -61,15 +68,14 @@ public class TeamService {
                 .orElse(null);
         
         // 현재 진행 중인 챌린지 조회 (가장 최근 활성 챌린지)
-        Challenge currentChallenge = challengeRepository.findByIsActiveTrue().stream()
-                .findFirst()
-                .orElse(null);
+        Challenge currentChallenge = referenceDataCache.getCurrentChallenge();
         
         // 완료된 챌린지 수 계산
         Integer completedChallenges = challengeRecordRepository.countByMember_MemberIdAndVerificationStatus(
                 currentMember.getMemberId(), "VERIFIED");
 
-        return TeamResponse.from(team, stats, emblems, leader, currentChallenge, completedChallenges);
+        return TeamResponse.from(team, stats, emblems, leader, currentChallenge, completedChallenges,
+                teamInviteCodeService.findActiveCode(team.getId()));
     }
 
     /**
@@ -82,37 +88,14 @@ public class TeamService {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
 
-        // 이미 팀에 속해있는지 확인
-        Optional<MemberTeam> existingTeam = memberTeamRepository.findByMember_MemberIdAndIsActiveTrue(currentMember.getMemberId());
-        if (existingTeam.isPresent()) {
-            throw new BusinessException(ErrorCode.ALREADY_IN_TEAM);
-        }
-
-        // 초대코드로 팀 조회 (GG-0001 형식)
-        if (!inviteCode.startsWith("GG-")) {
-            throw new BusinessException(ErrorCode.INVALID_INVITE_CODE);
-        }
-        
-        String teamIdStr = inviteCode.substring(3);
-        Long teamId;
-        try {
-            teamId = Long.parseLong(teamIdStr);
-        } catch (NumberFormatException e) {
-            throw new BusinessException(ErrorCode.INVALID_INVITE_CODE);
-        }
-
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
+        // 이미 팀에 속해있는지 확인 (쓰기 경로는 캐시가 아닌 DB 기준)
+        checkNotInTeam(currentMember.getMemberId());
 
-        if (!team.getIsActive()) {
-            throw new BusinessException(ErrorCode.TEAM_NOT_ACTIVE);
-        }
+        // 초대코드 사용 처리 (유효기간/사용 한도 검증)
+        Long teamId = teamInviteCodeService.redeem(inviteCode, "member:" + currentMember.getMemberId());
 
-        // 팀원 수 확인
-        long currentMemberCount = memberTeamRepository.countByTeam_IdAndIsActiveTrue(teamId);
-        if (team.getMaxMembers() != null && currentMemberCount >= team.getMaxMembers()) {
-            throw new BusinessException(ErrorCode.TEAM_FULL);
-        }
+        // 좌석 예약 (정원 확인과 증가를 한 번에)
+        Team team = reserveSeat(teamId);
 
         // 팀 참여
         MemberTeam memberTeam = MemberTeam.builder()
@@ -122,18 +105,21 @@ public class TeamService {
                 .build();
 
         memberTeamRepository.save(memberTeam);
+        teamMembershipCacheService.evict(currentMember.getMemberId());
+        teamRosterService.evictTeam(team.getId());
+        teamMemberLeaderboardService.invalidateTeam(team.getId());
+        teamDiscoveryService.markDirty();
 
         // 팀 정보 반환
         TeamResponse.TeamStatsResponse stats = getTeamStats(team.getId());
         List<TeamResponse.EmblemResponse> emblems = getTeamEmblems(team.getId());
         Member leader = memberRepository.findById(team.getLeaderId()).orElse(null);
-        Challenge currentChallenge = challengeRepository.findByIsActiveTrue().stream()
-                .findFirst()
-                .orElse(null);
+        Challenge currentChallenge = referenceDataCache.getCurrentChallenge();
         Integer completedChallenges = challengeRecordRepository.countByMember_MemberIdAndVerificationStatus(
                 currentMember.getMemberId(), "VERIFIED");
 
-        return TeamResponse.from(team, stats, emblems, leader, currentChallenge, completedChallenges);
+        return TeamResponse.from(team, stats, emblems, leader, currentChallenge, completedChallenges,
+                teamInviteCodeService.findActiveCode(team.getId()));
     }
 
     /**
@@ -158,10 +144,12 @@ public class TeamService {
                 .collect(Collectors.toList());
 
         // 내 팀 정보 조회
-        MemberTeam myMemberTeam = memberTeamRepository.findByMember_MemberIdAndIsActiveTrue(currentMember.getMemberId())
+        TeamMembership myMembership = teamMembershipCacheService.getMembership(currentMember.getMemberId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
+        Team myTeam = teamRepository.findById(myMembership.getTeamId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
 
-        TeamRankingResponse.TeamRankingInfo myTeamInfo = getMyTeamRankingInfo(myMemberTeam.getTeam(), currentMonth);
+        TeamRankingResponse.TeamRankingInfo myTeamInfo = getMyTeamRankingInfo(myTeam, currentMonth);
 
         // 전체 팀 수 조회
         Integer totalTeams = teamRepository.findByIsActiveTrue().size();
@@ -179,15 +167,12 @@ public class TeamService {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
 
-        // 이미 팀에 속해있는지 확인
-        if (memberTeamRepository.findByMember_MemberIdAndIsActiveTrue(currentMember.getMemberId()).isPresent()) {
-            throw new BusinessException(ErrorCode.ALREADY_IN_TEAM);
-        }
+        // 이미 팀에 속해있는지 확인 (쓰기 경로는 캐시가 아닌 DB 기준)
+        checkNotInTeam(currentMember.getMemberId());
 
-        // 초대 코드로 팀 조회 (실제로는 초대 코드 테이블이 있어야 함)
-        Long teamId = parseInviteCode(request.getInviteCode());
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
+        // 초대 코드 사용 처리
+        Long teamId = teamInviteCodeService.redeem(request.getInviteCode(), "member:" + currentMember.getMemberId());
+        Team team = reserveSeat(teamId);
 
         // 팀 가입
         MemberTeam memberTeam = MemberTeam.builder()
@@ -197,6 +182,10 @@ public class TeamService {
                 .build();
 
         memberTeamRepository.save(memberTeam);
+        teamMembershipCacheService.evict(currentMember.getMemberId());
+        teamRosterService.evictTeam(team.getId());
+        teamMemberLeaderboardService.invalidateTeam(team.getId());
+        teamDiscoveryService.markDirty();
 
         // 팀 가입 완료 (채팅은 팀이 활성화되면 자동으로 가능)
 
@@ -208,15 +197,14 @@ public class TeamService {
         Member leader = memberRepository.findById(team.getLeaderId()).orElse(null);
         
         // 현재 진행 중인 챌린지 조회
-        Challenge currentChallenge = challengeRepository.findByIsActiveTrue().stream()
-                .findFirst()
-                .orElse(null);
+        Challenge currentChallenge = referenceDataCache.getCurrentChallenge();
         
         // 완료된 챌린지 수 계산
         Integer completedChallenges = challengeRecordRepository.countByMember_MemberIdAndVerificationStatus(
                 currentMember.getMemberId(), "VERIFIED");
 
-        return TeamResponse.from(team, stats, emblems, leader, currentChallenge, completedChallenges);
+        return TeamResponse.from(team, stats, emblems, leader, currentChallenge, completedChallenges,
+                teamInviteCodeService.findActiveCode(team.getId()));
     }
 
     /**
@@ -229,24 +217,51 @@ public class TeamService {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
 
-        MemberTeam memberTeam = memberTeamRepository.findByMember_MemberIdAndIsActiveTrue(currentMember.getMemberId())
+        TeamMembership membership = teamMembershipCacheService.getMembership(currentMember.getMemberId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
 
-        if (!memberTeam.getTeam().getId().equals(teamId)) {
+        if (!membership.getTeamId().equals(teamId)) {
             throw new BusinessException(ErrorCode.TEAM_NOT_FOUND);
         }
 
         // 팀장은 탈퇴할 수 없음
-        if (memberTeam.isLeader()) {
+        if (membership.isLeader()) {
             throw new BusinessException(ErrorCode.LEADER_CANNOT_LEAVE);
         }
 
+        MemberTeam memberTeam = memberTeamRepository.findByMember_MemberIdAndIsActiveTrue(currentMember.getMemberId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
         memberTeam.deactivate();
         memberTeamRepository.save(memberTeam);
+        teamRepository.releaseSeat(teamId);
+        teamMembershipCacheService.evict(currentMember.getMemberId());
+        teamRosterService.evictTeam(teamId);
+        teamMemberLeaderboardService.invalidateTeam(teamId);
+        teamDiscoveryService.markDirty();
+    }
+
+    /**
+     * 팀 좌석 예약
+     * 조건부 UPDATE 한 번으로 정원 확인과 증가를 원자적으로 처리해 동시 가입 시에도 정원을 넘지 않는다.
+     * 이후 가입 처리가 실패하면 트랜잭션 롤백으로 좌석도 반납된다.
+     */
+    private Team reserveSeat(Long teamId) {
+        if (teamRepository.reserveSeat(teamId) == 0) {
+            Team team = teamRepository.findById(teamId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
+            if (!team.getIsActive()) {
+                throw new BusinessException(ErrorCode.TEAM_NOT_ACTIVE);
+            }
+            throw new BusinessException(ErrorCode.TEAM_FULL);
+        }
+
+        return teamRepository.findById(teamId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
     }
 
     /**
      * 팀 통계 조회
+     * 점수는 적립 시 함께 갱신되는 팀 누적 포인트와 월간 TeamScore 행에서 읽는다. (point_transactions 재집계 없음)
      */
     public TeamResponse.TeamStatsResponse getTeamStats(Long teamId) {
         Team team = teamRepository.findById(teamId)
@@ -255,16 +270,20 @@ public class TeamService {
         String currentMonth = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
         
         // 월간 점수 조회
-        Long monthlyPoints = pointTransactionRepository.findMonthlyTeamPoints(teamId, currentMonth);
+        Long monthlyPoints = teamScoreRepository.findByTeam_IdAndReportDate(teamId, currentMonth)
+                .map(TeamScore::getTotalScore)
+                .orElse(0L);
         
         // 총 점수 조회
-        Long totalPoints = pointTransactionRepository.findTotalTeamPoints(teamId);
+        Long totalPoints = team.getTotalTeamPoints() != null ? team.getTotalTeamPoints() : 0L;
         
         // 월간 랭킹 조회
         Integer monthlyRank = teamRepository.findTeamRankByMonth(teamId, currentMonth);
         
-        // 활성 멤버 수 조회
-        Integer activeMembers = memberTeamRepository.countActiveMembersByTeamId(teamId);
+        // 활성 멤버 수 조회 (좌석 카운터 우선)
+        Integer activeMembers = team.getMemberCount() != null
+                ? team.getMemberCount()
+                : memberTeamRepository.countActiveMembersByTeamId(teamId);
         
         // 이번 달 완료된 챌린지 수 (TODO: 실제 챌린지 완료 수 조회)
         Integer completedChallengesThisMonth = 0;
@@ -273,8 +292,8 @@ public class TeamService {
         Long carbonSavedKg = totalPoints / 100L; // 임시 계산
 
         return TeamResponse.TeamStatsResponse.builder()
-                .monthlyPoints(monthlyPoints != null ? monthlyPoints : 0L)
-                .totalPoints(totalPoints != null ? totalPoints : 0L)
+                .monthlyPoints(monthlyPoints)
+                .totalPoints(totalPoints)
                 .monthlyRank(monthlyRank != null ? monthlyRank : 999)
                 .totalRank(monthlyRank) // TODO: 전체 랭킹 계산
                 .carbonSavedKg(carbonSavedKg)
@@ -287,29 +306,9 @@ public class TeamService {
      * 팀 엠블럼 조회
      */
     private List<TeamResponse.EmblemResponse> getTeamEmblems(Long teamId) {
-        // TODO: 실제 엠블럼 시스템 구현
-        List<TeamResponse.EmblemResponse> emblems = new ArrayList<>();
-        
-        // 임시 엠블럼 데이터
-        emblems.add(TeamResponse.EmblemResponse.builder()
-                .id("emblem_1")
-                .name("그린 스타터")
-                .description("첫 번째 챌린지 완료")
-                .iconUrl("/assets/emblems/green_starter.png")
-                .isEarned(true)
-                .earnedAt(java.time.LocalDateTime.now().minusDays(30))
-                .build());
-                
-        emblems.add(TeamResponse.EmblemResponse.builder()
-                .id("emblem_2")
-                .name("걷기 마스터")
-                .description("걷기 챌린지 10회 완료")
-                .iconUrl("/assets/emblems/walking_master.png")
-                .isEarned(true)
-                .earnedAt(java.time.LocalDateTime.now().minusDays(15))
-                .build());
-
-        return emblems;
+        return achievementService.getTeamEmblems(teamId).stream()
+                .map(AchievementProgressResponse::toEmblem)
+                .toList();
     }
 
     /**
@@ -363,31 +362,30 @@ public class TeamService {
     }
 
     /**
-     * 초대코드 검증
+     * 초대코드 발급 (팀 멤버만 가능)
      */
-    public TeamResponse validateInviteCode(String inviteCode) {
-        // 초대코드 파싱 (실제로는 초대코드 테이블에서 조회해야 함)
-        Long teamId = parseInviteCode(inviteCode);
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INVITE_CODE));
+    @Transactional
+    public TeamInviteCodeResponse generateInviteCode(Long teamId, Integer ttlHours, Integer maxUses) {
+        Member currentMember = SecurityUtil.getCurrentMember();
+        if (currentMember == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
 
-        if (!team.getIsActive()) {
-            throw new BusinessException(ErrorCode.TEAM_NOT_ACTIVE);
+        if (!teamMembershipCacheService.isActiveMember(currentMember.getMemberId(), teamId)) {
+            throw new BusinessException(ErrorCode.NOT_TEAM_MEMBER);
         }
 
-        // 팀 정보 반환 (가입 전 미리보기)
-        TeamResponse.TeamStatsResponse stats = getTeamStats(team.getId());
-        List<TeamResponse.EmblemResponse> emblems = getTeamEmblems(team.getId());
-        
-        // 팀장 정보 조회
-        Member leader = memberRepository.findById(team.getLeaderId()).orElse(null);
-        
-        // 현재 진행 중인 챌린지 조회
-        Challenge currentChallenge = challengeRepository.findByIsActiveTrue().stream()
-                .findFirst()
-                .orElse(null);
-        
-        return TeamResponse.from(team, stats, emblems, leader, currentChallenge, 0);
+        TeamInviteCode inviteCode = teamInviteCodeService.issue(teamId, currentMember.getMemberId(), ttlHours, maxUses);
+        return TeamInviteCodeResponse.from(inviteCode);
+    }
+
+    /**
+     * 초대코드 검증
+     */
+    public TeamResponse validateInviteCode(String inviteCode, String clientKey) {
+        // 초대코드 캐시 값만으로 응답 (Redis 왕복 1회, 미스 시에만 초대코드/팀 테이블)
+        TeamInvitePreview preview = teamInviteCodeService.preview(inviteCode, clientKey);
+        return TeamResponse.preview(preview, referenceDataCache.getCurrentChallenge());
     }
 
     /**
@@ -404,9 +402,7 @@ public class TeamService {
             Member leader = memberRepository.findById(team.getLeaderId()).orElse(null);
             
             // 현재 진행 중인 챌린지 조회
-            Challenge currentChallenge = challengeRepository.findByIsActiveTrue().stream()
-                    .findFirst()
-                    .orElse(null);
+            Challenge currentChallenge = referenceDataCache.getCurrentChallenge();
             
             return TeamResponse.from(team, stats, emblems, leader, currentChallenge, 0);
         }).collect(Collectors.toList());
@@ -422,10 +418,8 @@ public class TeamService {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
 
-        // 이미 팀에 속해있는지 확인
-        if (memberTeamRepository.findByMember_MemberIdAndIsActiveTrue(currentMember.getMemberId()).isPresent()) {
-            throw new BusinessException(ErrorCode.ALREADY_IN_TEAM);
-        }
+        // 이미 팀에 속해있는지 확인 (쓰기 경로는 캐시가 아닌 DB 기준)
+        checkNotInTeam(currentMember.getMemberId());
 
         // 팀 이름 중복 확인
         if (teamRepository.findByTeamName(request.getTeamName()).isPresent()) {
@@ -451,6 +445,8 @@ public class TeamService {
                 .build();
 
         memberTeamRepository.save(memberTeam);
+        teamMembershipCacheService.evict(currentMember.getMemberId());
+        teamDiscoveryService.markDirty();
 
         // 팀 생성 완료 (채팅은 팀이 활성화되면 자동으로 가능)
 
@@ -459,25 +455,23 @@ public class TeamService {
         List<TeamResponse.EmblemResponse> emblems = getTeamEmblems(savedTeam.getId());
         
         // 현재 진행 중인 챌린지 조회
-        Challenge currentChallenge = challengeRepository.findByIsActiveTrue().stream()
-                .findFirst()
-                .orElse(null);
+        Challenge currentChallenge = referenceDataCache.getCurrentChallenge();
+
+        // 기본 초대코드 발급
+        TeamInviteCode inviteCode = teamInviteCodeService.issue(savedTeam.getId(), currentMember.getMemberId(), null, null);
         
-        return TeamResponse.from(savedTeam, stats, emblems, currentMember, currentChallenge, 0);
+        return TeamResponse.from(savedTeam, stats, emblems, currentMember, currentChallenge, 0, inviteCode.getCode());
     }
 
-
     /**
-     * 초대 코드 파싱 (임시 구현)
+     * 가입/생성 전 소속 확인
+     * 멤버십 캐시는 노드 간 무효화가 비동기라 잠시 어긋날 수 있으므로, 회원 행을 잠가 같은 회원의 동시 가입/생성을
+     * 직렬화한 뒤 member_teams를 직접 확인한다. (캐시는 조회 경로에서만 사용)
      */
-    private Long parseInviteCode(String inviteCode) {
-        // 실제로는 초대 코드 테이블에서 조회해야 함
-        // 임시로 코드에서 팀 ID 추출
-        try {
-            String teamIdStr = inviteCode.substring(3); // "GG-" 제거
-            return Long.parseLong(teamIdStr);
-        } catch (Exception e) {
-            throw new BusinessException(ErrorCode.INVALID_INVITE_CODE);
+    private void checkNotInTeam(Long memberId) {
+        memberRepository.lockById(memberId);
+        if (memberTeamRepository.existsByMember_MemberIdAndIsActiveTrue(memberId)) {
+            throw new BusinessException(ErrorCode.ALREADY_IN_TEAM);
         }
     }
 }
@@ -7,6 +7,7 @@ public enum PointCategory {
     ELECTRONIC_RECEIPT("전자확인증", "http://localhost:8080/assets/hana3dIcon/hanaIcon3d_4_13.png"),
     ECO_CHALLENGE("에코 챌린지", "http://localhost:8080/assets/hana3dIcon/hanaIcon3d_103.png"),
     ECO_MERCHANT("친환경 가맹점", "http://localhost:8080/assets/hana3dIcon/hanaIcon3d_85.png"),
+    ACHIEVEMENT("업적 달성", "http://localhost:8080/assets/sprout.png"),
 
     // 사용
     HANA_MONEY_CONVERSION("하나머니 전환", "http://localhost:8080/assets/hana3dIcon/hanaIcon3d_3_15.png"),
@@ -5,8 +5,22 @@ import java.time.LocalDateTime;
 import com.kopo.hanagreenworld.member.domain.Team;
 import jakarta.persistence.*;
 
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 팀 포인트 원장 (추가만 가능, 수정/삭제 없음)
+ */
 @Entity
-@Table(name = "team_point_transactions")
+@Table(
+    name = "team_point_transactions",
+    indexes = {
+        @Index(name = "idx_team_point_team_occurred", columnList = "team_id, occurred_at")
+    }
+)
+@Getter
+@NoArgsConstructor
 public class TeamPointTransaction {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -15,6 +29,10 @@ public class TeamPointTransaction {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id", nullable = false)
     private Team team;
+
+    // 적립을 발생시킨 회원 (시스템 지급이면 null)
+    @Column(name = "member_id")
+    private Long memberId;
     
     @Enumerated(EnumType.STRING)
     private PointTransactionType pointTransactionType;
@@ -22,6 +40,7 @@ public class TeamPointTransaction {
     @Enumerated(EnumType.STRING)
     private TeamPointCategory category;
 
+    @Getter
     public enum TeamPointCategory {
         TEAM_CHALLENGE("팀 챌린지", "/static/assets/green_team.png"),
         TEAM_WALKING("팀 걷기", "/static/assets/hana3dIcon/hanaIcon3d_123.png"),
@@ -40,4 +59,18 @@ public class TeamPointTransaction {
     private Integer pointsAmount;
     private Long teamBalanceAfter;
     private LocalDateTime occurredAt;
-}
\ No newline at end of file
+
+    @Builder
+    public TeamPointTransaction(Team team, Long memberId, PointTransactionType pointTransactionType,
+                                TeamPointCategory category, String description, Integer pointsAmount,
+                                Long teamBalanceAfter, LocalDateTime occurredAt) {
+        this.team = team;
+        this.memberId = memberId;
+        this.pointTransactionType = pointTransactionType;
+        this.category = category;
+        this.description = description;
+        this.pointsAmount = pointsAmount;
+        this.teamBalanceAfter = teamBalanceAfter;
+        this.occurredAt = occurredAt == null ? LocalDateTime.now() : occurredAt;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -40,18 +41,27 @@ public interface PointTransactionRepository extends JpaRepository<PointTransacti
            "AND YEAR(pt.occurredAt) = YEAR(CURRENT_DATE) AND MONTH(pt.occurredAt) = MONTH(CURRENT_DATE)")
     Long sumCurrentMonthEarnedPointsByMemberId(@Param("memberId") Long memberId);
     
-    // 팀별 월간 포인트 합계
-    @Query("SELECT COALESCE(SUM(pt.pointsAmount), 0) FROM PointTransaction pt " +
+    // 전체 팀의 기간 적립 포인트 합계 (팀 ID, 합계) - 팀 탐색 인덱스 재구성용
+    @Query("SELECT mt.team.id, COALESCE(SUM(pt.pointsAmount), 0) FROM PointTransaction pt " +
            "JOIN MemberTeam mt ON pt.member.memberId = mt.member.memberId " +
-           "WHERE mt.team.id = :teamId AND mt.isActive = true " +
-           "AND pt.pointTransactionType = 'EARN' " +
-           "AND DATE_FORMAT(pt.occurredAt, '%Y-%m') = :reportDate")
-    Long findMonthlyTeamPoints(@Param("teamId") Long teamId, @Param("reportDate") String reportDate);
-    
-    // 팀별 총 포인트 합계
-    @Query("SELECT COALESCE(SUM(pt.pointsAmount), 0) FROM PointTransaction pt " +
+           "WHERE mt.isActive = true AND pt.pointTransactionType = 'EARN' " +
+           "AND pt.occurredAt >= :from " +
+           "GROUP BY mt.team.id")
+    List<Object[]> sumEarnedPointsGroupByTeam(@Param("from") LocalDateTime from);
+
+    // 팀별 시간 단위 적립 포인트 합계 (팀 ID, 'yyyy-MM-dd HH', 합계) - 롤링 리더보드 초기 적재용
+    @Query(value = "SELECT mt.team_id, DATE_FORMAT(pt.occurred_at, '%Y-%m-%d %H') AS hour_start, SUM(pt.points_amount) " +
+           "FROM point_transactions pt " +
+           "JOIN member_teams mt ON mt.member_id = pt.member_id AND mt.is_active = true " +
+           "WHERE pt.transaction_type = 'EARN' AND pt.occurred_at >= :from " +
+           "GROUP BY mt.team_id, hour_start", nativeQuery = true)
+    List<Object[]> sumEarnedPointsGroupByTeamAndHour(@Param("from") LocalDateTime from);
+
+    // 팀 멤버별 기간 적립 포인트 합계 (회원 ID, 합계) - 팀 내 씨앗 리더보드 재적재용
+    @Query("SELECT pt.member.memberId, COALESCE(SUM(pt.pointsAmount), 0) FROM PointTransaction pt " +
            "JOIN MemberTeam mt ON pt.member.memberId = mt.member.memberId " +
            "WHERE mt.team.id = :teamId AND mt.isActive = true " +
-           "AND pt.pointTransactionType = 'EARN'")
-    Long findTotalTeamPoints(@Param("teamId") Long teamId);
+           "AND pt.pointTransactionType = 'EARN' AND pt.occurredAt >= :from " +
+           "GROUP BY pt.member.memberId")
+    List<Object[]> sumEarnedPointsByTeamMembers(@Param("teamId") Long teamId, @Param("from") LocalDateTime from);
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.kopo.hanagreenworld.point.repository;
+
+import com.kopo.hanagreenworld.point.domain.TeamPointTransaction;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TeamPointTransactionRepository extends JpaRepository<TeamPointTransaction, Long> {
+
+    // 팀별 거래 내역 조회 (최신순)
+    Page<TeamPointTransaction> findByTeam_IdOrderByOccurredAtDesc(Long teamId, Pageable pageable);
+
+    // 팀별 기간 적립 합계 (일일 한도 확인용, 회원 없는 시스템 지급은 한도와 무관하므로 제외)
+    @Query("SELECT COALESCE(SUM(tpt.pointsAmount), 0) FROM TeamPointTransaction tpt " +
+           "WHERE tpt.team.id = :teamId AND tpt.pointTransactionType = 'EARN' " +
+           "AND tpt.memberId IS NOT NULL AND tpt.occurredAt >= :from")
+    Long sumEarnedPointsSince(@Param("teamId") Long teamId, @Param("from") LocalDateTime from);
+
+    // 팀별 시간 단위 적립 합계 (팀 ID, 'yyyy-MM-dd HH', 합계) - 롤링 리더보드 초기 적재용
+    @Query(value = "SELECT team_id, DATE_FORMAT(occurred_at, '%Y-%m-%d %H') AS hour_start, SUM(points_amount) " +
+           "FROM team_point_transactions " +
+           "WHERE point_transaction_type = 'EARN' AND occurred_at >= :from " +
+           "GROUP BY team_id, hour_start", nativeQuery = true)
+    List<Object[]> sumEarnedPointsGroupByTeamAndHour(@Param("from") LocalDateTime from);
+}
@@ -5,6 +5,9 @@ import com.kopo.hanagreenworld.member.domain.Member;
 import com.kopo.hanagreenworld.member.domain.MemberProfile;
 import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
 import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import com.kopo.hanagreenworld.member.service.AchievementService;
+import com.kopo.hanagreenworld.member.service.TeamLiveRankingService;
+import com.kopo.hanagreenworld.member.service.TeamMemberLeaderboardService;
 import com.kopo.hanagreenworld.point.domain.PointCategory;
 import com.kopo.hanagreenworld.point.domain.PointTransaction;
 import com.kopo.hanagreenworld.point.domain.PointTransactionType;
@@ -36,6 +39,9 @@ public class EcoSeedService {
     private final PointTransactionRepository pointTransactionRepository;
     private final MemberProfileRepository memberProfileRepository;
     private final MemberRepository memberRepository;
+    private final TeamLiveRankingService teamLiveRankingService;
+    private final TeamMemberLeaderboardService teamMemberLeaderboardService;
+    private final AchievementService achievementService;
 
     /**
      * 현재 사용자의 원큐씨앗 정보 조회
@@ -91,6 +97,9 @@ public class EcoSeedService {
             // 한 트랜잭션으로 처리
             memberProfileRepository.save(profile);
             pointTransactionRepository.save(transaction);
+            teamLiveRankingService.recordEarn(memberId, request.getPointsAmount());
+            teamMemberLeaderboardService.recordSeeds(memberId, request.getPointsAmount());
+            achievementService.recordEarn(memberId, request.getPointsAmount());
             
             log.info("원큐씨앗 적립 완료: {} - {}개", memberId, request.getPointsAmount());
             
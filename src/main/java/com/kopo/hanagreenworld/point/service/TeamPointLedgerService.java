@@ -0,0 +1,238 @@
+package com.kopo.hanagreenworld.point.service;
+
+import com.kopo.hanagreenworld.member.domain.TeamScore;
+import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import com.kopo.hanagreenworld.member.repository.TeamScoreRepository;
+import com.kopo.hanagreenworld.member.service.TeamLiveRankingService;
+import com.kopo.hanagreenworld.point.domain.PointTransactionType;
+import com.kopo.hanagreenworld.point.domain.TeamPointTransaction;
+import com.kopo.hanagreenworld.point.repository.TeamPointTransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 팀 포인트 원장
+ *
+ * - 팀 잔액(current/total)은 조건부 UPDATE 한 번으로 원자적으로 증가시키고, 그 직후 잔액을 원장에 기록
+ * - 원장 행은 트랜잭션 단위로 모아서 커밋 직전에 JDBC 배치 INSERT 한 번으로 저장
+ * - 팀별 일일 적립 한도는 Redis 카운터로 확인하고, 롤백되면 카운터도 되돌린다
+ *   (엠블럼 보상 같은 시스템 지급은 한도와 무관하게 전액 적립하고, 한도 사용량에도 포함하지 않는다)
+ * - 같은 트랜잭션에서 월간 팀 점수(team_scores)도 누적해 랭킹 조회 시 재계산하지 않는다
+ */
+@Slf4j
+@Service
+public class TeamPointLedgerService {
+
+    private static final String DAILY_KEY = "team:%d:points:daily:%s";
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final String INSERT_SQL = """
+        INSERT INTO team_point_transactions
+            (team_id, member_id, point_transaction_type, category, description, points_amount, team_balance_after, occurred_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+    private static final Object PENDING_KEY = new Object();
+
+    private final TeamRepository teamRepository;
+    private final TeamScoreRepository teamScoreRepository;
+    private final TeamPointTransactionRepository teamPointTransactionRepository;
+    private final TeamLiveRankingService teamLiveRankingService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final long dailyCap;
+
+    public TeamPointLedgerService(TeamRepository teamRepository,
+                                  TeamScoreRepository teamScoreRepository,
+                                  TeamPointTransactionRepository teamPointTransactionRepository,
+                                  TeamLiveRankingService teamLiveRankingService,
+                                  StringRedisTemplate stringRedisTemplate,
+                                  JdbcTemplate jdbcTemplate,
+                                  @Value("${app.team.points.daily-cap:500}") long dailyCap) {
+        this.teamRepository = teamRepository;
+        this.teamScoreRepository = teamScoreRepository;
+        this.teamPointTransactionRepository = teamPointTransactionRepository;
+        this.teamLiveRankingService = teamLiveRankingService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dailyCap = dailyCap;
+    }
+
+    /**
+     * 팀 포인트 적립 (호출한 트랜잭션에 참여, 실제 적립된 포인트 반환 - 한도 초과분 제외)
+     */
+    @Transactional
+    public int credit(Long teamId, Long memberId, int amount,
+                      TeamPointTransaction.TeamPointCategory category, String description) {
+        if (amount <= 0) {
+            return 0;
+        }
+
+        int granted = reserveDailyQuota(teamId, amount);
+        if (granted <= 0) {
+            log.info("팀 일일 포인트 한도 도달: 팀 ID = {}", teamId);
+            return 0;
+        }
+
+        return apply(teamId, memberId, granted, category, description);
+    }
+
+    /**
+     * 시스템 보상 적립 (일일 한도 미적용, 호출한 트랜잭션에 참여, 실제 적립된 포인트 반환)
+     */
+    @Transactional
+    public int grantReward(Long teamId, int amount,
+                           TeamPointTransaction.TeamPointCategory category, String description) {
+        if (amount <= 0) {
+            return 0;
+        }
+        return apply(teamId, null, amount, category, description);
+    }
+
+    private int apply(Long teamId, Long memberId, int granted,
+                      TeamPointTransaction.TeamPointCategory category, String description) {
+        // 팀 행 잠금은 여기서부터 커밋까지 유지되므로 아래 잔액 조회/월간 점수 생성이 팀 단위로 직렬화된다
+        if (teamRepository.addTeamPoints(teamId, (long) granted) == 0) {
+            log.warn("비활성 또는 존재하지 않는 팀에 포인트 적립 시도: 팀 ID = {}", teamId);
+            return 0;
+        }
+        Long balanceAfter = teamRepository.findCurrentTeamPoints(teamId);
+        addMonthlyScore(teamId, granted);
+
+        pendingRows().add(TeamPointTransaction.builder()
+                .team(teamRepository.getReferenceById(teamId))
+                .memberId(memberId)
+                .pointTransactionType(PointTransactionType.EARN)
+                .category(category)
+                .description(description)
+                .pointsAmount(granted)
+                .teamBalanceAfter(balanceAfter)
+                .build());
+
+        teamLiveRankingService.recordTeamPoints(teamId, granted);
+        return granted;
+    }
+
+    private void addMonthlyScore(Long teamId, int score) {
+        String reportDate = LocalDate.now().format(MONTH_FORMAT);
+        if (teamScoreRepository.addScore(teamId, reportDate, (long) score) == 0) {
+            teamScoreRepository.save(TeamScore.builder()
+                    .team(teamRepository.getReferenceById(teamId))
+                    .reportDate(reportDate)
+                    .totalScore((long) score)
+                    .build());
+        }
+    }
+
+    /**
+     * 트랜잭션별 원장 버퍼 (커밋 직전 한 번에 INSERT)
+     */
+    @SuppressWarnings("unchecked")
+    private List<TeamPointTransaction> pendingRows() {
+        List<TeamPointTransaction> rows = (List<TeamPointTransaction>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (rows != null) {
+            return rows;
+        }
+
+        List<TeamPointTransaction> buffer = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(PENDING_KEY, buffer);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                insertBatch(buffer);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+            }
+        });
+        return buffer;
+    }
+
+    private void insertBatch(List<TeamPointTransaction> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getTeam().getId());
+            ps.setObject(2, row.getMemberId());
+            ps.setString(3, row.getPointTransactionType().name());
+            ps.setString(4, row.getCategory().name());
+            ps.setString(5, row.getDescription());
+            ps.setInt(6, row.getPointsAmount());
+            ps.setObject(7, row.getTeamBalanceAfter());
+            ps.setTimestamp(8, Timestamp.valueOf(row.getOccurredAt()));
+        });
+    }
+
+    /**
+     * 일일 한도 내에서 적립 가능한 포인트 확보
+     */
+    private int reserveDailyQuota(Long teamId, int amount) {
+        LocalDate today = LocalDate.now();
+        String key = String.format(DAILY_KEY, teamId, today);
+        try {
+            Long after = stringRedisTemplate.opsForValue().increment(key, amount);
+            if (after == null) {
+                return quotaFromLedger(teamId, amount, today);
+            }
+            if (after == amount) {
+                // 오늘 첫 적립이거나 카운터가 유실된 경우: 원장 기준으로 보정
+                long persisted = teamPointTransactionRepository.sumEarnedPointsSince(teamId, today.atStartOfDay());
+                if (persisted > 0) {
+                    after = stringRedisTemplate.opsForValue().increment(key, persisted);
+                }
+                stringRedisTemplate.expire(key, Duration.ofDays(2));
+            }
+
+            long before = after - amount;
+            int granted = (int) Math.max(0, Math.min(amount, dailyCap - before));
+            if (granted < amount) {
+                stringRedisTemplate.opsForValue().decrement(key, amount - granted);
+            }
+            if (granted > 0) {
+                onRollback(() -> stringRedisTemplate.opsForValue().decrement(key, granted));
+            }
+            return granted;
+        } catch (Exception e) {
+            log.warn("팀 일일 한도 카운터 사용 실패, 원장 기준으로 확인: 팀 ID = {}, 에러 = {}", teamId, e.getMessage());
+            return quotaFromLedger(teamId, amount, today);
+        }
+    }
+
+    private int quotaFromLedger(Long teamId, int amount, LocalDate today) {
+        long used = teamPointTransactionRepository.sumEarnedPointsSince(teamId, today.atStartOfDay());
+        return (int) Math.max(0, Math.min(amount, dailyCap - used));
+    }
+
+    private void onRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    try {
+                        action.run();
+                    } catch (Exception e) {
+                        log.warn("팀 일일 한도 카운터 복구 실패: {}", e.getMessage());
+                    }
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,10 @@
+-- 팀 채팅 검색 FULLTEXT(ngram) 인덱스 (ChatSearchService)
+--
+-- 쓰기가 가장 많은 테이블이므로 애플리케이션 기동 시 만들지 않고, 배포 전에 한 번만 수동으로 적용한다.
+-- 첫 FULLTEXT 인덱스는 FTS_DOC_ID 컬럼 추가로 테이블을 재구성하며, 그동안 쓰기가 막힌다(LOCK=SHARED).
+-- 트래픽이 적은 시간에 실행하고, 큰 테이블이면 pt-online-schema-change / gh-ost 사용을 권장한다.
+-- 인덱스가 없으면 애플리케이션은 최근 기간 LIKE 검색으로 동작한다.
+
+ALTER TABLE team_chat_messages
+    ADD FULLTEXT INDEX ft_chat_message_text (message_text) WITH PARSER ngram,
+    ALGORITHM = INPLACE, LOCK = SHARED;
@@ -0,0 +1,17 @@
+-- 팀 채팅 설정 team_id 유니크 키 (ChatMessageLimiter 통계 반영 upsert의 기준)
+--
+-- 이전에는 여러 노드가 같은 팀의 설정 행을 동시에 만들 수 있었으므로, 유니크 키를 걸기 전에 중복 행을 정리한다.
+-- 팀마다 가장 먼저 만들어진 행을 남기고, 나머지 행의 메시지 수를 합친 뒤 삭제한다.
+
+UPDATE team_chat_settings keep
+    JOIN (SELECT team_id, MIN(chat_setting_id) AS keep_id, SUM(COALESCE(total_message_count, 0)) AS total
+          FROM team_chat_settings
+          GROUP BY team_id
+          HAVING COUNT(*) > 1) dup ON dup.keep_id = keep.chat_setting_id
+SET keep.total_message_count = dup.total;
+
+DELETE s FROM team_chat_settings s
+    JOIN team_chat_settings keep
+      ON keep.team_id = s.team_id AND keep.chat_setting_id < s.chat_setting_id;
+
+ALTER TABLE team_chat_settings ADD CONSTRAINT uk_team_chat_settings_team UNIQUE (team_id);
@@ -0,0 +1,178 @@
+package com.kopo.hanagreenworld.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kopo.hanagreenworld.chat.dto.ChatMessageResponse;
+import com.kopo.hanagreenworld.chat.repository.TeamChatMessageRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 채팅 write-behind 저장 검증 (embedded Redis + H2)
+ */
+class ChatMessageWriterTest {
+
+    private static final String PENDING_KEY = "chat:persist:pending";
+    private static final String SEQUENCE_KEY = "chat:message:seq";
+    private static final String REPLAY_LOCK_KEY = "chat:persist:replay:lock";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redis;
+    private static JdbcTemplate jdbc;
+
+    private ChatMessageCodec codec;
+    private ChatMessageWriter writer;
+
+    @BeforeAll
+    static void startInfrastructure() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:chat-writer;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        dataSource.setDriverClassName("org.h2.Driver");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE team_chat_messages (" +
+                "message_id BIGINT PRIMARY KEY, team_id BIGINT NOT NULL, team_seq BIGINT, sender_id BIGINT NOT NULL, " +
+                "message_text TEXT NOT NULL, message_type VARCHAR(20), is_deleted BOOLEAN NOT NULL, " +
+                "redis_message_id VARCHAR(64), created_at TIMESTAMP, modified_at TIMESTAMP)");
+    }
+
+    @AfterAll
+    static void stopInfrastructure() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        jdbc.update("DELETE FROM team_chat_messages");
+
+        TeamChatMessageRepository repository = mock(TeamChatMessageRepository.class);
+        when(repository.findMaxId()).thenAnswer(invocation ->
+                jdbc.queryForObject("SELECT MAX(message_id) FROM team_chat_messages", Long.class));
+        codec = new ChatMessageCodec(new ObjectMapper().findAndRegisterModules());
+        writer = new ChatMessageWriter(redis, jdbc, codec, repository, 100, 2, 60);
+    }
+
+    @Test
+    void 플러시하면_큐의_메시지를_저장하고_대기_해시에서_지운다() {
+        for (long id = 1; id <= 5; id++) {
+            send(message(id, 1L, 10L, id));
+        }
+
+        writer.flush();
+
+        assertThat(storedCount()).isEqualTo(5);
+        assertThat(redis.opsForHash().size(PENDING_KEY)).isZero();
+    }
+
+    @Test
+    void 재적재는_다른_노드가_남긴_대기_항목을_배치로_저장한다() {
+        for (long id = 1; id <= 5; id++) {
+            // 큐에 넣지 못하고 종료된 노드의 몫: 대기 해시에만 있음
+            redis.opsForHash().put(PENDING_KEY, Long.toString(id), codec.encode(message(id, 1L, 10L, id)));
+        }
+
+        writer.initialize();
+
+        assertThat(storedCount()).isEqualTo(5);
+        assertThat(redis.opsForHash().size(PENDING_KEY)).isZero();
+        assertThat(redis.hasKey(REPLAY_LOCK_KEY)).isFalse();
+    }
+
+    @Test
+    void 다른_노드가_재적재_중이면_건너뛴다() {
+        redis.opsForHash().put(PENDING_KEY, "1", codec.encode(message(1L, 1L, 10L, 1L)));
+        redis.opsForValue().set(REPLAY_LOCK_KEY, "other-node");
+
+        writer.initialize();
+
+        assertThat(storedCount()).isZero();
+        assertThat(redis.opsForHash().size(PENDING_KEY)).isEqualTo(1);
+        assertThat(redis.opsForValue().get(REPLAY_LOCK_KEY)).isEqualTo("other-node");
+    }
+
+    @Test
+    void 이미_저장된_같은_메시지는_완료로_처리한다() {
+        ChatMessageResponse message = message(7L, 1L, 10L, 3L);
+        send(message);
+        writer.flush();
+        redis.opsForHash().put(PENDING_KEY, "7", codec.encode(message));
+
+        writer.persistNow(7L);
+
+        assertThat(storedCount()).isEqualTo(1);
+        assertThat(redis.opsForHash().hasKey(PENDING_KEY, "7")).isFalse();
+    }
+
+    @Test
+    void ID가_충돌하면_대기_해시에_남기고_시퀀스를_DB_최대_ID_이상으로_올린다() {
+        // Redis 시퀀스가 초기화되어 이미 다른 메시지가 쓰는 ID를 다시 발급한 상황
+        jdbc.update("INSERT INTO team_chat_messages (message_id, team_id, team_seq, sender_id, message_text, " +
+                "message_type, is_deleted, created_at, modified_at) VALUES (42, 2, 1, 20, 'old', 'TEXT', false, NOW(), NOW())");
+        send(message(42L, 1L, 10L, 5L));
+
+        writer.flush();
+
+        assertThat(redis.opsForHash().hasKey(PENDING_KEY, "42")).isTrue();
+        assertThat(jdbc.queryForObject("SELECT team_id FROM team_chat_messages WHERE message_id = 42", Long.class))
+                .isEqualTo(2L);
+        assertThat(writer.nextId()).isGreaterThan(42L);
+        assertThat(Long.parseLong(redis.opsForValue().get(SEQUENCE_KEY))).isGreaterThan(42L);
+    }
+
+    // 전송 확정 스크립트가 대기 해시에 기록한 뒤 큐에 넣는 것과 같은 상태
+    private void send(ChatMessageResponse message) {
+        redis.opsForHash().put(PENDING_KEY, message.getMessageId(), codec.encode(message));
+        writer.enqueue(message);
+    }
+
+    private int storedCount() {
+        Integer count = jdbc.queryForObject("SELECT COUNT(*) FROM team_chat_messages", Integer.class);
+        return count != null ? count : 0;
+    }
+
+    private ChatMessageResponse message(long id, long teamId, long senderId, long sequence) {
+        return ChatMessageResponse.builder()
+                .messageId(Long.toString(id))
+                .teamId(teamId)
+                .sequence(sequence)
+                .senderId(senderId)
+                .senderName("회원" + senderId)
+                .messageText("메시지 " + id)
+                .messageType("TEXT")
+                .createdAt(LocalDateTime.now().withNano(0))
+                .isDeleted(false)
+                .build();
+    }
+}
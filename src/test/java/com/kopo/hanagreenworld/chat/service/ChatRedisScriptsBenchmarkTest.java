@@ -0,0 +1,214 @@
+package com.kopo.hanagreenworld.chat.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅 Redis 스크립트 검증 및 기존 명령별 호출 대비 왕복/처리량 비교 (embedded Redis)
+ * 처리량 비교는 "load" 태그로 loadTest 태스크에서만 돌고, 스크립트 동작 검증은 일반 test에 남는다.
+ */
+class ChatRedisScriptsBenchmarkTest {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+    private static final int CACHE_SIZE = 100;
+    private static final Duration TTL = Duration.ofHours(24);
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redis;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redis.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @Test
+    void 전송_확정은_순번을_넣은_메시지를_대기_해시와_최신_캐시에_쓰고_읽음_위치를_올린다() {
+        assertThat(commitSend("0")).isEqualTo(-1L);
+        assertThat(redis.opsForHash().size("pending")).isZero();
+
+        redis.opsForValue().set("seq", "7");
+        for (int i = 1; i <= CACHE_SIZE + 20; i++) {
+            commitSend(Integer.toString(i));
+        }
+
+        assertThat(redis.opsForValue().get("seq")).isEqualTo(Long.toString(7 + CACHE_SIZE + 20));
+        assertThat(redis.opsForHash().get("pending", "1").toString()).contains("\"sequence\":8");
+        assertThat(redis.opsForList().size("recent")).isEqualTo(CACHE_SIZE);
+        assertThat(redis.opsForList().index("recent", 0)).contains("\"messageId\":\"120\"");
+        assertThat(redis.getExpire("recent", TimeUnit.SECONDS)).isPositive();
+        assertThat(redis.opsForHash().get("read", "1")).isEqualTo(Long.toString(7 + CACHE_SIZE + 20));
+        assertThat(redis.getExpire("read", TimeUnit.SECONDS)).isPositive();
+        assertThat(redis.opsForSet().members("dirty")).containsExactly("10:1");
+
+        Long removed = redis.execute(ChatRedisScripts.REMOVE_RECENT, List.of("recent"), "115");
+        assertThat(removed).isEqualTo(1L);
+        assertThat(redis.opsForList().range("recent", 0, -1)).noneMatch(json -> json.contains("\"115\""));
+    }
+
+    @Test
+    void 전송_카운터는_순간_한도를_넘으면_일일_카운터를_올리지_않는다() {
+        for (int i = 0; i < 3; i++) {
+            countSend(3);
+        }
+        List<?> over = countSend(3);
+
+        assertThat(((Number) over.get(0)).longValue()).isEqualTo(4L);
+        assertThat(((Number) over.get(1)).longValue()).isEqualTo(-1L);
+        assertThat(redis.opsForValue().get("daily")).isEqualTo("3");
+        assertThat(redis.getExpire("burst", TimeUnit.SECONDS)).isPositive();
+    }
+
+    @Test
+    void 접속_현황_스크립트는_등록_정리_교체를_한_번에_처리한다() {
+        long now = System.currentTimeMillis();
+        redis.execute(ChatRedisScripts.PRESENCE_JOIN, List.of("presence", "names"),
+                "1:s-1", Long.toString(now), "1", "그린러너", "60000");
+        redis.opsForZSet().add("presence", "2:s-2", now - 100_000);
+
+        Long removed = redis.execute(ChatRedisScripts.PRESENCE_REFRESH, List.of("presence", "names"),
+                Long.toString(now - 30_000), "60000", Long.toString(now + 1), "1:s-1");
+        assertThat(removed).isEqualTo(1L);
+        assertThat(redis.opsForZSet().score("presence", "1:s-1")).isEqualTo((double) now + 1);
+        assertThat(redis.opsForHash().get("names", "1")).isEqualTo("그린러너");
+
+        redis.execute(ChatRedisScripts.REPLACE_SET, List.of("announced"), "60000", "1", "3");
+        assertThat(redis.opsForSet().members("announced")).containsExactlyInAnyOrder("1", "3");
+        redis.execute(ChatRedisScripts.REPLACE_SET, List.of("announced"), "60000");
+        assertThat(redis.hasKey("announced")).isFalse();
+    }
+
+    @Tag("load")
+    @Test
+    void 스크립트가_명령별_호출보다_처리량이_높다() {
+        redis.opsForValue().set("seq", "0");
+        String json = message("123456789");
+
+        IntConsumer legacySend = i -> {
+            Long seq = redis.opsForValue().increment("seq");
+            redis.opsForHash().put("pending", Integer.toString(i), json);
+            redis.opsForList().leftPush("recent", json);
+            redis.opsForList().trim("recent", 0, CACHE_SIZE - 1);
+            redis.expire("recent", TTL);
+            redis.expire("warm", TTL);
+            redis.opsForHash().put("read", "1", String.valueOf(seq));
+            redis.opsForSet().add("dirty", "10:1");
+        };
+        IntConsumer scriptSend = i -> commitSend(Integer.toString(i));
+
+        IntConsumer legacyJoin = i -> {
+            redis.opsForZSet().add("presence", i + ":s", System.currentTimeMillis());
+            redis.opsForHash().put("names", Integer.toString(i), "회원" + i);
+            redis.expire("presence", TTL);
+            redis.expire("names", TTL);
+        };
+        IntConsumer scriptJoin = i -> redis.execute(ChatRedisScripts.PRESENCE_JOIN, List.of("presence", "names"),
+                i + ":s", Long.toString(System.currentTimeMillis()), Integer.toString(i), "회원" + i,
+                Long.toString(TTL.toMillis()));
+
+        IntConsumer legacyCount = i -> {
+            redis.opsForValue().increment("burst");
+            redis.opsForValue().increment("daily");
+        };
+        IntConsumer scriptCount = i -> countSend(Integer.MAX_VALUE);
+
+        Result sendLegacy = run("send   legacy (8 RTT)", legacySend);
+        Result sendScript = run("send   script (1 RTT)", scriptSend);
+        Result joinLegacy = run("join   legacy (4 RTT)", legacyJoin);
+        Result joinScript = run("join   script (1 RTT)", scriptJoin);
+        Result countLegacy = run("limit  legacy (2 RTT)", legacyCount);
+        Result countScript = run("limit  script (1 RTT)", scriptCount);
+
+        assertThat(sendScript.opsPerSecond()).isGreaterThan(sendLegacy.opsPerSecond());
+        assertThat(joinScript.opsPerSecond()).isGreaterThan(joinLegacy.opsPerSecond());
+        assertThat(countScript.opsPerSecond()).isGreaterThan(countLegacy.opsPerSecond() * 0.8);
+    }
+
+    private Long commitSend(String messageId) {
+        return redis.execute(ChatRedisScripts.COMMIT_SEND, List.of("seq", "pending", "recent", "warm", "read", "dirty"),
+                message(messageId), messageId, Integer.toString(CACHE_SIZE), Long.toString(TTL.toMillis()),
+                "1", Long.toString(TTL.toMillis()), "10:1");
+    }
+
+    private String message(String messageId) {
+        return "{\"messageId\":\"" + messageId + "\",\"teamId\":1,\"senderId\":10,\"senderName\":\"그린러너\","
+                + "\"messageText\":\"오늘 걷기 인증했어요! 다들 화이팅\",\"messageType\":\"TEXT\"}";
+    }
+
+    private List<?> countSend(int burstLimit) {
+        return redis.execute(ChatRedisScripts.COUNT_SEND, List.of("burst", "daily"),
+                Integer.toString(burstLimit), "10000", Long.toString(Duration.ofDays(2).toMillis()));
+    }
+
+    private Result run(String label, IntConsumer operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.accept(i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.accept(i);
+        }
+        Result result = new Result(ITERATIONS, System.nanoTime() - start);
+        System.out.printf("[%s] ops/s=%.0f, avg=%.1fus%n", label, result.opsPerSecond(), result.averageMicros());
+        return result;
+    }
+
+    private static class Result {
+        private final int operations;
+        private final long wallNanos;
+
+        Result(int operations, long wallNanos) {
+            this.operations = operations;
+            this.wallNanos = wallNanos;
+        }
+
+        double opsPerSecond() {
+            return operations * 1_000_000_000.0 / Math.max(1L, wallNanos);
+        }
+
+        double averageMicros() {
+            return wallNanos / 1_000.0 / operations;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.kopo.hanagreenworld.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kopo.hanagreenworld.chat.domain.TeamChatSettings;
+import com.kopo.hanagreenworld.chat.repository.TeamChatSettingsRepository;
+import com.kopo.hanagreenworld.member.domain.Team;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import redis.embedded.RedisServer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 채팅 보관 기간 정리 검증 (embedded Redis + H2)
+ */
+class ChatRetentionServiceTest {
+
+    private static final String LOCK_KEY = "chat:retention:lock";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redis;
+    private static JdbcTemplate jdbc;
+
+    @TempDir
+    Path archiveDir;
+
+    private TeamChatSettingsRepository settingsRepository;
+    private ChatRetentionService service;
+
+    @BeforeAll
+    static void startInfrastructure() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:chat-retention;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        dataSource.setDriverClassName("org.h2.Driver");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE team_chat_messages (" +
+                "message_id BIGINT PRIMARY KEY, team_id BIGINT NOT NULL, team_seq BIGINT, sender_id BIGINT NOT NULL, " +
+                "message_text TEXT NOT NULL, message_type VARCHAR(20), is_deleted BOOLEAN NOT NULL, " +
+                "redis_message_id VARCHAR(64), created_at TIMESTAMP, modified_at TIMESTAMP)");
+    }
+
+    @AfterAll
+    static void stopInfrastructure() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        jdbc.update("DELETE FROM team_chat_messages");
+
+        settingsRepository = mock(TeamChatSettingsRepository.class);
+        // 청크 2건, 쉬지 않음, 기본 보관 30일, 파티션 정리 끔 (H2에는 파티션 정보가 없음)
+        service = new ChatRetentionService(jdbc, settingsRepository, redis, new ObjectMapper(),
+                archiveDir.toString(), true, 2, 0, 30, false, 60);
+    }
+
+    @Test
+    void 보관_기간이_지난_메시지를_청크로_보관한_뒤_삭제한다() throws IOException {
+        LocalDateTime old = LocalDate.now().minusDays(40).atTime(10, 0);
+        LocalDateTime recent = LocalDateTime.now().minusDays(1);
+        for (long id = 1; id <= 5; id++) {
+            insert(id, 1L, old.plusMinutes(id), false);
+        }
+        insert(6L, 1L, old.plusMinutes(6), true);
+        insert(7L, 1L, recent, false);
+        insert(8L, 1L, recent, false);
+
+        service.purgeExpired();
+
+        assertThat(jdbc.queryForList("SELECT message_id FROM team_chat_messages ORDER BY message_id", Long.class))
+                .containsExactly(7L, 8L);
+        // 청크마다 gzip 멤버로 이어 붙이며, 삭제된 메시지는 보관하지 않음
+        List<String> archived = readArchive(archiveDir.resolve("team-1").resolve(old.toLocalDate() + ".jsonl.gz"));
+        assertThat(archived).hasSize(5);
+        assertThat(archived.get(0)).contains("\"messageId\":1");
+        assertThat(archived.get(4)).contains("\"messageId\":5");
+        assertThat(redis.hasKey(LOCK_KEY)).isFalse();
+    }
+
+    @Test
+    void 팀별_보관_기간을_따른다() {
+        LocalDateTime old = LocalDate.now().minusDays(40).atTime(10, 0);
+        insert(1L, 1L, old, false);
+        insert(2L, 2L, old, false);
+        Team team = mock(Team.class);
+        when(team.getId()).thenReturn(2L);
+        TeamChatSettings settings = mock(TeamChatSettings.class);
+        when(settings.getTeam()).thenReturn(team);
+        when(settings.getMaxMessageRetentionDays()).thenReturn(60);
+        when(settingsRepository.findAll()).thenReturn(List.of(settings));
+
+        service.purgeExpired();
+
+        assertThat(jdbc.queryForList("SELECT message_id FROM team_chat_messages", Long.class)).containsExactly(2L);
+    }
+
+    @Test
+    void 다른_노드가_실행_중이면_건너뛴다() {
+        insert(1L, 1L, LocalDate.now().minusDays(40).atStartOfDay(), false);
+        redis.opsForValue().set(LOCK_KEY, "other-node");
+
+        service.purgeExpired();
+
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM team_chat_messages", Integer.class)).isEqualTo(1);
+        assertThat(redis.opsForValue().get(LOCK_KEY)).isEqualTo("other-node");
+    }
+
+    @Test
+    void 실행_중_락이_만료되어_다른_노드가_잡았으면_그_락은_지우지_않는다() {
+        when(settingsRepository.findAll()).thenAnswer(invocation -> {
+            // 락 TTL이 지나 다른 노드가 새로 잡은 상황
+            redis.opsForValue().set(LOCK_KEY, "other-node");
+            return List.of();
+        });
+
+        service.purgeExpired();
+
+        assertThat(redis.opsForValue().get(LOCK_KEY)).isEqualTo("other-node");
+    }
+
+    @Test
+    void 파티션_상한을_날짜로_해석한다() {
+        // RANGE(TO_DAYS(created_at)): TO_DAYS('2026-01-01') = 739982
+        assertThat(ChatRetentionService.parseUpperBound("739982")).isEqualTo(LocalDate.of(2026, 1, 1));
+        // RANGE COLUMNS(created_at)
+        assertThat(ChatRetentionService.parseUpperBound("'2026-01-01'")).isEqualTo(LocalDate.of(2026, 1, 1));
+        assertThat(ChatRetentionService.parseUpperBound("'2026-01-01 00:00:00'")).isEqualTo(LocalDate.of(2026, 1, 1));
+        assertThat(ChatRetentionService.parseUpperBound("MAXVALUE")).isNull();
+        assertThat(ChatRetentionService.parseUpperBound("'abc'")).isNull();
+        assertThat(ChatRetentionService.parseUpperBound(null)).isNull();
+    }
+
+    private void insert(long id, long teamId, LocalDateTime createdAt, boolean deleted) {
+        Timestamp at = Timestamp.valueOf(createdAt);
+        jdbc.update("INSERT INTO team_chat_messages (message_id, team_id, team_seq, sender_id, message_text, " +
+                        "message_type, is_deleted, created_at, modified_at) VALUES (?, ?, ?, 10, ?, 'TEXT', ?, ?, ?)",
+                id, teamId, id, "메시지 " + id, deleted, at, at);
+    }
+
+    private List<String> readArchive(Path file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.kopo.hanagreenworld.common.interceptor;
+
+import com.kopo.hanagreenworld.common.util.JwtUtil;
+import com.kopo.hanagreenworld.common.websocket.ChatPrincipal;
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.dto.MemberDisplay;
+import com.kopo.hanagreenworld.member.service.MemberDisplayCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.helpers.MessageFormatter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * STOMP 인증 인터셉터 검증 및 SEND 경로 처리량/할당량 비교
+ * 기존 방식(프레임마다 INFO 로그 포맷 + 회원 엔티티 조회)을 같은 프레임으로 재현해 기준선으로 삼는다.
+ * 처리량/할당량 비교는 "load" 태그로 loadTest 태스크에서만 실행한다.
+ */
+class JwtChannelInterceptorBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+    private static final String TOKEN = "test-token";
+
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+    private final MemberDisplayCache memberDisplayCache = mock(MemberDisplayCache.class);
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final JwtChannelInterceptor interceptor = new JwtChannelInterceptor(jwtUtil, memberDisplayCache);
+    private final Map<String, Object> sessionAttributes = new HashMap<>();
+    private long sunk;
+
+    @BeforeEach
+    void setUp() {
+        when(jwtUtil.validateToken(TOKEN)).thenReturn(true);
+        when(jwtUtil.getMemberIdFromToken(TOKEN)).thenReturn(7L);
+        when(memberDisplayCache.get(7L)).thenReturn(Optional.of(
+                new MemberDisplay(7L, "그린러너", Member.MemberRole.USER, Member.MemberStatus.ACTIVE)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void CONNECT는_토큰과_캐시로_principal을_만들고_사용자_이름은_회원_ID다() {
+        StompHeaderAccessor accessor = connect();
+
+        assertThat(sessionAttributes.get(ChatPrincipal.SESSION_ATTRIBUTE)).isInstanceOf(ChatPrincipal.class);
+        ChatPrincipal principal = (ChatPrincipal) sessionAttributes.get(ChatPrincipal.SESSION_ATTRIBUTE);
+        assertThat(principal.getMemberId()).isEqualTo(7L);
+        assertThat(principal.getDisplayName()).isEqualTo("그린러너");
+        assertThat(accessor.getUser()).isNotNull();
+        assertThat(accessor.getUser().getName()).isEqualTo("7");
+    }
+
+    @Test
+    void 비활성_회원은_인증되지_않는다() {
+        when(memberDisplayCache.get(7L)).thenReturn(Optional.of(
+                new MemberDisplay(7L, "그린러너", Member.MemberRole.USER, Member.MemberStatus.SUSPENDED)));
+
+        StompHeaderAccessor accessor = connect();
+
+        assertThat(accessor.getUser()).isNull();
+        assertThat(sessionAttributes).doesNotContainKey(ChatPrincipal.SESSION_ATTRIBUTE);
+    }
+
+    @Test
+    void 잘못된_토큰은_회원을_조회하지_않고_거부한다() {
+        when(jwtUtil.validateToken("forged")).thenReturn(false);
+
+        StompHeaderAccessor accessor = connect("forged");
+
+        assertThat(accessor.getUser()).isNull();
+        assertThat(sessionAttributes).isEmpty();
+        verify(memberDisplayCache, never()).get(anyLong());
+    }
+
+    @Test
+    void SEND는_조회_없이_세션의_인증을_복원한다() {
+        connect();
+        SecurityContextHolder.clearContext();
+
+        Message<byte[]> send = send();
+        interceptor.preSend(send, channel);
+        Authentication restored = SecurityContextHolder.getContext().getAuthentication();
+        interceptor.afterSendCompletion(send, channel, true, null);
+
+        assertThat(restored).isNotNull();
+        assertThat(restored.getPrincipal()).isInstanceOf(ChatPrincipal.class);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(memberDisplayCache, times(1)).get(anyLong());
+    }
+
+    @Tag("load")
+    @Test
+    void SEND_경로가_기존_방식보다_빠르고_할당이_적다() {
+        connect();
+        Message<byte[]> send = send();
+        Member member = Member.builder()
+                .loginId("runner").email("runner@hana.com").password("x").name("그린러너")
+                .role(Member.MemberRole.USER).status(Member.MemberStatus.ACTIVE).build();
+        Map<Long, Member> memberTable = Map.of(7L, member);
+        Consumer<Message<?>> legacy = message -> legacyPreSend(message, memberTable);
+        Consumer<Message<?>> current = message -> {
+            interceptor.preSend(message, channel);
+            interceptor.afterSendCompletion(message, channel, true, null);
+        };
+
+        run(legacy, send, WARMUP);
+        run(current, send, WARMUP);
+        Result legacyResult = run(legacy, send, ITERATIONS);
+        Result currentResult = run(current, send, ITERATIONS);
+
+        System.out.printf("[legacy]  ops/s=%.0f, bytes/op=%.0f%n", legacyResult.opsPerSecond(), legacyResult.bytesPerOp());
+        System.out.printf("[current] ops/s=%.0f, bytes/op=%.0f%n", currentResult.opsPerSecond(), currentResult.bytesPerOp());
+
+        assertThat(currentResult.bytesPerOp()).isLessThan(legacyResult.bytesPerOp());
+        assertThat(currentResult.wallNanos).isLessThan(legacyResult.wallNanos);
+        verify(jwtUtil, never()).getEmailFromToken(TOKEN);
+    }
+
+    /**
+     * 기존 SEND 처리 재현: 프레임 요약/명령/복원 결과를 INFO로 포맷하고,
+     * 컨트롤러에서 세션 속성과 헤더 전체를 다시 포맷한 뒤 회원을 조회한다.
+     */
+    private void legacyPreSend(Message<?> message, Map<Long, Member> memberTable) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        sink(MessageFormatter.arrayFormat("🔍 STOMP 메시지 처리: Command = {}, Destination = {}, SessionId = {}",
+                new Object[]{accessor.getCommand(), accessor.getDestination(), accessor.getSessionId()}).getMessage());
+        sink("📤 SEND 명령 처리 시작");
+        Object auth = accessor.getSessionAttributes().get("USER_AUTHENTICATION");
+        if (auth instanceof Authentication authentication) {
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        }
+        Member member = memberTable.get(7L);
+        sink(MessageFormatter.arrayFormat("WebSocket SEND 인증 복원 성공: 사용자 ID = {}, 이름 = {}, 세션 ID = {}",
+                new Object[]{member.getMemberId(), member.getName(), accessor.getSessionId()}).getMessage());
+        sink(MessageFormatter.arrayFormat("📨 세션 ID: {}, 헤더: {}",
+                new Object[]{accessor.getSessionId(), accessor.toMap()}).getMessage());
+        sink(MessageFormatter.arrayFormat("🔍 세션 속성 키들: {}",
+                new Object[]{accessor.getSessionAttributes().keySet()}).getMessage());
+        SecurityContextHolder.clearContext();
+    }
+
+    private void sink(String line) {
+        sunk += line.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private Result run(Consumer<Message<?>> path, Message<?> message, int iterations) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedStart = threads.getThreadAllocatedBytes(threadId);
+        long wallStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            path.accept(message);
+        }
+        long wall = System.nanoTime() - wallStart;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedStart;
+        return new Result(iterations, wall, allocated);
+    }
+
+    private StompHeaderAccessor connect() {
+        return connect(TOKEN);
+    }
+
+    private StompHeaderAccessor connect(String token) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId("s-1");
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.addNativeHeader("Authorization", "Bearer " + token);
+        accessor.setLeaveMutable(true);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        interceptor.preSend(message, channel);
+        return accessor;
+    }
+
+    private Message<byte[]> send() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setSessionId("s-1");
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setDestination("/app/chat.send.1");
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(
+                "{\"teamId\":1,\"messageText\":\"안녕\"}".getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    private static class Result {
+        private final int operations;
+        private final long wallNanos;
+        private final long allocatedBytes;
+
+        Result(int operations, long wallNanos, long allocatedBytes) {
+            this.operations = operations;
+            this.wallNanos = wallNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        double opsPerSecond() {
+            return operations * 1_000_000_000.0 / Math.max(1L, wallNanos);
+        }
+
+        double bytesPerOp() {
+            return (double) allocatedBytes / operations;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.kopo.hanagreenworld.common.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 팀 토픽 묶음 발행 검증 및 프레임 수/CPU 비교
+ * 채널을 동기(executor 없음)로 구성해 발행부터 구독자 프레임 생성까지 현재 스레드 CPU 시간으로 측정한다.
+ * CPU 비교는 "load" 태그로 loadTest 태스크에서만 돌고, 묶음 동작 검증은 일반 test에 남는다.
+ */
+class TeamTopicPublisherBenchmarkTest {
+
+    private static final int SUBSCRIBERS = 200;
+    private static final int EVENTS = 5_000;
+    private static final int EVENTS_PER_TICK = 50;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+    private final ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+    private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+    private final AtomicLong outboundFrames = new AtomicLong();
+    private final List<Message<?>> captured = new ArrayList<>();
+    private SimpleBrokerMessageHandler broker;
+    private boolean capture;
+
+    @BeforeEach
+    void setUp() {
+        broker = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/topic"));
+        broker.start();
+        clientOutbound.subscribe(message -> {
+            if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+                outboundFrames.incrementAndGet();
+                if (capture) {
+                    captured.add(message);
+                }
+            }
+        });
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            subscribe("s-" + i, "sub-0", "/topic/team/1");
+            subscribe("s-" + i, "sub-1", "/topic/team/1/presence");
+            subscribe("s-" + i, "sub-2", "/topic/team/1/batch");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.stop();
+    }
+
+    @Test
+    void 묶음_모드는_tick_동안의_이벤트를_순서대로_한_프레임에_담는다() {
+        TeamTopicPublisher publisher = new TeamTopicPublisher(brokerChannel, objectMapper, true, 100);
+        capture = true;
+
+        publisher.publish(1L, null, Map.of("messageText", "안녕"));
+        publisher.publish(1L, "/presence", Map.of("action", "join"));
+        publisher.publish(1L, "/delete", 10L);
+        assertThat(outboundFrames.get()).isZero();
+
+        publisher.flush();
+
+        assertThat(outboundFrames.get()).isEqualTo(SUBSCRIBERS);
+        Message<?> first = captured.get(0);
+        assertThat(SimpMessageHeaderAccessor.getDestination(first.getHeaders())).isEqualTo("/topic/team/1/batch");
+        String json = new String((byte[]) first.getPayload(), StandardCharsets.UTF_8);
+        assertThat(json).isEqualTo("{\"teamId\":1,\"events\":["
+                + "{\"destination\":\"/topic/team/1\",\"payload\":{\"messageText\":\"안녕\"}},"
+                + "{\"destination\":\"/topic/team/1/presence\",\"payload\":{\"action\":\"join\"}},"
+                + "{\"destination\":\"/topic/team/1/delete\",\"payload\":10}]}");
+
+        // 직렬화는 한 번: 모든 구독자 프레임이 같은 byte[]를 공유
+        Map<Object, Boolean> payloads = new IdentityHashMap<>();
+        captured.forEach(message -> payloads.put(message.getPayload(), true));
+        assertThat(payloads).hasSize(1);
+    }
+
+    @Test
+    void 최대_묶음_크기를_넘으면_여러_프레임으로_나눈다() {
+        TeamTopicPublisher publisher = new TeamTopicPublisher(brokerChannel, objectMapper, true, 2);
+        for (int i = 0; i < 5; i++) {
+            publisher.publish(1L, null, i);
+        }
+        publisher.flush();
+        assertThat(publisher.getSentFrames()).isEqualTo(3);
+        assertThat(outboundFrames.get()).isEqualTo(3L * SUBSCRIBERS);
+    }
+
+    @Tag("load")
+    @Test
+    void 묶음_모드가_구독자_프레임과_메시지당_CPU를_줄인다() {
+        Map<String, Object> payload = Map.of(
+                "messageId", "123456", "teamId", 1, "senderName", "그린러너",
+                "messageText", "오늘 걷기 인증했어요! 다들 화이팅", "messageType", "TEXT");
+
+        // 워밍업
+        run(new TeamTopicPublisher(brokerChannel, objectMapper, false, 200), payload, 1_000);
+        run(new TeamTopicPublisher(brokerChannel, objectMapper, true, 200), payload, 1_000);
+
+        Result direct = run(new TeamTopicPublisher(brokerChannel, objectMapper, false, 200), payload, EVENTS);
+        Result coalesced = run(new TeamTopicPublisher(brokerChannel, objectMapper, true, 200), payload, EVENTS);
+
+        System.out.printf("[direct]    frames=%d, frames/s=%.0f, cpu/msg=%.1fus%n",
+                direct.frames, direct.framesPerSecond(), direct.cpuMicrosPerMessage());
+        System.out.printf("[coalesced] frames=%d, frames/s=%.0f, cpu/msg=%.1fus%n",
+                coalesced.frames, coalesced.framesPerSecond(), coalesced.cpuMicrosPerMessage());
+
+        assertThat(direct.frames).isEqualTo((long) EVENTS * SUBSCRIBERS);
+        assertThat(coalesced.frames).isEqualTo((long) EVENTS / EVENTS_PER_TICK * SUBSCRIBERS);
+        assertThat(coalesced.cpuNanos).isLessThan(direct.cpuNanos);
+    }
+
+    private Result run(TeamTopicPublisher publisher, Object payload, int events) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long framesBefore = outboundFrames.get();
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        long wallStart = System.nanoTime();
+        for (int i = 1; i <= events; i++) {
+            publisher.publish(1L, null, payload);
+            if (i % EVENTS_PER_TICK == 0) {
+                publisher.flush();
+            }
+        }
+        publisher.flush();
+        long wall = System.nanoTime() - wallStart;
+        long cpu = threads.getCurrentThreadCpuTime() - cpuStart;
+        return new Result(outboundFrames.get() - framesBefore, events, cpu, wall);
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        if (subscriptionId.equals("sub-0")) {
+            SimpMessageHeaderAccessor connect = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+            connect.setSessionId(sessionId);
+            connect.setHeartbeat(0, 0);
+            clientInbound.send(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        clientInbound.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private static class Result {
+        private final long frames;
+        private final int messages;
+        private final long cpuNanos;
+        private final long wallNanos;
+
+        Result(long frames, int messages, long cpuNanos, long wallNanos) {
+            this.frames = frames;
+            this.messages = messages;
+            this.cpuNanos = cpuNanos;
+            this.wallNanos = wallNanos;
+        }
+
+        double framesPerSecond() {
+            return frames * 1_000_000_000.0 / Math.max(1L, wallNanos);
+        }
+
+        double cpuMicrosPerMessage() {
+            return cpuNanos / 1_000.0 / messages;
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.kopo.hanagreenworld.common.websocket;
+
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 노드(각자 SimpleBroker 보유) 사이의 팀 토픽 중계 통합 테스트
+ * 노드마다 리스너 컨테이너를 따로 두고 RedisRelayTransport로 embedded Redis Pub/Sub을 거쳐 중계한다.
+ * Redis 구독/수신은 비동기이므로 구독 수(PUBSUB NUMSUB)와 수신 건수를 기다린 뒤 확인한다.
+ */
+class TeamTopicRelayIntegrationTest {
+
+    private static final String CHANNEL_PREFIX = "stomp:relay:team:";
+    private static final long WAIT_MILLIS = 5_000;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redis;
+
+    private final AtomicInteger published = new AtomicInteger();
+    private final List<Node> nodes = new ArrayList<>();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (Node node : nodes) {
+            node.broker.stop();
+            node.container.stop();
+            node.container.destroy();
+        }
+    }
+
+    @Test
+    void 다른_노드에_연결된_팀원에게_메시지가_전달된다() {
+        Node nodeA = newNode();
+        Node nodeB = newNode();
+        nodeA.subscribe("a-session", "sub-1", "/topic/team/1");
+        nodeB.subscribe("b-session", "sub-1", "/topic/team/1");
+        awaitSubscribers(1L, 2);
+
+        nodeA.template.convertAndSend("/topic/team/1", Map.of("messageText", "안녕하세요"));
+        awaitUntil(() -> nodeA.received.get() == 1 && nodeB.received.get() == 1);
+
+        // 로컬 구독자와 원격 구독자 모두 정확히 한 번씩 수신 (자기 노드 중계분은 무시)
+        assertThat(nodeA.deliveredPayloads("a-session")).containsExactly("{\"messageText\":\"안녕하세요\"}");
+        assertThat(nodeB.deliveredPayloads("b-session")).containsExactly("{\"messageText\":\"안녕하세요\"}");
+    }
+
+    @Test
+    void 구독자가_없는_노드에는_중계되지_않는다() {
+        Node nodeA = newNode();
+        Node nodeB = newNode();
+        nodeB.subscribe("b-session", "sub-1", "/topic/team/2");
+        awaitSubscribers(2L, 1);
+
+        // 같은 구독 연결로는 발행 순서대로 도착하므로, 뒤에 보낸 팀2 메시지를 받았으면 팀1 메시지는 오지 않은 것
+        nodeA.template.convertAndSend("/topic/team/1", Map.of("messageText", "팀1"));
+        nodeA.template.convertAndSend("/topic/team/2/presence", Map.of("type", "JOIN"));
+        awaitUntil(() -> nodeB.received.get() == 1);
+
+        assertThat(nodeB.received.get()).isEqualTo(1);
+        assertThat(nodeB.deliveredPayloads("b-session")).isEmpty(); // /presence는 별도 destination
+        assertThat(nodeB.relay.hasLocalSubscribers(1L)).isFalse();
+        assertThat(nodeB.relay.hasLocalSubscribers(2L)).isTrue();
+    }
+
+    @Test
+    void 구독_해제와_연결_종료_시_팀_채널_구독을_정리한다() {
+        Node nodeA = newNode();
+        Node nodeB = newNode();
+        nodeB.subscribe("b-1", "sub-1", "/topic/team/3");
+        nodeB.subscribe("b-1", "sub-2", "/topic/team/3/presence");
+        nodeB.subscribe("b-2", "sub-1", "/topic/team/3");
+        awaitSubscribers(3L, 1);
+
+        nodeB.unsubscribe("b-1", "sub-1");
+        nodeB.disconnect("b-2");
+        assertThat(nodeB.relay.hasLocalSubscribers(3L)).isTrue();
+
+        nodeB.disconnect("b-1");
+        assertThat(nodeB.relay.hasLocalSubscribers(3L)).isFalse();
+        awaitSubscribers(3L, 0);
+
+        // 해제 확인용: 팀4 메시지가 도착했으면 먼저 보낸 팀3 메시지는 중계되지 않은 것
+        nodeB.subscribe("b-3", "sub-1", "/topic/team/4");
+        awaitSubscribers(4L, 1);
+        nodeA.template.convertAndSend("/topic/team/3", Map.of("messageText", "아무도 없음"));
+        nodeA.template.convertAndSend("/topic/team/4", Map.of("messageText", "확인"));
+        awaitUntil(() -> nodeB.received.get() == 1);
+
+        assertThat(nodeB.deliveredPayloads("b-3")).containsExactly("{\"messageText\":\"확인\"}");
+    }
+
+    @Test
+    void 팀_토픽이_아닌_메시지는_중계하지_않는다() {
+        Node nodeA = newNode();
+        Node nodeB = newNode();
+        nodeB.subscribe("b-session", "sub-1", "/topic/team/1");
+
+        nodeA.template.convertAndSend("/topic/notice", Map.of("text", "공지"));
+        nodeA.template.convertAndSend("/topic/team/abc", Map.of("text", "잘못된 팀"));
+
+        assertThat(published.get()).isZero();
+    }
+
+    private Node newNode() {
+        Node node = new Node(published);
+        nodes.add(node);
+        return node;
+    }
+
+    private void awaitSubscribers(Long teamId, long expected) {
+        awaitUntil(() -> subscribers(CHANNEL_PREFIX + teamId) == expected);
+    }
+
+    @SuppressWarnings("unchecked")
+    private long subscribers(String channel) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            RedisClusterAsyncCommands<byte[], byte[]> commands =
+                    (RedisClusterAsyncCommands<byte[], byte[]>) connection.getNativeConnection();
+            return commands.pubsubNumsub(channel.getBytes(StandardCharsets.UTF_8))
+                    .get(WAIT_MILLIS, TimeUnit.MILLISECONDS)
+                    .values().stream().mapToLong(Long::longValue).sum();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("Redis 중계 대기 시간 초과").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static class Node {
+        private final ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        private final ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+        private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        private final RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        private final SimpleBrokerMessageHandler broker;
+        private final SimpMessagingTemplate template;
+        private final TeamTopicRelay relay;
+        private final AtomicInteger received = new AtomicInteger();
+        private final List<Message<?>> outbound = new CopyOnWriteArrayList<>();
+
+        Node(AtomicInteger published) {
+            container.setConnectionFactory(connectionFactory);
+            container.afterPropertiesSet();
+            container.start();
+
+            this.relay = new TeamTopicRelay(
+                    new CountingTransport(new RedisRelayTransport(redis, container), published, received), brokerChannel);
+            clientInbound.addInterceptor(relay.inboundInterceptor());
+            brokerChannel.addInterceptor(relay.brokerInterceptor());
+            clientOutbound.subscribe(outbound::add);
+
+            this.broker = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/topic"));
+            broker.start();
+
+            this.template = new SimpMessagingTemplate(brokerChannel);
+            template.setMessageConverter(new MappingJackson2MessageConverter());
+        }
+
+        void subscribe(String sessionId, String subscriptionId, String destination) {
+            if (outbound.stream().noneMatch(m -> isConnectAck(m, sessionId))) {
+                SimpMessageHeaderAccessor connect = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+                connect.setSessionId(sessionId);
+                connect.setHeartbeat(0, 0);
+                clientInbound.send(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+            }
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId(subscriptionId);
+            accessor.setDestination(destination);
+            clientInbound.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        }
+
+        void unsubscribe(String sessionId, String subscriptionId) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId(subscriptionId);
+            clientInbound.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        }
+
+        void disconnect(String sessionId) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.DISCONNECT);
+            accessor.setSessionId(sessionId);
+            clientInbound.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        }
+
+        List<String> deliveredPayloads(String sessionId) {
+            return outbound.stream()
+                    .filter(m -> SimpMessageHeaderAccessor.getMessageType(m.getHeaders()) == SimpMessageType.MESSAGE)
+                    .filter(m -> sessionId.equals(SimpMessageHeaderAccessor.getSessionId(m.getHeaders())))
+                    .map(m -> new String((byte[]) m.getPayload(), StandardCharsets.UTF_8))
+                    .toList();
+        }
+
+        private static boolean isConnectAck(Message<?> message, String sessionId) {
+            return SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.CONNECT_ACK
+                    && sessionId.equals(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+        }
+    }
+
+    /**
+     * 발행/수신 건수를 세는 전송 래퍼 (실제 전송은 RedisRelayTransport)
+     */
+    private static class CountingTransport implements TeamTopicRelay.Transport {
+        private final TeamTopicRelay.Transport delegate;
+        private final AtomicInteger published;
+        private final AtomicInteger received;
+
+        CountingTransport(TeamTopicRelay.Transport delegate, AtomicInteger published, AtomicInteger received) {
+            this.delegate = delegate;
+            this.published = published;
+            this.received = received;
+        }
+
+        @Override
+        public void publish(String channel, byte[] body) {
+            published.incrementAndGet();
+            delegate.publish(channel, body);
+        }
+
+        @Override
+        public void subscribe(String channel, Consumer<byte[]> handler) {
+            // 브로커 전달(동기)까지 끝난 뒤 세어, 건수를 기다린 다음 바로 구독자 수신을 확인할 수 있게 한다
+            delegate.subscribe(channel, body -> {
+                handler.accept(body);
+                received.incrementAndGet();
+            });
+        }
+
+        @Override
+        public void unsubscribe(String channel) {
+            delegate.unsubscribe(channel);
+        }
+    }
+}
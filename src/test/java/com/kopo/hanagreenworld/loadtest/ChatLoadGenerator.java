@@ -0,0 +1,315 @@
+package com.kopo.hanagreenworld.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Builder;
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 채팅 부하 발생기
+ *
+ * - 회원마다 세션 하나를 /stomp에 연결하고 /topic/team/{id}(묶음 모드면 /batch 포함)를 구독한 뒤 /app/chat.join.{teamId}로 참여한다.
+ * - 전체 전송률(messagesPerSecond)로 세션을 돌아가며 /app/chat.send.{teamId}에 전송한다.
+ * - 메시지 본문에 전송 시각(nanoTime)을 넣어 두고, 구독 수신 시점과의 차이를 수신자별 종단 간 지연으로 기록한다.
+ *   (같은 JVM에서 돌리므로 nanoTime 비교가 유효하다)
+ */
+public class ChatLoadGenerator {
+
+    private static final String PAYLOAD_PREFIX = "lt:";
+    private static final Pattern BATCH_MESSAGE_DESTINATION = Pattern.compile("/topic/team/\\d+");
+
+    private final Config config;
+    private final Recorder latencyRecorder = new Recorder(TimeUnit.SECONDS.toMicros(60), 3);
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong sendErrors = new AtomicLong();
+    private final AtomicLong serverErrors = new AtomicLong();
+    private final List<Client> clients = new ArrayList<>();
+    private WebSocketStompClient stompClient;
+    private ThreadPoolTaskScheduler heartbeatScheduler;
+
+    public ChatLoadGenerator(Config config) {
+        this.config = config;
+    }
+
+    /**
+     * 모든 세션 연결, 구독, 팀 참여 (동시 연결 수는 connectConcurrency로 제한)
+     */
+    public void connect(List<Participant> participants) throws InterruptedException {
+        heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(2);
+        heartbeatScheduler.setThreadNamePrefix("loadtest-heartbeat-");
+        heartbeatScheduler.initialize();
+
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        // 전송은 JSON(ChatMessageRequest), 수신은 JSON 트리, 에러 큐는 문자열
+        stompClient.setMessageConverter(new CompositeMessageConverter(
+                List.of(new StringMessageConverter(), new MappingJackson2MessageConverter())));
+        stompClient.setTaskScheduler(heartbeatScheduler);
+        stompClient.setDefaultHeartbeat(new long[]{0, 0});
+        stompClient.setInboundMessageSizeLimit(1024 * 1024);
+
+        Semaphore inFlight = new Semaphore(config.getConnectConcurrency());
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (Participant participant : participants) {
+            inFlight.acquire();
+            pending.add(connect(participant).whenComplete((client, e) -> inFlight.release()).thenAccept(client -> {
+                synchronized (clients) {
+                    clients.add(client);
+                }
+            }));
+        }
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture[0]))
+                .exceptionally(e -> null)
+                .join();
+    }
+
+    private CompletableFuture<Client> connect(Participant participant) {
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + participant.getToken());
+
+        return stompClient.connectAsync(config.getUrl(), handshakeHeaders, connectHeaders, new StompSessionHandlerAdapter() {
+                    @Override
+                    public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                                byte[] payload, Throwable exception) {
+                        serverErrors.incrementAndGet();
+                    }
+
+                    @Override
+                    public void handleTransportError(StompSession session, Throwable exception) {
+                        serverErrors.incrementAndGet();
+                    }
+                })
+                .thenApply(session -> {
+                    Client client = new Client(participant, session);
+                    String topic = "/topic/team/" + participant.getTeamId();
+                    session.subscribe(topic, new FrameHandler<>(JsonNode.class, this::onMessage));
+                    session.subscribe(topic + "/batch", new FrameHandler<>(JsonNode.class, this::onBatch));
+                    session.subscribe("/user/queue/errors",
+                            new FrameHandler<>(String.class, payload -> serverErrors.incrementAndGet()));
+                    session.send("/app/chat.join." + participant.getTeamId(), Map.of());
+                    return client;
+                });
+    }
+
+    /**
+     * 설정한 전송률로 durationSeconds 동안 전송 후, 마지막 메시지가 도착할 때까지 drainSeconds만큼 기다린다.
+     */
+    public Report run() throws InterruptedException {
+        if (clients.isEmpty()) {
+            throw new IllegalStateException("연결된 세션이 없습니다.");
+        }
+        latencyRecorder.reset();
+        long intervalNanos = Math.max(1L, TimeUnit.SECONDS.toNanos(1) / config.getMessagesPerSecond());
+        AtomicInteger cursor = new AtomicInteger();
+
+        ScheduledExecutorService senders = Executors.newScheduledThreadPool(config.getSenderThreads());
+        long start = System.nanoTime();
+        for (int i = 0; i < config.getSenderThreads(); i++) {
+            senders.scheduleAtFixedRate(() -> sendNext(cursor),
+                    i * intervalNanos, intervalNanos * config.getSenderThreads(), TimeUnit.NANOSECONDS);
+        }
+        TimeUnit.SECONDS.sleep(config.getDurationSeconds());
+        senders.shutdownNow();
+        long sendNanos = System.nanoTime() - start;
+
+        TimeUnit.SECONDS.sleep(config.getDrainSeconds());
+
+        Histogram histogram = latencyRecorder.getIntervalHistogram();
+        return new Report(clients.size(), sent.get(), received.get(), sendErrors.get(), serverErrors.get(),
+                sendNanos, histogram);
+    }
+
+    public void close() {
+        clients.forEach(client -> {
+            try {
+                client.session.disconnect();
+            } catch (Exception ignored) {
+                // 이미 끊긴 세션
+            }
+        });
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+        if (heartbeatScheduler != null) {
+            heartbeatScheduler.shutdown();
+        }
+    }
+
+    private void sendNext(AtomicInteger cursor) {
+        Client client = clients.get(Math.floorMod(cursor.getAndIncrement(), clients.size()));
+        Long teamId = client.participant.getTeamId();
+        try {
+            client.session.send("/app/chat.send." + teamId, Map.of(
+                    "teamId", teamId,
+                    "messageText", PAYLOAD_PREFIX + System.nanoTime() + ":" + config.getPadding(),
+                    "messageType", "TEXT"));
+            sent.incrementAndGet();
+        } catch (Exception e) {
+            sendErrors.incrementAndGet();
+        }
+    }
+
+    private void onMessage(JsonNode payload) {
+        record(payload, System.nanoTime());
+    }
+
+    private void onBatch(JsonNode payload) {
+        long now = System.nanoTime();
+        for (JsonNode event : payload.path("events")) {
+            if (BATCH_MESSAGE_DESTINATION.matcher(event.path("destination").asText()).matches()) {
+                record(event.path("payload"), now);
+            }
+        }
+    }
+
+    private void record(JsonNode message, long receivedAt) {
+        String text = message.path("messageText").asText("");
+        if (!text.startsWith(PAYLOAD_PREFIX)) {
+            return;
+        }
+        int end = text.indexOf(':', PAYLOAD_PREFIX.length());
+        long sentAt = Long.parseLong(text.substring(PAYLOAD_PREFIX.length(), end < 0 ? text.length() : end));
+        latencyRecorder.recordValue(Math.max(0L, TimeUnit.NANOSECONDS.toMicros(receivedAt - sentAt)));
+        received.incrementAndGet();
+    }
+
+    private static class Client {
+        private final Participant participant;
+        private final StompSession session;
+
+        Client(Participant participant, StompSession session) {
+            this.participant = participant;
+            this.session = session;
+        }
+    }
+
+    private static class FrameHandler<T> implements StompFrameHandler {
+        private final Class<T> payloadType;
+        private final Consumer<T> consumer;
+
+        FrameHandler(Class<T> payloadType, Consumer<T> consumer) {
+            this.payloadType = payloadType;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return payloadType;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            consumer.accept(payloadType.cast(payload));
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class Participant {
+        private final Long memberId;
+        private final Long teamId;
+        private final String token;
+    }
+
+    /**
+     * 부하 설정 (시스템 프로퍼티 loadtest.* 로 덮어쓸 수 있음)
+     */
+    @Getter
+    @Builder
+    public static class Config {
+        private final String url;
+        private final int sessions;
+        private final int membersPerTeam;
+        private final int messagesPerSecond;
+        private final int durationSeconds;
+        private final int drainSeconds;
+        private final int senderThreads;
+        private final int connectConcurrency;
+        private final String padding;
+
+        public static Config fromSystemProperties(String url) {
+            return Config.builder()
+                    .url(url)
+                    .sessions(Integer.getInteger("loadtest.sessions", 2_000))
+                    .membersPerTeam(Integer.getInteger("loadtest.members-per-team", 20))
+                    .messagesPerSecond(Integer.getInteger("loadtest.rate", 500))
+                    .durationSeconds(Integer.getInteger("loadtest.duration-seconds", 30))
+                    .drainSeconds(Integer.getInteger("loadtest.drain-seconds", 3))
+                    .senderThreads(Integer.getInteger("loadtest.sender-threads", 4))
+                    .connectConcurrency(Integer.getInteger("loadtest.connect-concurrency", 200))
+                    .padding("x".repeat(Integer.getInteger("loadtest.message-bytes", 64)))
+                    .build();
+        }
+    }
+
+    @Getter
+    public static class Report {
+        private final int sessions;
+        private final long sent;
+        private final long received;
+        private final long sendErrors;
+        private final long serverErrors;
+        private final long sendNanos;
+        private final Histogram latencyMicros;
+
+        Report(int sessions, long sent, long received, long sendErrors, long serverErrors,
+               long sendNanos, Histogram latencyMicros) {
+            this.sessions = sessions;
+            this.sent = sent;
+            this.received = received;
+            this.sendErrors = sendErrors;
+            this.serverErrors = serverErrors;
+            this.sendNanos = sendNanos;
+            this.latencyMicros = latencyMicros;
+        }
+
+        public double sentPerSecond() {
+            return sent * 1_000_000_000.0 / Math.max(1L, sendNanos);
+        }
+
+        public double deliveredPerSecond() {
+            return received * 1_000_000_000.0 / Math.max(1L, sendNanos);
+        }
+
+        public String summary() {
+            return String.format(
+                    "sessions=%d, sent=%d (%.0f/s), delivered=%d (%.0f/s), sendErrors=%d, serverErrors=%d%n"
+                            + "latency(ms) p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f",
+                    sessions, sent, sentPerSecond(), received, deliveredPerSecond(), sendErrors, serverErrors,
+                    latencyMicros.getValueAtPercentile(50) / 1000.0,
+                    latencyMicros.getValueAtPercentile(90) / 1000.0,
+                    latencyMicros.getValueAtPercentile(99) / 1000.0,
+                    latencyMicros.getValueAtPercentile(99.9) / 1000.0,
+                    latencyMicros.getMaxValue() / 1000.0);
+        }
+    }
+}
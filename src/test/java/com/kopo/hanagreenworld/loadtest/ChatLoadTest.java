@@ -0,0 +1,161 @@
+package com.kopo.hanagreenworld.loadtest;
+
+import com.kopo.hanagreenworld.chat.domain.TeamChatSettings;
+import com.kopo.hanagreenworld.chat.repository.TeamChatSettingsRepository;
+import com.kopo.hanagreenworld.common.util.JwtUtil;
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.domain.MemberTeam;
+import com.kopo.hanagreenworld.member.domain.Team;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import com.kopo.hanagreenworld.member.repository.MemberTeamRepository;
+import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅 부하 테스트 (로컬 전용: H2 + embedded Redis)
+ *
+ * ./gradlew loadTest -Dloadtest.sessions=5000 -Dloadtest.rate=2000 -Dloadtest.duration-seconds=60
+ * 일반 test 태스크에서는 "load" 태그로 제외된다.
+ */
+@Tag("load")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ChatLoadTest {
+
+    private static RedisServer redisServer;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private MemberTeamRepository memberTeamRepository;
+
+    @Autowired
+    private TeamChatSettingsRepository teamChatSettingsRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        int redisPort = freePort();
+        try {
+            redisServer = new RedisServer(redisPort);
+            redisServer.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        registry.add("spring.data.redis.port", () -> redisPort);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    void 팀_채팅_처리량과_종단_간_지연() throws InterruptedException {
+        ChatLoadGenerator.Config config =
+                ChatLoadGenerator.Config.fromSystemProperties("ws://localhost:" + port + "/stomp");
+        List<ChatLoadGenerator.Participant> participants = seed(config.getSessions(), config.getMembersPerTeam());
+
+        ChatLoadGenerator generator = new ChatLoadGenerator(config);
+        try {
+            generator.connect(participants);
+            ChatLoadGenerator.Report report = generator.run();
+
+            System.out.printf("[chat load] teams=%d, rate=%d/s, duration=%ds%n%s%n",
+                    participants.size() / config.getMembersPerTeam(), config.getMessagesPerSecond(),
+                    config.getDurationSeconds(), report.summary());
+            report.getLatencyMicros().outputPercentileDistribution(System.out, 1000.0);
+
+            assertThat(report.getSessions()).isEqualTo(participants.size());
+            assertThat(report.getSent()).isPositive();
+            assertThat(report.getReceived()).isPositive();
+        } finally {
+            generator.close();
+        }
+    }
+
+    /**
+     * 회원/팀/소속/채팅 설정 생성 (팀당 membersPerTeam명, 일일 한도는 부하 중 걸리지 않게)
+     */
+    private List<ChatLoadGenerator.Participant> seed(int sessions, int membersPerTeam) {
+        List<Member> members = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            members.add(Member.builder()
+                    .loginId("load" + i)
+                    .email("load" + i + "@loadtest.local")
+                    .password("loadtest")
+                    .name("부하" + i)
+                    .build());
+        }
+        members = memberRepository.saveAll(members);
+
+        List<ChatLoadGenerator.Participant> participants = new ArrayList<>(sessions);
+        for (int from = 0; from < members.size(); from += membersPerTeam) {
+            List<Member> teamMembers = members.subList(from, Math.min(from + membersPerTeam, members.size()));
+            Team team = teamRepository.save(Team.builder()
+                    .teamName("부하팀" + (from / membersPerTeam))
+                    .leaderId(teamMembers.get(0).getMemberId())
+                    .maxMembers(membersPerTeam)
+                    .build());
+            teamChatSettingsRepository.save(TeamChatSettings.builder()
+                    .team(team)
+                    .isChatActive(true)
+                    .maxMessageRetentionDays(30)
+                    .dailyMessageLimit(Integer.MAX_VALUE)
+                    .build());
+
+            List<MemberTeam> memberships = new ArrayList<>(teamMembers.size());
+            for (int i = 0; i < teamMembers.size(); i++) {
+                Member member = teamMembers.get(i);
+                memberships.add(MemberTeam.builder()
+                        .member(member)
+                        .team(team)
+                        .role(i == 0 ? MemberTeam.TeamRole.LEADER : MemberTeam.TeamRole.MEMBER)
+                        .build());
+                participants.add(ChatLoadGenerator.Participant.builder()
+                        .memberId(member.getMemberId())
+                        .teamId(team.getId())
+                        .token(jwtUtil.generateAccessToken(member.getMemberId(), member.getEmail()))
+                        .build());
+            }
+            memberTeamRepository.saveAll(memberships);
+        }
+        return participants;
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
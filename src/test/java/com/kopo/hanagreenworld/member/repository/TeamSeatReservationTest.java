@@ -0,0 +1,103 @@
+package com.kopo.hanagreenworld.member.repository;
+
+import com.kopo.hanagreenworld.common.config.JpaConfig;
+import com.kopo.hanagreenworld.member.domain.Team;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 가입 시 팀 정원 초과 여부 검증 (조건부 UPDATE 좌석 예약)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:seat;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TeamSeatReservationTest {
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentJoinsNeverOverfillTeam() throws Exception {
+        int maxMembers = 10;
+        int joiners = 200;
+        Team team = teamRepository.save(Team.builder()
+                .teamName("동시가입 테스트팀")
+                .leaderId(1L)
+                .maxMembers(maxMembers)
+                .isActive(true)
+                .build());
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < joiners; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                Integer updated = transactionTemplate.execute(status -> teamRepository.reserveSeat(team.getId()));
+                if (updated != null && updated == 1) {
+                    reserved.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // 팀장이 이미 한 자리를 차지하고 있음
+        assertThat(reserved.get()).isEqualTo(maxMembers - 1);
+        assertThat(teamRepository.findById(team.getId()).orElseThrow().getMemberCount()).isEqualTo(maxMembers);
+    }
+
+    @Test
+    void releasedSeatCanBeReservedAgain() {
+        Team team = teamRepository.save(Team.builder()
+                .teamName("좌석 반납 테스트팀")
+                .leaderId(2L)
+                .maxMembers(2)
+                .isActive(true)
+                .build());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        assertThat(transactionTemplate.execute(status -> teamRepository.reserveSeat(team.getId()))).isEqualTo(1);
+        assertThat(transactionTemplate.execute(status -> teamRepository.reserveSeat(team.getId()))).isZero();
+        assertThat(transactionTemplate.execute(status -> teamRepository.releaseSeat(team.getId()))).isEqualTo(1);
+        assertThat(transactionTemplate.execute(status -> teamRepository.reserveSeat(team.getId()))).isEqualTo(1);
+    }
+}
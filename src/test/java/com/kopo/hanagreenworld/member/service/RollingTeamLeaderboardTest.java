@@ -0,0 +1,49 @@
+package com.kopo.hanagreenworld.member.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RollingTeamLeaderboardTest {
+
+    @Test
+    void 버킷_회전에_따라_구간_합계가_증분_갱신된다() {
+        long now = 1_000_000L;
+        RollingTeamLeaderboard leaderboard = new RollingTeamLeaderboard(now);
+        leaderboard.add(1L, now - 30, 100);  // 7일 윈도우에만 포함
+        leaderboard.add(1L, now - 2, 10);
+        leaderboard.add(1L, now, 5);
+        leaderboard.add(1L, now - 200, 1_000); // 윈도우 밖, 무시
+
+        assertThat(leaderboard.sum(1L, RollingTeamLeaderboard.Window.DAILY)).isEqualTo(15);
+        assertThat(leaderboard.sum(1L, RollingTeamLeaderboard.Window.WEEKLY)).isEqualTo(115);
+
+        leaderboard.advanceTo(now + 23);
+        assertThat(leaderboard.sum(1L, RollingTeamLeaderboard.Window.DAILY)).isEqualTo(5);
+
+        leaderboard.advanceTo(now + 24);
+        assertThat(leaderboard.sum(1L, RollingTeamLeaderboard.Window.DAILY)).isZero();
+        assertThat(leaderboard.sum(1L, RollingTeamLeaderboard.Window.WEEKLY)).isEqualTo(115);
+
+        leaderboard.advanceTo(now - 30 + RollingTeamLeaderboard.WEEK_HOURS);
+        assertThat(leaderboard.sum(1L, RollingTeamLeaderboard.Window.WEEKLY)).isEqualTo(15);
+
+        leaderboard.advanceTo(now + 1_000);
+        assertThat(leaderboard.sum(1L, RollingTeamLeaderboard.Window.WEEKLY)).isZero();
+    }
+
+    @Test
+    void 상위_N개_팀을_합계_내림차순으로_반환한다() {
+        long now = 500L;
+        RollingTeamLeaderboard leaderboard = new RollingTeamLeaderboard(now);
+        for (long teamId = 1; teamId <= 50; teamId++) {
+            leaderboard.add(teamId, now, teamId * 10);
+        }
+
+        List<long[]> top = leaderboard.top(RollingTeamLeaderboard.Window.DAILY, 3);
+        assertThat(top).extracting(e -> e[0]).containsExactly(50L, 49L, 48L);
+        assertThat(top.get(0)[1]).isEqualTo(500L);
+    }
+}
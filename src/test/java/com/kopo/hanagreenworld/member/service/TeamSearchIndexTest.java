@@ -0,0 +1,98 @@
+package com.kopo.hanagreenworld.member.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeamSearchIndexTest {
+
+    private static TeamSearchIndex.Entry entry(long id, String name, int members, Integer max, long monthly) {
+        return TeamSearchIndex.Entry.builder()
+                .teamId(id)
+                .name(name)
+                .memberCount(members)
+                .maxMembers(max)
+                .monthlyPoints(monthly)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusDays(id))
+                .build();
+    }
+
+    private final TeamSearchIndex index = TeamSearchIndex.build(List.of(
+            entry(1, "그린 지구 지킴이", 20, 20, 500),
+            entry(2, "그린워커스", 5, 20, 1500),
+            entry(3, "하나 에코 클럽", 3, null, 900),
+            entry(4, "Green Runners", 10, 10, 100)));
+
+    private List<Long> ids(TeamSearchIndex.Result result) {
+        return result.getEntries().stream().map(TeamSearchIndex.Entry::getTeamId).toList();
+    }
+
+    @Test
+    void 이름_부분일치와_초성_검색() {
+        assertThat(ids(index.search(TeamSearchIndex.Query.builder().text("그린").size(10).build())))
+                .containsExactly(2L, 1L);
+        assertThat(ids(index.search(TeamSearchIndex.Query.builder().text("ㅎㄴ").size(10).build())))
+                .containsExactly(3L);
+        assertThat(ids(index.search(TeamSearchIndex.Query.builder().text("green run").size(10).build())))
+                .containsExactly(4L);
+    }
+
+    @Test
+    void 필터와_정렬_커서() {
+        TeamSearchIndex.Query.QueryBuilder base = TeamSearchIndex.Query.builder()
+                .openSeatsOnly(true).sort(TeamSearchIndex.Sort.MONTHLY_POINTS).size(1);
+
+        TeamSearchIndex.Result first = index.search(base.build());
+        assertThat(ids(first)).containsExactly(2L);
+
+        TeamSearchIndex.Result second = index.search(base.cursor(first.getNextCursor()).build());
+        assertThat(ids(second)).containsExactly(3L);
+        assertThat(second.getNextCursor()).isNull();
+
+        assertThat(ids(index.search(TeamSearchIndex.Query.builder()
+                .minMonthlyPoints(600L).sort(TeamSearchIndex.Sort.NEWEST).size(10).build())))
+                .containsExactly(3L, 2L);
+    }
+
+    // 실측 시간 기준이라 CI에서 흔들리므로 loadTest 태스크에서만 실행
+    @Tag("load")
+    @Test
+    void 십만_팀_검색_p99_20ms_이하() {
+        String[] words = {"그린", "에코", "하나", "지구", "숲", "바다", "러너스", "클럽", "워커", "지킴이"};
+        Random random = new Random(42);
+        List<TeamSearchIndex.Entry> entries = new ArrayList<>();
+        for (int i = 1; i <= 100_000; i++) {
+            String name = words[random.nextInt(words.length)] + words[random.nextInt(words.length)] + i;
+            entries.add(entry(i, name, random.nextInt(21), 20, random.nextInt(10_000)));
+        }
+        TeamSearchIndex large = TeamSearchIndex.build(entries);
+
+        String[] queries = {"그린", "ㅇㅋ", "숲바다", "클럽7", null, "지킴"};
+        TeamSearchIndex.Sort[] sorts = TeamSearchIndex.Sort.values();
+        long[] elapsed = new long[2_000];
+        for (int i = 0; i < 500 + elapsed.length; i++) {
+            TeamSearchIndex.Query query = TeamSearchIndex.Query.builder()
+                    .text(queries[i % queries.length])
+                    .openSeatsOnly(i % 2 == 0)
+                    .minMonthlyPoints(i % 3 == 0 ? 5_000L : null)
+                    .sort(sorts[i % sorts.length])
+                    .size(20)
+                    .build();
+            long start = System.nanoTime();
+            large.search(query);
+            if (i >= 500) {
+                elapsed[i - 500] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(elapsed);
+        long p99Millis = elapsed[(int) (elapsed.length * 0.99)] / 1_000_000;
+        assertThat(p99Millis).isLessThan(20);
+    }
+}